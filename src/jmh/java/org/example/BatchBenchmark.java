@@ -0,0 +1,72 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+У цьому класі вимірюється пропускна здатність паралельного розв'язання (BatchSolver) залежно від кількості потоків: кожен виклик розв'язує MODELS випадкових задач (ModelGenerator) методом solveAll, а результат виводиться в розв'язаних задачах за секунду (OperationsPerInvocation).
+
+threads: Кількість звичайних потоків пулу (withPlatformThreads); 0 - віртуальні потоки (withVirtualThreads).
+mode: Режим розв'язання кожної задачі (FunctionSystem.Mode).
+
+Запуск: java -jar target/benchmarks.jar BatchBenchmark -p threads=1,4
+*/
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+	static final int MODELS = 256;
+
+	@Param({"1", "2", "4", "8", "0"})
+	int threads;
+	@Param({"20"})
+	int rows;
+	@Param({"40"})
+	int variables;
+	@Param({"TABLEAU", "SPARSE"})
+	FunctionSystem.Mode mode;
+
+	private List<FunctionSystem> systems;
+	private BatchSolver solver;
+
+	@Setup
+	public void setUp() {
+		systems = new ArrayList<>(MODELS);
+		for (int k = 0; k < MODELS; k++) {
+			FunctionSystem system = ModelGenerator.linear(rows, variables, 0.5, 0, k);
+			system.setIterationLimit(LinearBenchmark.ITERATION_LIMIT);
+			systems.add(system);
+		}
+		BatchSolver.Solver optimal = BatchSolver.Solver.optimal(true, mode);
+		solver = threads == 0 ? BatchSolver.withVirtualThreads(optimal) : BatchSolver.withPlatformThreads(threads, optimal);
+	}
+
+	@TearDown
+	public void tearDown() {
+		solver.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(MODELS)
+	public List<SolveResult> solveAll() {
+		return solver.solveAll(systems);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package org.example;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/*
+У цьому класі запускаються JMH-бенчмарки розв'язувача (LinearBenchmark, DualSimplexBenchmark, IntegerBenchmark, FractionalBenchmark, KernelBenchmark, MappedBenchmark, SparseBenchmark, BatchBenchmark).
+
+Запуск: mvn -B -Pbenchmark package && java -jar target/benchmarks.jar [параметри JMH]
+Наприклад, java -jar target/benchmarks.jar LinearBenchmark -p mode=SPARSE -p rows=100
+
+Приймаються звичайні параметри командного рядка JMH. Завжди додається профайлер GC, тому поряд з пропускною здатністю (ops/ms) та середнім часом (ms/op) виводиться швидкість виділення пам'яті (gc.alloc.rate та gc.alloc.rate.norm - байтів на один розв'язок).
+*/
+
+public class BenchmarkRunner {
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions options = new CommandLineOptions(args);
+		new Runner(new OptionsBuilder()
+				.parent(options)
+				.addProfiler(GCProfiler.class)
+				.build()).run();
+	}
+}
\ No newline at end of file
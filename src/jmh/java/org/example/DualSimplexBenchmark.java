@@ -0,0 +1,86 @@
+package org.example;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+У цьому класі вимірюється швидкість методу findOptimalDualSimplex.
+
+Задача (ModelGenerator) один раз розв'язується симплекс-методом, після чого перед кожним викликом до копії оптимальної таблиці додаються обмеження X(B_i) <= B_i / 2 для кількох базисних змінних з найбільшими значеннями.
+Кожне нове обмеження записується через небазисні змінні, тому таблиця залишається двоїсто допустимою, але не є допустимою, і двоїстий симплекс-метод повинен повернути її до оптимуму.
+*/
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DualSimplexBenchmark {
+	@Param({"20", "100"})
+	int rows;
+	@Param({"40", "200"})
+	int variables;
+	@Param({"0.1", "1.0"})
+	double density;
+	@Param({"0.0", "0.3"})
+	double degeneracy;
+	@Param({"0.1"})
+	double cuts;
+
+	private FunctionSystem solved;
+	private FunctionSystem system;
+
+	@Setup
+	public void setUp() {
+		solved = ModelGenerator.linear(rows, variables, density, degeneracy, 1);
+		solved.setIterationLimit(LinearBenchmark.ITERATION_LIMIT);
+		solved.getOptimal(true);
+	}
+
+	@Setup(Level.Invocation)
+	public void cut() {
+		system = new FunctionSystem(solved);
+		Tableau tableau = system.tableau;
+		int rows = tableau.rows();
+		boolean[] basic = new boolean[tableau.cols()];
+		for (int i = 0; i < rows; i++) {
+			basic[tableau.getBasis(i)] = true;
+		}
+		boolean[] used = new boolean[rows];
+		for (int k = 0, count = Math.max(1, (int) (rows * this.cuts)); k < count; k++) {
+			int source = -1;
+			for (int i = 0; i < rows; i++) {
+				if (!used[i] && (source == -1 || tableau.getValue(i) > tableau.getValue(source))) {
+					source = i;
+				}
+			}
+			used[source] = true;
+			int row = tableau.rows();
+			int slack = tableau.addColumn();
+			tableau.addRow();
+			for (int j = 0; j < basic.length; j++) {
+				tableau.set(row, j, basic[j] ? 0.0 : -tableau.get(source, j));
+			}
+			tableau.set(row, slack, 1.0);
+			tableau.setValue(row, -tableau.getValue(source) / 2);
+			tableau.setBasis(row, slack);
+		}
+	}
+
+	@Benchmark
+	public SolveResult findOptimalDualSimplex() {
+		return system.findOptimalDualSimplex();
+	}
+}
\ No newline at end of file
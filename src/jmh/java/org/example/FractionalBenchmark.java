@@ -0,0 +1,65 @@
+package org.example;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+У цьому класі вимірюється швидкість розв'язання випадкових задач дробово-лінійного програмування (LinearFractionalProblem) на максимум та на мінімум: окремими копіями задачі (getOptimal) та однією задачею з повторним використанням базису (getOptimalRange) кожним методом LinearFractionalProblem.Method.
+*/
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FractionalBenchmark {
+	@Param({"20", "100"})
+	int rows;
+	@Param({"40", "200"})
+	int variables;
+	@Param({"0.1", "1.0"})
+	double density;
+	@Param({"0.0", "0.3"})
+	double degeneracy;
+	@Param({"AUTO", "CHARNES_COOPER", "DINKELBACH"})
+	LinearFractionalProblem.Method method;
+
+	private LinearFractionalProblem max;
+	private LinearFractionalProblem min;
+	private LinearFractionalProblem range;
+
+	@Setup
+	public void setUp() {
+		max = ModelGenerator.fractional(rows, variables, density, degeneracy, 1);
+		max.setIterationLimit(LinearBenchmark.ITERATION_LIMIT);
+		max.setMethod(method);
+		min = new LinearFractionalProblem(max);
+		range = new LinearFractionalProblem(max);
+	}
+
+	@Benchmark
+	public SolveResult getOptimalMax() {
+		return max.getOptimal(true);
+	}
+
+	@Benchmark
+	public SolveResult getOptimalMin() {
+		return min.getOptimal(false);
+	}
+
+	@Benchmark
+	public FractionalRange getOptimalRange() {
+		return range.getOptimalRange();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package org.example;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+У цьому класі вимірюється швидкість методу getOptimalInt (метод Гоморі) для випадкових цілочислових задач (ModelGenerator генерує цілі коефіцієнти).
+
+Кількість відсічень швидко зростає з розміром задачі, тому розміри тут менші, ніж у LinearBenchmark.
+*/
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntegerBenchmark {
+	@Param({"5", "10"})
+	int rows;
+	@Param({"5", "10"})
+	int variables;
+	@Param({"0.5", "1.0"})
+	double density;
+	@Param({"0.0", "0.3"})
+	double degeneracy;
+
+	private FunctionSystem system;
+
+	@Setup
+	public void setUp() {
+		system = ModelGenerator.linear(rows, variables, density, degeneracy, 1);
+		system.setIterationLimit(LinearBenchmark.ITERATION_LIMIT);
+	}
+
+	@Benchmark
+	public SolveResult getOptimalInt() {
+		return system.getOptimalInt(true);
+	}
+}
\ No newline at end of file
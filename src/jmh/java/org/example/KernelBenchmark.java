@@ -0,0 +1,74 @@
+package org.example;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+У цьому класі порівнюється швидкість обчислювальних ядер ArrayKernels: kernels=scalar - ScalarKernels, kernels=default - ядра, обрані під час запуску (ArrayKernels.INSTANCE).
+
+axpy оновлює всі рядки матриці rows x length одним рядком, як крок toOne у симплекс-таблиці (рядки лежать в одному масиві). dot обчислює скалярні добутки рядків з вектором.
+
+SIMD-ядра доступні лише у збірці з профілем vector: mvn -B -Pbenchmark,vector package && java --add-modules jdk.incubator.vector -jar target/benchmarks.jar KernelBenchmark
+*/
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class KernelBenchmark {
+	@Param({"scalar", "default"})
+	String kernels;
+	@Param({"64", "1024"})
+	int length;
+
+	private static final int ROWS = 64;
+
+	private ArrayKernels implementation;
+	private double[] data;
+	private double[] vector;
+
+	@Setup
+	public void setUp() {
+		implementation = kernels.equals("scalar") ? new ScalarKernels() : ArrayKernels.INSTANCE;
+		Random random = new Random(1);
+		data = new double[ROWS * length];
+		vector = new double[length];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = random.nextDouble();
+		}
+		for (int j = 0; j < length; j++) {
+			vector[j] = random.nextDouble();
+		}
+	}
+
+	@Benchmark
+	public double[] axpy() {
+		// множник зі знаком, що чергується, щоб значення не росли між викликами
+		for (int i = 1; i < ROWS; i++) {
+			implementation.axpy((i & 1) == 0 ? 1e-3 : -1e-3, data, 0, data, i * length, length);
+		}
+		return data;
+	}
+
+	@Benchmark
+	public double dot() {
+		double sum = 0;
+		for (int i = 0; i < ROWS; i++) {
+			sum += implementation.dot(data, i * length, vector, 0, length);
+		}
+		return sum;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package org.example;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+У цьому класі вимірюється швидкість методу getOptimal для випадкових задач лінійного програмування (ModelGenerator) у кожному режимі розв'язання (FunctionSystem.Mode).
+
+Задача генерується один раз для кожного набору параметрів. Повторний виклик getOptimal з тим самим напрямком щоразу будує симплекс-таблицю з моделі заново, тому кожен виклик виконує однакову роботу.
+Кількість ітерацій обмежена (ITERATION_LIMIT), щоб вироджені задачі, на яких правило Данцига зациклюється, не зупиняли вимірювання.
+*/
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LinearBenchmark {
+	static final int ITERATION_LIMIT = 100_000;
+
+	@Param({"20", "100"})
+	int rows;
+	@Param({"40", "200"})
+	int variables;
+	@Param({"0.1", "1.0"})
+	double density;
+	@Param({"0.0", "0.3"})
+	double degeneracy;
+	@Param({"TABLEAU", "REVISED", "SPARSE"})
+	FunctionSystem.Mode mode;
+
+	private FunctionSystem system;
+
+	@Setup
+	public void setUp() {
+		system = ModelGenerator.linear(rows, variables, density, degeneracy, 1);
+		system.setIterationLimit(ITERATION_LIMIT);
+	}
+
+	@Benchmark
+	public SolveResult getOptimal() {
+		return system.getOptimal(true, mode);
+	}
+}
\ No newline at end of file
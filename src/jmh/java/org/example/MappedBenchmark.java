@@ -0,0 +1,76 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+У цьому класі порівнюється розв'язання згенерованої задачі (ModelGenerator.linearModel) симплекс-методом над таблицею в купі (ArrayStorage) та у файлі, відображеному в пам'ять (MappedStorage), а також модифікованим симплекс-методом над розрідженою матрицею (LinearModel.solve без таблиці).
+
+Задача будується одразу в LinearModel.Builder, тому купа містить лише розріджену модель, а робоча таблиця створюється один раз для кожного набору параметрів і використовується повторно. Кожен розв'язок займає секунди, тому вимірюється час одного виклику (SingleShotTime). Різницю в пам'яті видно з -Xmx форку: таблиця в купі потребує -Xmx, більшого за розмір таблиці, а таблиця у файлі - лише за розмір моделі, наприклад
+
+java -jar target/benchmarks.jar MappedBenchmark -p rows=500 -p variables=100000 -p storage=heap -jvmArgs -Xmx2g
+java -jar target/benchmarks.jar MappedBenchmark -p rows=500 -p variables=100000 -p storage=mapped -p directory=/var/tmp -jvmArgs -Xmx128m
+*/
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Thread)
+public class MappedBenchmark {
+	@Param({"200"})
+	int rows;
+	@Param({"20000"})
+	int variables;
+	@Param({"0.02"})
+	double density;
+	@Param({"heap", "mapped", "sparse"})
+	String storage;
+	// каталог файлу таблиці для mapped; порожній - java.io.tmpdir
+	@Param({""})
+	String directory;
+
+	private LinearModel model;
+	private MappedStorage mapped;
+	private Tableau workspace;
+
+	@Setup
+	public void setUp() throws IOException {
+		model = ModelGenerator.linearModel(rows, variables, density, 1);
+		switch (storage) {
+			case "heap" -> workspace = new Tableau(0, 0);
+			case "mapped" -> {
+				mapped = new MappedStorage(Path.of(directory.isEmpty() ? System.getProperty("java.io.tmpdir") : directory));
+				workspace = new Tableau(0, 0, mapped);
+			}
+			case "sparse" -> workspace = null;
+			default -> throw new IllegalArgumentException("Unknown storage " + storage);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (mapped != null) {
+			mapped.close();
+		}
+	}
+
+	@Benchmark
+	public SolveResult solve() {
+		return workspace == null ? model.solve() : model.solve(Tolerances.DEFAULT, Integer.MAX_VALUE, workspace);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+package org.example;
+
+import java.util.Random;
+
+/*
+У цьому класі генеруються випадкові задачі для JMH-бенчмарків (профіль benchmark у pom.xml).
+
+Параметри генерації:
+
+rows, variables: Кількість обмежень та змінних.
+density: Частка ненульових коефіцієнтів у матриці обмежень (кожен стовпець має хоча б один ненульовий коефіцієнт).
+degeneracy: Частка обмежень, які є кратними копіями останнього невиродженого обмеження (з доданими коефіцієнтами для власних стовпців). Такі обмеження дають однакові відношення у тесті відношень, тобто вироджені опорні плани.
+
+Усі коефіцієнти цілі та невід'ємні, а обмеження мають вигляд A * X <= B з B > 0, тому кожна задача допустима (X = 0) і обмежена.
+Дробова задача додатково має обмеження X1 + ... + Xn >= 1, щоб знаменник був додатним на всій допустимій множині.
+Задача linearModel будується в LinearModel.Builder без проміжних об'єктів Function (MappedBenchmark), тому генерується й для дуже великої кількості змінних.
+*/
+
+final class ModelGenerator {
+	private ModelGenerator() {
+	}
+
+	static FunctionSystem linear(int rows, int variables, double density, double degeneracy, long seed) {
+		Random random = new Random(seed);
+		FunctionSystem system = new FunctionSystem(new Function(vector(random, variables, 1, 20)));
+		addConstraints(system, random, rows, variables, density, degeneracy);
+		return system;
+	}
+
+	static LinearFractionalProblem fractional(int rows, int variables, double density, double degeneracy, long seed) {
+		Random random = new Random(seed);
+		LinearFractionalProblem system = new LinearFractionalProblem(
+				vector(random, variables, 1, 20), vector(random, variables, 1, 10));
+		addConstraints(system, random, rows, variables, density, degeneracy);
+		Double[] ones = new Double[variables];
+		for (int j = 0; j < variables; j++) {
+			ones[j] = 1.0;
+		}
+		system.addFunction(new Function(ones, 1, Function.Sign.GREATER));
+		return system;
+	}
+
+	// та сама задача, що linear без вироджених обмежень, але побудована одразу в LinearModel.Builder
+	static LinearModel linearModel(int rows, int variables, double density, long seed) {
+		Random random = new Random(seed);
+		LinearModel.Builder builder = new LinearModel.Builder().setMax(true);
+		for (int j = 0; j < variables; j++) {
+			builder.addCost(builder.addColumn("x" + j), 1.0 + random.nextInt(20));
+		}
+		for (int i = 0; i < rows; i++) {
+			int row = builder.addRow("r" + i, Function.Sign.LESS);
+			for (int j = 0; j < variables; j++) {
+				if (j % rows == i || random.nextDouble() < density) {
+					builder.add(row, j, 1.0 + random.nextInt(9));
+				}
+			}
+			builder.setValue(row, 50 + random.nextInt(100));
+		}
+		return builder.build();
+	}
+
+	private static void addConstraints(FunctionSystem system, Random random, int rows, int variables,
+									   double density, double degeneracy) {
+		Double[] base = null;
+		double baseValue = 0;
+		for (int i = 0; i < rows; i++) {
+			Double[] coefficients = new Double[variables];
+			double value;
+			boolean copy = base != null && random.nextDouble() < degeneracy;
+			if (copy) {
+				double factor = 2 + random.nextInt(3);
+				for (int j = 0; j < variables; j++) {
+					coefficients[j] = j % rows == i && base[j] == 0 ? 1.0 : base[j] * factor;
+				}
+				value = baseValue * factor;
+			} else {
+				for (int j = 0; j < variables; j++) {
+					boolean nonZero = j % rows == i || random.nextDouble() < density;
+					coefficients[j] = nonZero ? 1.0 + random.nextInt(9) : 0.0;
+				}
+				value = 50 + random.nextInt(100);
+			}
+			system.addFunction(new Function(coefficients, value, Function.Sign.LESS));
+			if (!copy) {
+				base = coefficients;
+				baseValue = value;
+			}
+		}
+	}
+
+	private static Double[] vector(Random random, int size, int from, int to) {
+		Double[] vector = new Double[size];
+		for (int j = 0; j < size; j++) {
+			vector[j] = (double) (from + random.nextInt(to - from + 1));
+		}
+		return vector;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package org.example;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+У цьому класі порівнюється швидкість розв'язання згенерованих розріджених задач (ModelGenerator.linear без вироджених обмежень) у кожному режимі FunctionSystem. Кожна задача має вигляд max C * X при A * X <= B, X >= 0 з невід'ємними коефіцієнтами, тому вона завжди має розв'язок.
+
+Різницю в пам'яті щільної таблиці та розрідженої матриці показує профайлер GC (gc.alloc.rate.norm - байтів на один розв'язок), наприклад
+
+java -jar target/benchmarks.jar SparseBenchmark -p rows=1000 -p variables=4000 -p density=0.002
+*/
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SparseBenchmark {
+	@Param({"100"})
+	int rows;
+	@Param({"400"})
+	int variables;
+	@Param({"0.02"})
+	double density;
+	@Param({"TABLEAU", "REVISED", "SPARSE", "DUAL"})
+	FunctionSystem.Mode mode;
+
+	private FunctionSystem system;
+
+	@Setup
+	public void setUp() {
+		system = ModelGenerator.linear(rows, variables, density, 0, 1);
+		system.setIterationLimit(LinearBenchmark.ITERATION_LIMIT);
+	}
+
+	@Benchmark
+	public SolveResult getOptimal() {
+		return system.getOptimal(true, mode);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package org.example;
+
+/*
+Цей інтерфейс описує обчислювальні ядра над відрізками масивів double[], з яких складаються кроки симплекс-методу: оновлення рядка таблиці (axpy), множення рядка на число (scale) та скалярний добуток (dot). Ними користується пам'ять таблиці в купі (ArrayStorage).
+
+Реалізації:
+
+ScalarKernels: Звичайні цикли (за замовчуванням).
+VectorKernels: SIMD-ядра на інкубаторному Vector API (jdk.incubator.vector). Клас компілюється лише з профілем Maven vector (mvn -B -Pvector package) і використовується, якщо JVM запущено з --add-modules jdk.incubator.vector; інакше, або з -Dorg.example.vector=false, використовується ScalarKernels.
+
+Реалізація обирається один раз під час завантаження (INSTANCE), тому JIT-компілятор вбудовує виклики ядер.
+
+axpy та scale обчислюють кожен елемент тими самими діями (y + x * a, x * a), тому результат не залежить від реалізації. dot у VectorKernels додає добутки по смугах вектора, тобто в іншому порядку, ніж ScalarKernels, тому результат може відрізнятися в останніх розрядах.
+*/
+
+interface ArrayKernels {
+	ArrayKernels INSTANCE = load();
+
+	String name();
+
+	// y[yOffset + k] += x[xOffset + k] * a для k < length; відрізки x та y не перетинаються (або збігаються)
+	void axpy(double a, double[] x, int xOffset, double[] y, int yOffset, int length);
+
+	void scale(double a, double[] x, int offset, int length);
+
+	double dot(double[] x, int xOffset, double[] y, int yOffset, int length);
+
+	private static ArrayKernels load() {
+		if (Boolean.parseBoolean(System.getProperty("org.example.vector", "true"))) {
+			try {
+				return (ArrayKernels) Class.forName("org.example.VectorKernels").getDeclaredConstructor().newInstance();
+			} catch (ReflectiveOperationException | LinkageError e) {
+				// клас не скомпільовано (без профілю vector) або модуль jdk.incubator.vector не підключено
+			}
+		}
+		return new ScalarKernels();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package org.example;
+
+import java.util.Arrays;
+
+/*
+У цьому класі реалізовано пам'ять симплекс-таблиці (TableauStorage) на масиві double[] у купі. Це пам'ять за замовчуванням: таблиця повністю міститься в купі (-Xmx), а масив розширюється щонайменше вдвічі. Операції над цілими відрізками (scale, axpy) виконуються обчислювальними ядрами ArrayKernels (SIMD-ядрами, якщо вони доступні).
+*/
+
+final class ArrayStorage implements TableauStorage {
+	private double[] data;
+
+	ArrayStorage(long capacity) {
+		data = new double[Math.toIntExact(capacity)];
+	}
+
+	@Override
+	public long capacity() {
+		return data.length;
+	}
+
+	@Override
+	public void ensureCapacity(long size) {
+		if (size > data.length) {
+			data = Arrays.copyOf(data, Math.toIntExact(Math.max(size, Math.min(2L * data.length, Integer.MAX_VALUE - 8))));
+		}
+	}
+
+	@Override
+	public double get(long index) {
+		return data[(int) index];
+	}
+
+	@Override
+	public void set(long index, double value) {
+		data[(int) index] = value;
+	}
+
+	@Override
+	public void fill(long from, long to, double value) {
+		Arrays.fill(data, (int) from, (int) to, value);
+	}
+
+	@Override
+	public void copy(long from, long to, long length) {
+		System.arraycopy(data, (int) from, data, (int) to, (int) length);
+	}
+
+	@Override
+	public void scale(double a, long x, int length) {
+		ArrayKernels.INSTANCE.scale(a, data, (int) x, length);
+	}
+
+	@Override
+	public void axpy(double a, long x, long y, int length) {
+		ArrayKernels.INSTANCE.axpy(a, data, (int) x, data, (int) y, length);
+	}
+
+	@Override
+	public void axpy(double a, long x, long y, int[] indices, int count) {
+		int xOffset = (int) x;
+		int yOffset = (int) y;
+		for (int k = 0; k < count; k++) {
+			int j = indices[k];
+			data[yOffset + j] += data[xOffset + j] * a;
+		}
+	}
+
+	@Override
+	public void axpy(double a, long x, double[] y, int from, int to) {
+		ArrayKernels.INSTANCE.axpy(a, data, (int) x + from, y, from, to - from);
+	}
+
+	@Override
+	public TableauStorage copy(long size) {
+		ArrayStorage storage = new ArrayStorage(0);
+		storage.data = Arrays.copyOf(data, Math.toIntExact(size));
+		return storage;
+	}
+
+	@Override
+	public void close() {
+	}
+}
\ No newline at end of file
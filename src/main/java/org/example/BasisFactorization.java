@@ -0,0 +1,444 @@
+package org.example;
+
+import java.util.Arrays;
+
+/*
+У цьому класі реалізовано розріджений LU-розклад базисної матриці для модифікованого симплекс-методу (RevisedSimplex). Замість перерахунку всієї симплекс-таблиці зберігається розклад базису та файл мультиплікативних перетворень (eta-файл), який поповнюється після кожної заміни базисної змінної.
+
+Зберігаються лише ненульові елементи, тому пам'ять залежить від їхньої кількості (разом із заповненням), а не від квадрата кількості рядків. Множники L, наддіагональні елементи U та eta-перетворення зберігаються по стовпцях (формат CSC): стовпець L - множники одного кроку виключення, стовпець U - елементи стовпця базису в рядках попередніх головних елементів, стовпець eta - ненульові елементи B^-1 Aj без головного.
+
+Основні методи класу:
+
+factorize: Будує LU-розклад базисної матриці. Головний елемент кожного кроку обирається за правилом Марковіца: серед елементів, не менших за PIVOT_THRESHOLD від найбільшого за модулем у стовпці, обирається елемент з найменшим добутком (r - 1)(c - 1), де r і c - кількості ненульових елементів його рядка і стовпця в активній підматриці. Спочатку беруться одиничні рядки та стовпці (без заповнення), а пошук за стовпцями припиняється після SEARCH_LIMIT кандидатів. Якщо допустимого елемента немає, матриця вироджена (повертається false).
+ftran: Розв'язує систему B x = a (стовпець у поточному базисі).
+btran: Розв'язує систему B^T y = c (симплекс-множники).
+update: Додає eta-перетворення для нового базису; після refactorFrequency замін (isFull) розклад потрібно побудувати заново.
+*/
+
+public class BasisFactorization {
+	private static final double SINGULAR_EPS = 1e-12;
+	private static final double PIVOT_THRESHOLD = 0.1;
+	private static final int SEARCH_LIMIT = 4;
+
+	private final int m;
+	private final int refactorFrequency;
+	// активна підматриця: рядки зберігають стовпці та значення, стовпці - лише номери рядків
+	private final int[][] rowIndices;
+	private final double[][] rowValues;
+	private final int[] rowCount;
+	private final int[][] colIndices;
+	private final int[] colCount;
+	// списки рядків і стовпців активної підматриці за кількістю ненульових елементів
+	private final int[] rowHead;
+	private final int[] rowNext;
+	private final int[] rowPrev;
+	private final int[] colHead;
+	private final int[] colNext;
+	private final int[] colPrev;
+	// рядок, стовпець (позиція в базисі) та значення головного елемента кожного кроку
+	private final int[] pivotRows;
+	private final int[] pivotCols;
+	private final double[] pivots;
+	private final int[] lStart;
+	private int[] lIndices = new int[16];
+	private double[] lValues = new double[16];
+	private final int[] uStart;
+	private int[] uIndices = new int[16];
+	private double[] uValues = new double[16];
+	// елементи U збираються по кроках і після розкладу сортуються по стовпцях
+	private int[] uColumns = new int[16];
+	private int uCount;
+	private final int[] etaStart;
+	private final int[] etaRows;
+	private final double[] etaPivots;
+	private int[] etaIndices = new int[16];
+	private double[] etaValues = new double[16];
+	private int etaCount;
+	private final double[] work;
+	private final int[] indices;
+	private final int[] positions;
+	private int pivotRow;
+	private int pivotCol;
+
+	public BasisFactorization(int m, int refactorFrequency) {
+		this.m = m;
+		this.refactorFrequency = refactorFrequency;
+		rowIndices = new int[m][];
+		rowValues = new double[m][];
+		rowCount = new int[m];
+		colIndices = new int[m][];
+		colCount = new int[m];
+		rowHead = new int[m + 1];
+		rowNext = new int[m];
+		rowPrev = new int[m];
+		colHead = new int[m + 1];
+		colNext = new int[m];
+		colPrev = new int[m];
+		pivotRows = new int[m];
+		pivotCols = new int[m];
+		pivots = new double[m];
+		lStart = new int[m + 1];
+		uStart = new int[m + 1];
+		etaStart = new int[refactorFrequency + 1];
+		etaRows = new int[refactorFrequency];
+		etaPivots = new double[refactorFrequency];
+		work = new double[m];
+		indices = new int[m];
+		positions = new int[m];
+		Arrays.fill(positions, -1);
+	}
+
+	public boolean factorize(ConstraintMatrix model, int[] basis) {
+		etaCount = 0;
+		Arrays.fill(rowCount, 0);
+		for (int k = 0; k < m; k++) {
+			int count = model.loadColumn(basis[k], indices, work);
+			colCount[k] = 0;
+			for (int t = 0; t < count; t++) {
+				if (work[t] != 0) {
+					appendRow(indices[t], k, work[t]);
+					appendCol(k, indices[t]);
+				}
+			}
+		}
+		Arrays.fill(rowHead, -1);
+		Arrays.fill(colHead, -1);
+		for (int i = 0; i < m; i++) {
+			linkRow(i);
+			linkCol(i);
+		}
+		int lCount = 0;
+		uCount = 0;
+
+		for (int k = 0; k < m; k++) {
+			if (!findPivot()) {
+				return false;
+			}
+			int p = pivotRow;
+			int q = pivotCol;
+			unlinkRow(p);
+			unlinkCol(q);
+			double pivot = 0;
+			// рядок головного елемента переходить в U і вилучається зі стовпців активної підматриці
+			for (int t = 0; t < rowCount[p]; t++) {
+				int j = rowIndices[p][t];
+				if (j == q) {
+					pivot = rowValues[p][t];
+					continue;
+				}
+				if (uCount == uIndices.length) {
+					uIndices = Arrays.copyOf(uIndices, uCount * 2);
+					uValues = Arrays.copyOf(uValues, uCount * 2);
+					uColumns = Arrays.copyOf(uColumns, uCount * 2);
+				}
+				uIndices[uCount] = p;
+				uValues[uCount] = rowValues[p][t];
+				uColumns[uCount++] = j;
+				unlinkCol(j);
+				removeCol(j, p);
+				linkCol(j);
+			}
+			pivotRows[k] = p;
+			pivotCols[k] = q;
+			pivots[k] = pivot;
+			lStart[k] = lCount;
+
+			for (int s = 0; s < colCount[q]; s++) {
+				int i = colIndices[q][s];
+				if (i == p) {
+					continue;
+				}
+				unlinkRow(i);
+				double factor = removeRow(i, q) / pivot;
+				if (lCount == lIndices.length) {
+					lIndices = Arrays.copyOf(lIndices, lCount * 2);
+					lValues = Arrays.copyOf(lValues, lCount * 2);
+				}
+				lIndices[lCount] = i;
+				lValues[lCount++] = factor;
+				for (int t = 0; t < rowCount[i]; t++) {
+					positions[rowIndices[i][t]] = t;
+				}
+				for (int t = 0; t < rowCount[p]; t++) {
+					int j = rowIndices[p][t];
+					if (j == q) {
+						continue;
+					}
+					if (positions[j] != -1) {
+						rowValues[i][positions[j]] -= factor * rowValues[p][t];
+					} else {
+						// заповнення: новий ненульовий елемент рядка i
+						appendRow(i, j, -factor * rowValues[p][t]);
+						unlinkCol(j);
+						appendCol(j, i);
+						linkCol(j);
+					}
+				}
+				for (int t = 0; t < rowCount[i]; t++) {
+					positions[rowIndices[i][t]] = -1;
+				}
+				linkRow(i);
+			}
+			colCount[q] = 0;
+			rowCount[p] = 0;
+		}
+		lStart[m] = lCount;
+
+		Arrays.fill(uStart, 0);
+		for (int t = 0; t < uCount; t++) {
+			uStart[uColumns[t] + 1]++;
+		}
+		for (int j = 0; j < m; j++) {
+			uStart[j + 1] += uStart[j];
+		}
+		int[] sortedIndices = new int[Math.max(uCount, 16)];
+		double[] sortedValues = new double[sortedIndices.length];
+		int[] next = Arrays.copyOf(uStart, m);
+		for (int t = 0; t < uCount; t++) {
+			int position = next[uColumns[t]]++;
+			sortedIndices[position] = uIndices[t];
+			sortedValues[position] = uValues[t];
+		}
+		uIndices = sortedIndices;
+		uValues = sortedValues;
+		etaStart[0] = 0;
+		return true;
+	}
+
+	// пошук головного елемента за правилом Марковіца серед стовпців і одиничних рядків
+	private boolean findPivot() {
+		long best = Long.MAX_VALUE;
+		int examined = 0;
+		for (int count = 1; count <= m; count++) {
+			for (int j = colHead[count]; j != -1; j = colNext[j]) {
+				double max = 0;
+				for (int s = 0; s < count; s++) {
+					work[s] = Math.abs(value(colIndices[j][s], j));
+					max = Math.max(max, work[s]);
+				}
+				for (int s = 0; s < count; s++) {
+					int i = colIndices[j][s];
+					double a = work[s];
+					long cost = (long) (rowCount[i] - 1) * (count - 1);
+					if (a > SINGULAR_EPS && a >= PIVOT_THRESHOLD * max && cost < best) {
+						best = cost;
+						pivotRow = i;
+						pivotCol = j;
+					}
+				}
+				if (best == 0 || best != Long.MAX_VALUE && ++examined >= SEARCH_LIMIT) {
+					return true;
+				}
+			}
+			if (count == 1) {
+				for (int i = rowHead[1]; i != -1; i = rowNext[i]) {
+					int j = rowIndices[i][0];
+					double a = Math.abs(rowValues[i][0]);
+					if (a > SINGULAR_EPS && a >= PIVOT_THRESHOLD * columnMax(j)) {
+						pivotRow = i;
+						pivotCol = j;
+						return true;
+					}
+				}
+			}
+			// у стовпцях з більшою кількістю елементів добуток не менший за count
+			if (best <= count) {
+				return true;
+			}
+		}
+		return best != Long.MAX_VALUE;
+	}
+
+	private double columnMax(int j) {
+		double max = 0;
+		for (int s = 0; s < colCount[j]; s++) {
+			max = Math.max(max, Math.abs(value(colIndices[j][s], j)));
+		}
+		return max;
+	}
+
+	private double value(int i, int j) {
+		for (int t = 0; t < rowCount[i]; t++) {
+			if (rowIndices[i][t] == j) {
+				return rowValues[i][t];
+			}
+		}
+		return 0;
+	}
+
+	private void appendRow(int i, int j, double value) {
+		int count = rowCount[i];
+		if (rowIndices[i] == null) {
+			rowIndices[i] = new int[4];
+			rowValues[i] = new double[4];
+		} else if (count == rowIndices[i].length) {
+			rowIndices[i] = Arrays.copyOf(rowIndices[i], count * 2);
+			rowValues[i] = Arrays.copyOf(rowValues[i], count * 2);
+		}
+		rowIndices[i][count] = j;
+		rowValues[i][count] = value;
+		rowCount[i] = count + 1;
+	}
+
+	private void appendCol(int j, int i) {
+		int count = colCount[j];
+		if (colIndices[j] == null) {
+			colIndices[j] = new int[4];
+		} else if (count == colIndices[j].length) {
+			colIndices[j] = Arrays.copyOf(colIndices[j], count * 2);
+		}
+		colIndices[j][count] = i;
+		colCount[j] = count + 1;
+	}
+
+	// вилучає елемент (i, j) з рядка i і повертає його значення
+	private double removeRow(int i, int j) {
+		int last = --rowCount[i];
+		for (int t = 0; t <= last; t++) {
+			if (rowIndices[i][t] == j) {
+				double value = rowValues[i][t];
+				rowIndices[i][t] = rowIndices[i][last];
+				rowValues[i][t] = rowValues[i][last];
+				return value;
+			}
+		}
+		throw new IllegalStateException("Елемент (" + i + ", " + j + ") відсутній у рядку");
+	}
+
+	private void removeCol(int j, int i) {
+		int last = --colCount[j];
+		for (int s = 0; s <= last; s++) {
+			if (colIndices[j][s] == i) {
+				colIndices[j][s] = colIndices[j][last];
+				return;
+			}
+		}
+		throw new IllegalStateException("Елемент (" + i + ", " + j + ") відсутній у стовпці");
+	}
+
+	private void linkRow(int i) {
+		int count = rowCount[i];
+		rowPrev[i] = -1;
+		rowNext[i] = rowHead[count];
+		if (rowHead[count] != -1) {
+			rowPrev[rowHead[count]] = i;
+		}
+		rowHead[count] = i;
+	}
+
+	private void unlinkRow(int i) {
+		if (rowPrev[i] != -1) {
+			rowNext[rowPrev[i]] = rowNext[i];
+		} else {
+			rowHead[rowCount[i]] = rowNext[i];
+		}
+		if (rowNext[i] != -1) {
+			rowPrev[rowNext[i]] = rowPrev[i];
+		}
+	}
+
+	private void linkCol(int j) {
+		int count = colCount[j];
+		colPrev[j] = -1;
+		colNext[j] = colHead[count];
+		if (colHead[count] != -1) {
+			colPrev[colHead[count]] = j;
+		}
+		colHead[count] = j;
+	}
+
+	private void unlinkCol(int j) {
+		if (colPrev[j] != -1) {
+			colNext[colPrev[j]] = colNext[j];
+		} else {
+			colHead[colCount[j]] = colNext[j];
+		}
+		if (colNext[j] != -1) {
+			colPrev[colNext[j]] = colPrev[j];
+		}
+	}
+
+	public void ftran(double[] x) {
+		for (int k = 0; k < m; k++) {
+			double xp = x[pivotRows[k]];
+			if (xp != 0) {
+				for (int t = lStart[k]; t < lStart[k + 1]; t++) {
+					x[lIndices[t]] -= lValues[t] * xp;
+				}
+			}
+		}
+		for (int k = m - 1; k >= 0; k--) {
+			int j = pivotCols[k];
+			double xj = x[pivotRows[k]] / pivots[k];
+			work[j] = xj;
+			if (xj != 0) {
+				for (int t = uStart[j]; t < uStart[j + 1]; t++) {
+					x[uIndices[t]] -= uValues[t] * xj;
+				}
+			}
+		}
+		System.arraycopy(work, 0, x, 0, m);
+
+		for (int e = 0; e < etaCount; e++) {
+			int r = etaRows[e];
+			double xr = x[r] / etaPivots[e];
+			if (xr != 0) {
+				for (int t = etaStart[e]; t < etaStart[e + 1]; t++) {
+					x[etaIndices[t]] -= etaValues[t] * xr;
+				}
+			}
+			x[r] = xr;
+		}
+	}
+
+	public void btran(double[] y) {
+		for (int e = etaCount - 1; e >= 0; e--) {
+			int r = etaRows[e];
+			double sum = y[r];
+			for (int t = etaStart[e]; t < etaStart[e + 1]; t++) {
+				sum -= etaValues[t] * y[etaIndices[t]];
+			}
+			y[r] = sum / etaPivots[e];
+		}
+
+		for (int k = 0; k < m; k++) {
+			int j = pivotCols[k];
+			double sum = y[j];
+			for (int t = uStart[j]; t < uStart[j + 1]; t++) {
+				sum -= uValues[t] * work[uIndices[t]];
+			}
+			work[pivotRows[k]] = sum / pivots[k];
+		}
+		for (int k = m - 1; k >= 0; k--) {
+			int p = pivotRows[k];
+			double sum = work[p];
+			for (int t = lStart[k]; t < lStart[k + 1]; t++) {
+				sum -= lValues[t] * work[lIndices[t]];
+			}
+			work[p] = sum;
+		}
+		System.arraycopy(work, 0, y, 0, m);
+	}
+
+	public void update(int r, double[] alpha) {
+		int size = etaStart[etaCount];
+		for (int i = 0; i < m; i++) {
+			if (i == r || alpha[i] == 0) {
+				continue;
+			}
+			if (size == etaIndices.length) {
+				etaIndices = Arrays.copyOf(etaIndices, size * 2);
+				etaValues = Arrays.copyOf(etaValues, size * 2);
+			}
+			etaIndices[size] = i;
+			etaValues[size++] = alpha[i];
+		}
+		etaRows[etaCount] = r;
+		etaPivots[etaCount++] = alpha[r];
+		etaStart[etaCount] = size;
+	}
+
+	public boolean isFull() {
+		return etaCount == refactorFrequency;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,181 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/*
+У цьому класі реалізовано паралельне розв'язання великої кількості незалежних задач (FunctionSystem) на заданому пулі потоків.
+
+Основні методи класу:
+
+withPlatformThreads, withVirtualThreads: Створюють розв'язувач на пулі звичайних потоків або на віртуальних потоках (якщо вони підтримуються JDK; інакше використовується пул звичайних потоків за кількістю ядер).
+solveAll: Розв'язує всі задачі та повертає результати (SolveResult) у порядку задач.
+solveAsCompleted: Повертає потік результатів (Solved) у порядку завершення розв'язання.
+
+Кожна задача розв'язується лише одним потоком, тому одна й та сама задача не повинна зустрічатися у наборі двічі. Симплекс-таблиці (Tableau) беруться з пулу робочих таблиць і повторно використовуються наступними задачами, тому після розв'язання таблиця задачі не зберігається; результат повністю міститься в SolveResult, а resolve розв'язує задачу спочатку. Робоча таблиця, задана самою задачею (setWorkspace), на час розв'язання замінюється таблицею з пулу і потім відновлюється; у пул повертаються лише таблиці, створені пулом. Спостерігач задачі (SolverListener) викликається з робочого потоку.
+*/
+
+public class BatchSolver implements AutoCloseable {
+	private final ExecutorService executor;
+	private final Solver solver;
+	private final ConcurrentLinkedQueue<Tableau> workspaces = new ConcurrentLinkedQueue<>();
+
+	public BatchSolver(ExecutorService executor, Solver solver) {
+		this.executor = executor;
+		this.solver = solver;
+	}
+
+	public static BatchSolver withPlatformThreads(int threads, Solver solver) {
+		return new BatchSolver(Executors.newFixedThreadPool(threads), solver);
+	}
+
+	public static BatchSolver withVirtualThreads(Solver solver) {
+		try {
+			ExecutorService executor = (ExecutorService) Executors.class
+					.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			return new BatchSolver(executor, solver);
+		} catch (ReflectiveOperationException e) {
+			return withPlatformThreads(Runtime.getRuntime().availableProcessors(), solver);
+		}
+	}
+
+	public List<SolveResult> solveAll(Collection<? extends FunctionSystem> systems) {
+		return solveAll(systems.stream());
+	}
+
+	public List<SolveResult> solveAll(Stream<? extends FunctionSystem> systems) {
+		List<Future<SolveResult>> futures = new ArrayList<>();
+		systems.sequential().forEach((system) -> futures.add(executor.submit(() -> solve(system))));
+
+		List<SolveResult> results = new ArrayList<>(futures.size());
+		for (Future<SolveResult> future : futures) {
+			results.add(get(future));
+		}
+		return results;
+	}
+
+	public Stream<Solved> solveAsCompleted(Collection<? extends FunctionSystem> systems) {
+		CompletionService<Solved> service = new ExecutorCompletionService<>(executor);
+		int index = 0;
+		for (FunctionSystem system : systems) {
+			int ind = index++;
+			service.submit(() -> new Solved(ind, system, solve(system)));
+		}
+
+		int count = index;
+		Iterator<Solved> iterator = new Iterator<>() {
+			private int taken;
+
+			@Override
+			public boolean hasNext() {
+				return taken < count;
+			}
+
+			@Override
+			public Solved next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				taken++;
+				try {
+					return get(service.take());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException(e);
+				}
+			}
+		};
+		return StreamSupport.stream(Spliterators.spliterator(iterator, count,
+				Spliterator.NONNULL | Spliterator.SIZED), false);
+	}
+
+	private SolveResult solve(FunctionSystem system) {
+		Tableau workspace = workspaces.poll();
+		if (workspace == null) {
+			workspace = new Tableau(0, 0);
+		}
+		Tableau own = system.workspace;
+		system.workspace = workspace;
+		try {
+			return solver.solve(system);
+		} finally {
+			system.workspace = own;
+			if (system.tableau == workspace) {
+				// таблиця повертається в пул: resolve, зміни моделі та getSensitivity розв'язують задачу спочатку
+				system.tableau = null;
+				system.warm = false;
+				system.optimalBasis = false;
+			}
+			workspaces.offer(workspace);
+		}
+	}
+
+	private static <T> T get(Future<T> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+
+	public interface Solver {
+		SolveResult solve(FunctionSystem system);
+
+		static Solver optimal(boolean max, FunctionSystem.Mode mode) {
+			return (system) -> system.getOptimal(max, mode);
+		}
+
+		static Solver optimalInt(boolean max) {
+			return (system) -> system.getOptimalInt(max);
+		}
+	}
+
+	public static final class Solved {
+		private final int index;
+		private final FunctionSystem system;
+		private final SolveResult result;
+
+		private Solved(int index, FunctionSystem system, SolveResult result) {
+			this.index = index;
+			this.system = system;
+			this.result = result;
+		}
+
+		public int getIndex() {
+			return index;
+		}
+
+		public FunctionSystem getSystem() {
+			return system;
+		}
+
+		public SolveResult getResult() {
+			return result;
+		}
+	}
+}
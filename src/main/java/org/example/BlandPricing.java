@@ -0,0 +1,23 @@
+package org.example;
+
+/*
+Правило Бленда: вхідною змінною обирається стовпець з від'ємною оцінкою Zj - Cj з найменшим номером. Разом з вибором вихідної змінної з найменшим номером серед рівних відношень це правило гарантує, що симплекс-метод не зациклиться.
+Тому воно використовується на першому етапі двоетапного методу та як запасне правило при виродженні.
+*/
+
+public class BlandPricing implements PricingRule {
+	@Override
+	public String name() {
+		return "bland";
+	}
+
+	@Override
+	public int select(Tableau tableau) {
+		for (int j = 0; j < tableau.cols(); j++) {
+			if (tableau.getZcDiff(j) < -tableau.getOptimalityTolerance()) {
+				return j;
+			}
+		}
+		return -1;
+	}
+}
\ No newline at end of file
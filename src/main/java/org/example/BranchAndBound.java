@@ -0,0 +1,500 @@
+package org.example;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+У цьому класі реалізовано метод гілок та меж для цілочислових задач як альтернативу методу Гоморі (FunctionSystem.getOptimalInt).
+
+Основні елементи класу:
+
+Вузол (Node): Ланцюжок обмежень галуження Xj <= floor(v) або Xj >= ceil(v) від кореня (Bound) та оптимальний базис батьківського вузла; таблиця задачі у вузлі не зберігається, тому відкриті вузли займають пам'ять лише для базису.
+Розв'язання вузла: Копія кореневої задачі (таблиця спільна з коренем до першої зміни) отримує всі обмеження ланцюжка (addFunction), переходить до базису батька (restoreBasis), після чого resolve продовжує двоїстим симплекс-методом, а не розв'язує задачу спочатку. Задача щойно розв'язаного вузла залишається в потоці, тому перший з його нащадків, якого бере цей самий потік (пошук углиб), лише додає своє обмеження до неї без відновлення.
+Черги вузлів: Кожен потік має власну чергу; порожній потік забирає вузли з черг інших потоків (work stealing). Для DEPTH_FIRST потік бере з власної черги найглибший вузол, а забирає в інших найстаріший; для BEST_BOUND і там, і там береться вузол з найкращою оцінкою. Потік без вузлів чекає на умові available, яку сигналізує додавання вузлів або завершення (усі вузли розв'язано чи досягнуто setNodeLimit), а не опитує черги.
+Відсічення Гоморі в корені (setRootCuts): Перед галуженням до кореневої задачі додається задана кількість змішаних цілочислових відсічень Гоморі (GMI). Цілими вважаються лише цілі змінні та додаткові змінні рядків, у яких цілі коефіцієнти стоять тільки при цілих змінних, а вільний член цілий; решта стовпців (зокрема додаткові змінні попередніх відсічень) неперервні, тому відсічення правильні і для задач з неперервними змінними.
+
+За замовчуванням цілими мають бути всі змінні X1..Xn (setIntegerVariables задає інший набір). Галуження виконується за змінними моделі, тому клас не підтримує LinearFractionalProblem.
+Вузол відкидається, якщо його задача недопустима або її оцінка не краща за найкращий знайдений цілий розв'язок. Якщо розв'язання зупинено через setNodeLimit, повертається найкращий знайдений розв'язок зі статусом ITERATION_LIMIT.
+*/
+
+public class BranchAndBound {
+	private final FunctionSystem system;
+	private int threads = 1;
+	private NodeSelection nodeSelection = NodeSelection.BEST_BOUND;
+	private int rootCuts;
+	private int nodeLimit = Integer.MAX_VALUE;
+	private boolean[] integer;
+
+	private boolean max;
+	private FunctionSystem root;
+	private NodeQueue[] queues;
+	private FunctionSystem[] hot;
+	private Bound[] hotBounds;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition available = lock.newCondition();
+	private AtomicInteger waiting;
+	private AtomicInteger open;
+	private AtomicInteger nodes;
+	private AtomicInteger iterations;
+	private Map<String, Integer> iterationsByRule;
+	private volatile boolean stopped;
+	private volatile boolean limited;
+	private volatile double incumbentValue;
+	private SolveResult incumbent;
+
+	public BranchAndBound(FunctionSystem system) {
+		this.system = system;
+		integer = new boolean[system.orgSize];
+		Arrays.fill(integer, true);
+	}
+
+	public void setThreads(int threads) {
+		this.threads = Math.max(1, threads);
+	}
+
+	public void setNodeSelection(NodeSelection nodeSelection) {
+		this.nodeSelection = nodeSelection;
+	}
+
+	public void setRootCuts(int rootCuts) {
+		this.rootCuts = rootCuts;
+	}
+
+	public void setNodeLimit(int nodeLimit) {
+		this.nodeLimit = nodeLimit;
+	}
+
+	public void setIntegerVariables(int... variables) {
+		integer = new boolean[system.orgSize];
+		for (int j : variables) {
+			integer[j] = true;
+		}
+	}
+
+	public int getNodes() {
+		return nodes == null ? 0 : nodes.get();
+	}
+
+	public SolveResult solve(boolean max) {
+		long start = System.nanoTime();
+		this.max = max;
+		open = new AtomicInteger();
+		waiting = new AtomicInteger();
+		nodes = new AtomicInteger(1);
+		iterations = new AtomicInteger();
+		iterationsByRule = new ConcurrentHashMap<>();
+		stopped = false;
+		limited = false;
+		incumbentValue = Double.NEGATIVE_INFINITY;
+		incumbent = null;
+
+		root = new FunctionSystem(system);
+		root.setPresolve(false);
+		SolveResult result = root.getOptimal(max);
+		count(result);
+		for (int k = 0; k < rootCuts && result.isOptimal() && branchVariable(result) != -1; k++) {
+			if (!addCut(root)) {
+				break;
+			}
+			result = root.resolve();
+			count(result);
+		}
+		if (!result.isOptimal()) {
+			return finish(result.getStatus(), start);
+		}
+
+		queues = new NodeQueue[threads];
+		for (int i = 0; i < threads; i++) {
+			queues[i] = new NodeQueue(nodeSelection);
+		}
+		hot = new FunctionSystem[threads];
+		hotBounds = new Bound[threads];
+		root.setListener(SolverListener.NONE);
+		branch(root, result, null, 0, 0);
+
+		if (threads == 1) {
+			work(0);
+		} else {
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			try {
+				List<Future<?>> futures = new ArrayList<>();
+				for (int i = 0; i < threads; i++) {
+					int id = i;
+					futures.add(executor.submit(() -> work(id)));
+				}
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw new IllegalStateException(e.getCause());
+			} finally {
+				executor.shutdown();
+			}
+		}
+
+		if (incumbent == null) {
+			return finish(limited ? SolveStatus.ITERATION_LIMIT : SolveStatus.INFEASIBLE, start);
+		}
+		return finish(limited ? SolveStatus.ITERATION_LIMIT : SolveStatus.OPTIMAL, start);
+	}
+
+	private void work(int id) {
+		Node node;
+		while ((node = take(id)) != null) {
+			try {
+				process(node, id);
+			} catch (RuntimeException | Error e) {
+				stop();
+				throw e;
+			} finally {
+				if (open.decrementAndGet() == 0) {
+					signalAll();
+				}
+			}
+		}
+	}
+
+	// наступний вузол потоку id; якщо черги порожні, потік чекає, доки інший потік не додасть вузли або пошук не завершиться (null)
+	private Node take(int id) {
+		if (stopped) {
+			return null;
+		}
+		Node node = poll(id);
+		if (node != null) {
+			return node;
+		}
+		lock.lock();
+		// waiting збільшується до повторної перевірки черг, тому потік, що додає вузли, бачить очікування (branch)
+		waiting.incrementAndGet();
+		try {
+			while (open.get() > 0 && !stopped) {
+				node = poll(id);
+				if (node != null) {
+					return node;
+				}
+				available.awaitUninterruptibly();
+			}
+			return null;
+		} finally {
+			waiting.decrementAndGet();
+			lock.unlock();
+		}
+	}
+
+	private Node poll(int id) {
+		Node node = queues[id].pollLocal();
+		for (int k = 1; node == null && k < queues.length; k++) {
+			node = queues[(id + k) % queues.length].steal();
+		}
+		return node;
+	}
+
+	private void stop() {
+		stopped = true;
+		signalAll();
+	}
+
+	private void signalAll() {
+		lock.lock();
+		try {
+			available.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void process(Node node, int id) {
+		if (!improves(node.bound)) {
+			return;
+		}
+		if (nodes.incrementAndGet() > nodeLimit) {
+			limited = true;
+			stop();
+			return;
+		}
+
+		FunctionSystem child = hot[id];
+		hot[id] = null;
+		if (child != null && hotBounds[id] == node.bounds.previous) {
+			// нащадок щойно розв'язаного вузла: його таблиця вже в базисі батька
+			child.addFunction(row(node.bounds));
+		} else {
+			child = new FunctionSystem(root);
+			addBounds(child, node.bounds);
+			int[] basis = Arrays.copyOf(node.basis, node.basis.length + 1);
+			basis[node.basis.length] = child.coefNum - 1;
+			// якщо базис батька не відновлено, resolve продовжує з досягнутого базису або розв'язує задачу спочатку
+			child.restoreBasis(basis);
+		}
+		SolveResult result = child.resolve();
+		count(result);
+		if (result.getStatus() == SolveStatus.ITERATION_LIMIT) {
+			limited = true;
+		}
+		if (result.isOptimal()) {
+			branch(child, result, node.bounds, node.depth + 1, id);
+		}
+	}
+
+	// обмеження ланцюжка додаються від кореня, тому рядки та додаткові змінні мають ті самі номери, що й у батька
+	private void addBounds(FunctionSystem child, Bound bounds) {
+		if (bounds != null) {
+			addBounds(child, bounds.previous);
+			child.addFunction(row(bounds));
+		}
+	}
+
+	private Function row(Bound bound) {
+		Double[] coefficients = new Double[root.orgSize];
+		Arrays.fill(coefficients, 0.0);
+		coefficients[bound.variable] = 1.0;
+		return new Function(coefficients, bound.value, bound.sign);
+	}
+
+	private void branch(FunctionSystem system, SolveResult result, Bound bounds, int depth, int id) {
+		double value = max ? result.getObjective() : -result.getObjective();
+		if (!improves(value)) {
+			return;
+		}
+		int variable = branchVariable(result);
+		if (variable == -1) {
+			setIncumbent(result, value);
+			return;
+		}
+
+		double x = result.getValue(variable);
+		int[] basis = new int[system.warm ? system.tableau.rows() : 0];
+		for (int i = 0; i < basis.length; i++) {
+			basis[i] = system.tableau.getBasis(i);
+		}
+		Node down = new Node(new Bound(variable, Math.floor(x), Function.Sign.LESS, bounds), basis, value, depth);
+		Node up = new Node(new Bound(variable, Math.ceil(x), Function.Sign.GREATER, bounds), basis, value, depth);
+		open.addAndGet(2);
+		if (x - Math.floor(x) < 0.5) {
+			queues[id].push(up);
+			queues[id].push(down);
+		} else {
+			queues[id].push(down);
+			queues[id].push(up);
+		}
+		// корінь - спільна основа для відновлення вузлів, тому він не змінюється
+		if (system != root) {
+			hot[id] = system;
+			hotBounds[id] = bounds;
+		}
+		// вузол, що залишився після того, як потік візьме свій, дістається потоку, який чекає
+		if (waiting.get() > 0) {
+			lock.lock();
+			try {
+				available.signal();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private int branchVariable(SolveResult result) {
+		int variable = -1;
+		double best = 0;
+		for (int j = 0; j < integer.length; j++) {
+			if (!integer[j]) {
+				continue;
+			}
+			double fractional = system.tolerances.fractional(result.getValue(j));
+			double distance = Math.min(fractional, 1 - fractional);
+			if (distance > best) {
+				variable = j;
+				best = distance;
+			}
+		}
+		return variable;
+	}
+
+	private boolean addCut(FunctionSystem root) {
+		Tableau tableau = root.tableau;
+		if (tableau == null || !root.warm) {
+			return false;
+		}
+		boolean[] basic = new boolean[tableau.cols()];
+		int row = -1;
+		double best = 0;
+		for (int i = 0; i < tableau.rows(); i++) {
+			int b = tableau.getBasis(i);
+			basic[b] = true;
+			double fractional = system.tolerances.fractional(tableau.getValue(i));
+			double distance = Math.min(fractional, 1 - fractional);
+			if (b < integer.length && integer[b] && distance > best) {
+				row = i;
+				best = distance;
+			}
+		}
+		if (row == -1) {
+			return false;
+		}
+
+		// змішане цілочислове відсічення Гоморі (GMI), помножене на f0: для цілих стовпців - дробові частини,
+		// для неперервних - сам коефіцієнт рядка, тому відсічення не відкидає допустимих розв'язків з неперервними змінними
+		boolean[] integral = integralColumns(root, tableau.cols());
+		double f0 = system.tolerances.fractional(tableau.getValue(row));
+		Double[] coefficients = new Double[tableau.cols()];
+		for (int j = 0; j < coefficients.length; j++) {
+			double a = tableau.get(row, j);
+			double coefficient;
+			if (basic[j]) {
+				coefficient = 0;
+			} else if (integral[j]) {
+				double f = system.tolerances.fractional(a);
+				coefficient = f <= f0 ? f : f0 * (1 - f) / (1 - f0);
+			} else {
+				coefficient = a >= 0 ? a : -a * f0 / (1 - f0);
+			}
+			coefficients[j] = coefficient;
+		}
+		root.addFunction(new Function(coefficients, f0, Function.Sign.GREATER));
+		return true;
+	}
+
+	// цілі стовпці таблиці: цілі змінні моделі та додаткові змінні рядків з цілими коефіцієнтами лише при цілих стовпцях і цілим вільним членом
+	private boolean[] integralColumns(FunctionSystem root, int cols) {
+		boolean[] integral = new boolean[cols];
+		int orgSize = root.orgSize;
+		for (int j = 0; j < integer.length && j < cols; j++) {
+			integral[j] = integer[j];
+		}
+		int[] counts = new int[cols];
+		for (Function function : root.functions) {
+			for (int j = orgSize; j < Math.min(function.coefficients.size(), cols); j++) {
+				if (function.coefficients.get(j) != 0) {
+					counts[j]++;
+				}
+			}
+		}
+		// рядок-відсічення містить лише додаткові змінні попередніх рядків, тому достатньо одного проходу
+		for (Function function : root.functions) {
+			int slack = -1;
+			boolean integralRow = system.tolerances.isInteger(function.value);
+			for (int j = 0; j < Math.min(function.coefficients.size(), cols) && integralRow; j++) {
+				double coefficient = function.coefficients.get(j);
+				if (coefficient == 0) {
+					continue;
+				}
+				if (slack == -1 && j >= orgSize && counts[j] == 1 && Math.abs(coefficient) == 1) {
+					slack = j;
+				} else {
+					integralRow = integral[j] && system.tolerances.isInteger(coefficient);
+				}
+			}
+			if (slack != -1 && integralRow) {
+				integral[slack] = true;
+			}
+		}
+		return integral;
+	}
+
+	private boolean improves(double value) {
+		double incumbent = incumbentValue;
+		return incumbent == Double.NEGATIVE_INFINITY || value > incumbent + system.tolerances.feasibility(incumbent);
+	}
+
+	private synchronized void setIncumbent(SolveResult result, double value) {
+		if (value > incumbentValue) {
+			incumbent = result;
+			incumbentValue = value;
+		}
+	}
+
+	private void count(SolveResult result) {
+		iterations.addAndGet(result.getIterations());
+		result.getIterationsByRule().forEach((rule, count) -> iterationsByRule.merge(rule, count, Integer::sum));
+	}
+
+	private SolveResult finish(SolveStatus status, long start) {
+		long time = System.nanoTime() - start;
+		if (incumbent == null) {
+			return SolveResult.failed(status, iterations.get(), iterationsByRule, time);
+		}
+		double[] values = Arrays.copyOf(incumbent.getValues(), system.coefNum);
+		return new SolveResult(status, values, null, incumbent.getObjective(),
+				iterations.get(), iterationsByRule, time);
+	}
+
+	public enum NodeSelection {
+		BEST_BOUND,
+		DEPTH_FIRST
+	}
+
+	// обмеження галуження та обмеження предків (previous; null - корінь)
+	private static final class Bound {
+		private final int variable;
+		private final double value;
+		private final Function.Sign sign;
+		private final Bound previous;
+
+		private Bound(int variable, double value, Function.Sign sign, Bound previous) {
+			this.variable = variable;
+			this.value = value;
+			this.sign = sign;
+			this.previous = previous;
+		}
+	}
+
+	private static final class Node {
+		private final Bound bounds;
+		private final int[] basis;
+		private final double bound;
+		private final int depth;
+
+		private Node(Bound bounds, int[] basis, double bound, int depth) {
+			this.bounds = bounds;
+			this.basis = basis;
+			this.bound = bound;
+			this.depth = depth;
+		}
+	}
+
+	private static final class NodeQueue {
+		private final NodeSelection nodeSelection;
+		private final ArrayDeque<Node> deque = new ArrayDeque<>();
+		private final PriorityQueue<Node> heap = new PriorityQueue<>(
+				Comparator.comparingDouble((Node node) -> -node.bound).thenComparingInt((node) -> -node.depth));
+
+		private NodeQueue(NodeSelection nodeSelection) {
+			this.nodeSelection = nodeSelection;
+		}
+
+		private synchronized void push(Node node) {
+			if (nodeSelection == NodeSelection.DEPTH_FIRST) {
+				deque.addLast(node);
+			} else {
+				heap.add(node);
+			}
+		}
+
+		private synchronized Node pollLocal() {
+			return nodeSelection == NodeSelection.DEPTH_FIRST ? deque.pollLast() : heap.poll();
+		}
+
+		private synchronized Node steal() {
+			return nodeSelection == NodeSelection.DEPTH_FIRST ? deque.pollFirst() : heap.poll();
+		}
+	}
+}
\ No newline at end of file
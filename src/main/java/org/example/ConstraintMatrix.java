@@ -0,0 +1,39 @@
+package org.example;
+
+/*
+Цей інтерфейс описує матрицю обмежень, з якою працює модифікований симплекс-метод (RevisedSimplex). Його реалізують щільна симплекс-таблиця (Tableau) та розріджена матриця (SparseMatrix).
+
+Методи інтерфейсу:
+
+rows, cols: Кількість рядків та стовпців матриці.
+getCost, getValue: Коефіцієнт цільової функції стовпця та вільний член рядка.
+loadColumn: Записує стовпець матриці у щільний масив або лише його ненульові коефіцієнти (індекси рядків і значення) для розрідженого LU-розкладу базису.
+price: Обчислює оцінки стовпців Zj - Cj = y * Aj - Cj для заданих симплекс-множників y.
+*/
+
+public interface ConstraintMatrix {
+	int rows();
+
+	int cols();
+
+	double getCost(int y);
+
+	double getValue(int x);
+
+	void loadColumn(int y, double[] column);
+
+	// ненульові коефіцієнти стовпця стискаються на початок масиву values, повертається їхня кількість
+	default int loadColumn(int y, int[] indices, double[] values) {
+		loadColumn(y, values);
+		int count = 0;
+		for (int i = 0; i < rows(); i++) {
+			if (values[i] != 0) {
+				indices[count] = i;
+				values[count++] = values[i];
+			}
+		}
+		return count;
+	}
+
+	void price(double[] multipliers, double[] zcDiff);
+}
@@ -0,0 +1,24 @@
+package org.example;
+
+/*
+Правило Данцига: вхідною змінною обирається стовпець з найбільшою за модулем від'ємною оцінкою Zj - Cj. Це правило використовується за замовчуванням.
+*/
+
+public class DantzigPricing implements PricingRule {
+	@Override
+	public String name() {
+		return "dantzig";
+	}
+
+	@Override
+	public int select(Tableau tableau) {
+		int maxNotOpt = -1;
+		for (int j = 0; j < tableau.cols(); j++) {
+			if (tableau.getZcDiff(j) < -tableau.getOptimalityTolerance() &&
+					(maxNotOpt == -1 || tableau.getZcDiff(j) < tableau.getZcDiff(maxNotOpt))) {
+				maxNotOpt = j;
+			}
+		}
+		return maxNotOpt;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,155 @@
+package org.example;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/*
+У цьому класі реалізовано двоїсту задачу (FunctionSystem.getDual) як транспоноване подання прямої задачі: коефіцієнти двоїстої задачі не копіюються, а читаються з рядків прямої задачі під час завантаження таблиці (транспонований доступ за стовпцем прямої задачі).
+
+Пряма задача розглядається у формі, в якій її зберігає FunctionSystem: рядки-рівності з додатковими змінними. Додаткова змінна рядка (стовпець з єдиним коефіцієнтом 1 або -1 та нульовим коефіцієнтом цільової функції) визначає знак обмеження (<= або >=) і обмеженням двоїстої задачі не стає. Рядок без додаткової змінної - рівність, якщо його знак EQUAL, інакше - нерівність зі своїм знаком (addFunctionComplete).
+
+Двоїста задача розв'язується на максимум:
+
+Рядки: стовпці прямої задачі, крім додаткових змінних, - нерівності <= з власними додатковими змінними.
+Змінні 0..m-1: двоїсті оцінки рядків прямої задачі (SolveResult.getDuals), для рядків >= задачі на максимум та рядків <= задачі на мінімум - з протилежним знаком, тому всі змінні невід'ємні.
+Наступні змінні: рядку-рівності відповідає вільна двоїста оцінка y = u - v; змінні v рівностей ідуть після змінних u у порядку рядків.
+
+Оптимум двоїстої задачі дорівнює оптимуму прямої задачі на мінімум і протилежний оптимуму прямої задачі на максимум.
+
+Рядки прямої задачі позначаються спільними (Function.shared), тому подальші зміни прямої задачі їх не змінюють (copy-on-write), а подання залишається незмінним. Рядки та цільова функція двоїстої задачі теж спільні: перед першою зміною (addFunction, setValue, розв'язання на мінімум тощо) рядок копіюється у звичайний список.
+*/
+
+final class DualView {
+	private final List<Function> rows;
+	private final int[] sources;
+	private final double[] factors;
+
+	private DualView(List<Function> rows, int[] sources, double[] factors) {
+		this.rows = rows;
+		this.sources = sources;
+		this.factors = factors;
+	}
+
+	static FunctionSystem of(FunctionSystem primal, boolean max) {
+		List<Function> rows = new ArrayList<>(primal.functions);
+		for (Function function : rows) {
+			function.shared = true;
+		}
+		Function objective = primal.objective;
+		objective.shared = true;
+		int m = rows.size();
+		int orgSize = primal.orgSize;
+		int cols = primal.coefNum;
+
+		// додаткові змінні: стовпці з єдиним коефіцієнтом 1 або -1 та нульовим коефіцієнтом цільової функції
+		int[] counts = new int[cols - orgSize];
+		int[] slackRows = new int[cols - orgSize];
+		double[] slackValues = new double[cols - orgSize];
+		for (int i = 0; i < m; i++) {
+			List<Double> coefficients = rows.get(i).coefficients;
+			for (int j = orgSize; j < Math.min(coefficients.size(), cols); j++) {
+				double coefficient = coefficients.get(j);
+				if (coefficient != 0 && counts[j - orgSize]++ == 0) {
+					slackRows[j - orgSize] = i;
+					slackValues[j - orgSize] = coefficient;
+				}
+			}
+		}
+		Function.Sign[] senses = new Function.Sign[m];
+		for (int i = 0; i < m; i++) {
+			senses[i] = rows.get(i).sign;
+		}
+		boolean[] slack = new boolean[cols];
+		for (int j = orgSize; j < cols; j++) {
+			int k = j - orgSize;
+			// рядок з власним знаком або з уже знайденою додатковою змінною другої не має
+			if (counts[k] == 1 && Math.abs(slackValues[k]) == 1 && objective.coefficient(j) == 0
+					&& senses[slackRows[k]] == Function.Sign.EQUAL) {
+				senses[slackRows[k]] = slackValues[k] > 0 ? Function.Sign.LESS : Function.Sign.GREATER;
+				slack[j] = true;
+			}
+		}
+
+		// змінна k двоїстої задачі: factors[k] * (рядок sources[k] прямої задачі)
+		double direction = max ? -1 : 1;
+		int free = 0;
+		for (Function.Sign sense : senses) {
+			if (sense == Function.Sign.EQUAL) {
+				free++;
+			}
+		}
+		int[] sources = new int[m + free];
+		double[] factors = new double[m + free];
+		for (int i = 0, k = m; i < m; i++) {
+			sources[i] = i;
+			factors[i] = switch (senses[i]) {
+				case LESS -> -1;
+				case GREATER -> 1;
+				case EQUAL -> direction;
+			};
+			if (senses[i] == Function.Sign.EQUAL) {
+				sources[k] = i;
+				factors[k++] = -direction;
+			}
+		}
+
+		DualView view = new DualView(rows, sources, factors);
+		Function dualObjective = new Function(view.new Values(), 0, Function.Sign.EQUAL);
+		dualObjective.shared = true;
+		FunctionSystem dual = new FunctionSystem(dualObjective);
+		double costSign = primal.inverse ? -1 : 1;
+		for (int j = 0; j < cols; j++) {
+			if (!slack[j]) {
+				Function row = new Function(view.new Column(j, dual.coefNum), direction * costSign * objective.coefficient(j),
+						Function.Sign.EQUAL);
+				row.shared = true;
+				dual.functions.add(row);
+				dual.coefNum++;
+			}
+		}
+		return dual;
+	}
+
+	// рядок двоїстої задачі: стовпець column прямої задачі та додаткова змінна slack
+	private final class Column extends AbstractList<Double> {
+		private final int column;
+		private final int slack;
+
+		private Column(int column, int slack) {
+			this.column = column;
+			this.slack = slack;
+		}
+
+		@Override
+		public Double get(int k) {
+			if (k < sources.length) {
+				return factors[k] * rows.get(sources[k]).coefficient(column);
+			}
+			if (k == slack) {
+				return 1.0;
+			}
+			Objects.checkIndex(k, size());
+			return 0.0;
+		}
+
+		@Override
+		public int size() {
+			return slack + 1;
+		}
+	}
+
+	// цільова функція двоїстої задачі: вільні члени прямої задачі
+	private final class Values extends AbstractList<Double> {
+		@Override
+		public Double get(int k) {
+			return factors[k] * rows.get(sources[k]).value;
+		}
+
+		@Override
+		public int size() {
+			return sources.length;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package org.example;
+
+/*
+У цьому класі зберігаються результати розв'язання дробової задачі на максимум та на мінімум (LinearFractionalProblem.getOptimalRange): найбільше та найменше значення дробової функції на допустимій множині.
+*/
+
+public final class FractionalRange {
+	private final SolveResult max;
+	private final SolveResult min;
+
+	FractionalRange(SolveResult max, SolveResult min) {
+		this.max = max;
+		this.min = min;
+	}
+
+	public SolveResult getMax() {
+		return max;
+	}
+
+	public SolveResult getMin() {
+		return min;
+	}
+
+	public boolean isOptimal() {
+		return max.isOptimal() && min.isOptimal();
+	}
+
+	public int getIterations() {
+		return max.getIterations() + min.getIterations();
+	}
+
+	@Override
+	public String toString() {
+		return "max: " + max + "\nmin: " + min;
+	}
+}
\ No newline at end of file
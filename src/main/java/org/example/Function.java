@@ -20,12 +20,15 @@ multiply: Перемножує кожен коефіцієнт та значен
 Також є методи для перетворення коефіцієнтів та значення у рядок.
 
 Клас містить вкладений перерахування для представлення можливих знаків функцій (більше або дорівнює, дорівнює, менше або дорівнює).
+
+Рядок може бути коротшим за кількість змінних системи: відсутні коефіцієнти (наприклад, додаткових змінних обмежень, доданих пізніше) дорівнюють нулю (coefficient). Рядки системи зберігаються розріджено (SparseCoefficients). Прапорець shared позначає рядок, спільний для кількох копій FunctionSystem; такий рядок не змінюється на місці, а спочатку копіюється (copy-on-write): система копіює його сама (ownFunction), а add, divide і multiply для спільного рядка кидають IllegalStateException.
 */
 
 public class Function {
 	List<Double> coefficients;
 	double value;
 	Sign sign;
+	boolean shared;
 
 	public Function(Double[] coefficients, double value, Sign sign) {
 		this.coefficients = new ArrayList<>(Arrays.asList(coefficients));
@@ -38,13 +41,27 @@ public class Function {
 		sign = Sign.EQUAL;
 	}
 
+	// рядок над готовим списком коефіцієнтів (наприклад, поданням DualView) без копіювання
+	Function(List<Double> coefficients, double value, Sign sign) {
+		this.coefficients = coefficients;
+		this.value = value;
+		this.sign = sign;
+	}
+
 	public Function(Function function) {
-		coefficients = new ArrayList<>(function.coefficients);
+		// розріджений рядок (SparseCoefficients) копіюється розрідженим
+		coefficients = function.coefficients instanceof SparseCoefficients ? new SparseCoefficients(function.coefficients)
+				: new ArrayList<>(function.coefficients);
 		value = function.value;
 		sign = function.sign;
 	}
 
+	double coefficient(int j) {
+		return j < coefficients.size() ? coefficients.get(j) : 0;
+	}
+
 	public void add(Function function, double x) {
+		requireOwned();
 		for (int i = 0; i < coefficients.size(); i++) {
 			coefficients.set(i, coefficients.get(i) + function.coefficients.get(i) * x);
 		}
@@ -52,11 +69,13 @@ public class Function {
 	}
 
 	public void divide(double x) {
+		requireOwned();
 		coefficients.replaceAll(aDouble -> aDouble / x);
 		value /= x;
 	}
 
 	public void multiply(double x) {
+		requireOwned();
 		coefficients.replaceAll(aDouble -> aDouble * x);
 		value *= x;
 		if (x < 0) {
@@ -64,6 +83,13 @@ public class Function {
 		}
 	}
 
+	// спільний рядок читають кілька копій FunctionSystem, тому зміна на місці змінила б їх усі
+	private void requireOwned() {
+		if (shared) {
+			throw new IllegalStateException("Function is shared between FunctionSystem copies; copy it before changing");
+		}
+	}
+
 	public String coefToString() {
 		StringBuilder builder = new StringBuilder("|");
 		coefficients.forEach((a) -> builder.append("%10.5f|".formatted(a)));
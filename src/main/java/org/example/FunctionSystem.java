@@ -2,8 +2,11 @@ package org.example;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.StringJoiner;
+import java.util.function.Supplier;
 
 /*
 У цьому класі реалізовано систему лінійних функцій, яка використовується для оптимізації методом двоїстого симплекс-методу. Основні функції та методи класу включають:
@@ -11,8 +14,8 @@ import java.util.StringJoiner;
 Ініціалізація системи функцій:
 
 Конструктори для створення нових систем функцій або копіювання існуючих.
-Метод getDual, який повертає дуальну систему функцій.
-Метод getOptimal, який знаходить оптимальне значення функції в системі.
+Метод getDual, який повертає дуальну систему функцій: транспоноване подання моделі (DualView) без копіювання коефіцієнтів, що враховує знаки всіх обмежень (<=, =, >=).
+Метод getOptimal, який знаходить оптимальне значення функції в системі. Усі методи розв'язання повертають незмінний результат SolveResult (статус, значення змінних, двоїсті оцінки, значення цільової функції, кількість ітерацій та час).
 Методи getOptimalDual та getOptimalInt, які знаходять оптимальне значення для двоїстого симплекс-методу.
 Додавання функцій до системи:
 
@@ -21,503 +24,1499 @@ import java.util.StringJoiner;
 Виконання оптимізації:
 
 Методи findOptimalDualSimplex та getOptimal, які виконують оптимізацію за допомогою симплекс-методу.
-Методи setBasis, minRow, toOne, які допомагають в процесі оптимізації.
+Методи addArtificial, phaseOne, minRow, toOne, які допомагають в процесі оптимізації.
+
+Початковий базис: для кожного рядка без одиничного стовпця додається штучна змінна. За замовчуванням задача розв'язується двоетапним методом: на першому етапі (phaseOne) мінімізується сума штучних змінних за правилом Бленда, тому етап завжди скінченний; якщо сума не дорівнює нулю, задача недопустима, інакше штучні змінні виводяться з базису та видаляються. Якщо additionalVariable = true, використовується метод штрафів (big-M) зі штрафом, пропорційним найбільшому за модулем коефіцієнту цільової функції; якщо в оптимумі штучна змінна залишилася додатною або задача виявилася необмеженою (при скінченному штрафі так буває і для недопустимої задачі), задача розв'язується повторно двоетапним методом.
 Додаткові допоміжні методи:
 
-Методи для роздруківки результатів (print, printHeader, printFunctions, printZCDiff, printResult).
+Метод printResult для роздруківки результату. Хід розв'язання передається спостерігачу (SolverListener, встановлюється методом setListener); за замовчуванням нічого не виводиться, а симплекс-таблицю на кожному кроці виводить TablePrinter.
 Методи для обчислення значень та множення векторів (getObjectiveValue, getVectorMultiplication).
 Цей клас дозволяє моделювати системи лінійних функцій та знаходити їхні оптимальні значення за допомогою симплекс-методу.
+
+Правило вибору вхідної змінної в режимі TABLEAU задається методом setPricingRule (DantzigPricing за замовчуванням, SteepestEdgePricing, DevexPricing, PartialPricing, BlandPricing). Серед рядків з однаковим мінімальним відношенням обирається рядок з найбільшим ведучим елементом. Якщо DEGENERATE_PIVOTS кроків поспіль вироджені, до першого невиродженого кроку використовується правило Бленда, тому метод не зациклюється. Кількість ітерацій за кожним правилом повертає SolveResult.getIterationsByRule.
+
+Режим розв'язання (Mode) обирається для кожного виклику getOptimal: TABLEAU перераховує всю симплекс-таблицю, REVISED використовує модифікований симплекс-метод з LU-розкладом базису (RevisedSimplex), SPARSE - той самий метод над розрідженою матрицею обмежень (SparseMatrix), DUAL - двоїстий симплекс-метод над таблицею з двоїсто допустимого початкового базису: базису, заданого методом setStartBasis, або базису з одиничних стовпців (рядки-нерівності >= множаться на -1, тому їхні додаткові змінні утворюють базис з від'ємними значеннями). Так без першого етапу розв'язуються, наприклад, задачі мінімізації з невід'ємними коефіцієнтами цільової функції та обмеженнями >=. Якщо початковий базис не є двоїсто допустимим (або його не існує), задача розв'язується звичайним двоетапним методом TABLEAU.
+
+Двоїстий симплекс-метод (режим DUAL, resolve, findOptimalDualSimplex, відсічення Гоморі) обирає рядок за двоїстим правилом найкрутішого ребра (найбільше відношення квадрата від'ємного значення до квадрата норми рядка таблиці) та вхідний стовпець за правилом мінімального відношення у два проходи (Гарріс): серед стовпців з відношенням, не більшим за мінімальне з допуском оптимальності, обирається найбільший за модулем ведучий елемент.
+
+Повторне розв'язання після зміни моделі (resolve): після оптимального розв'язання у режимі TABLEAU остання симплекс-таблиця зберігається. Методи addFunction, removeFunction, setValue (вільний член обмеження) та setObjectiveCoefficient змінюють і модель, і цю таблицю, тому resolve продовжує з останнього оптимального базису: після зміни обмежень базис залишається двоїсто допустимим і розв'язання продовжує двоїстий симплекс-метод, після зміни цільової функції - звичайний симплекс-метод. Метод resolve(max) також змінює напрямок оптимізації: допустимий базис не залежить від цільової функції, тому задача на мінімум розв'язується звичайним симплекс-методом з оптимального базису задачі на максимум (і навпаки). Якщо базис не можна зберегти (наприклад, додано чи видалено обмеження-рівність, задача розв'язувалася в іншому режимі або з відсіченнями), resolve розв'язує задачу спочатку методом getOptimal.
+
+Відсічення Гоморі (getOptimalInt): з рядків з дробовим значенням обирається рядок з найглибшим відсіченням (дробова частина вільного члена, поділена на норму дробових частин коефіцієнтів); рядки, значення яких відрізняється від цілого менше ніж на CUT_AWAY, використовуються лише тоді, коли інших немає. Відсічення, додаткова змінна якого залишається в базисі більше CUT_AGE_LIMIT кроків поспіль, видаляється разом зі своїм рядком і стовпцем. Якщо активних відсічень більше, ніж setCutPoolSize (DEFAULT_CUT_POOL_SIZE), видаляються найстаріші з таких відсічень. Відсічення з небазисною додатковою змінною визначають поточну вершину і не видаляються, тому розмір таблиці обмежений і не зростає з кількістю кроків.
+
+Попередня обробка (setPresolve): якщо її ввімкнено, getOptimal спочатку спрощує задачу класом Presolve (видаляє порожні, зайві та повторювані рядки, рядки з однією змінною, фіксує змінні та масштабує рядки і стовпці), розв'язує спрощену задачу і відновлює значення всіх змінних та двоїсті оцінки всіх обмежень початкової задачі. Симплекс-таблиця спрощеної задачі не зберігається, тому resolve після такого розв'язання розв'язує задачу спочатку; getOptimalInt та BranchAndBound працюють з таблицею початкової задачі і попередню обробку не виконують.
+
+Список functions використовується лише для побудови моделі. Під час розв'язання модель копіюється у примітивну симплекс-таблицю (Tableau), і всі ітерації виконуються над нею. Рядки, додані addFunction, зберігаються розріджено (SparseCoefficients), а розріджена матриця моделі для режиму SPARSE та LU-розкладу базису (sparseModel) будується один раз і перебудовується лише після зміни моделі методами системи (addFunction, removeFunction, setValue, setObjectiveCoefficient тощо).
+
+Робоча таблиця (setWorkspace): якщо її задано, модель завантажується в неї замість нової таблиці, тому пам'ять таблиці використовується повторно, а таблиця з пам'яттю MappedStorage розміщує коефіцієнти у файлі, відображеному в пам'ять, а не в купі. Робоча таблиця не копіюється разом із системою. Система, створена з розрідженої матриці (LinearModel.solve з робочою таблицею), зберігає коефіцієнти лише в цій матриці і завантажує таблицю безпосередньо з неї.
+
+Аналіз чутливості (getSensitivity): після оптимального розв'язання в режимі TABLEAU і до зміни моделі двоїсті оцінки, оцінки стовпців та межі вільних членів і коефіцієнтів цільової функції, в яких базис залишається оптимальним, обчислюються з останньої симплекс-таблиці (Sensitivity) без повторного розв'язання.
+
+Параметрична цільова функція (getParametric): задача розв'язується для цільової функції C + λ D при λ = lower, а потім параметричним симплекс-методом над тією самою таблицею: оцінки стовпців лінійні за λ, тому наступна точка зміни базису - найменше λ, при якому оцінка небазисного стовпця стає від'ємною, і для переходу до нового оптимального базису достатньо одного кроку (ведучий стовпець - цей стовпець, ведучий рядок - за мінімальним відношенням). Результат (ParametricResult) містить точки зміни базису та кусково-лінійну функцію оптимального значення; модель після розв'язання не змінюється, а таблиця зберігається для resolve.
+
+Метрики (setMetrics): кількість ітерацій, вироджених кроків та тривалість кожного етапу розв'язання (побудова початкового базису, перший етап, симплекс-метод, двоїстий симплекс-метод, раунди відсічень) накопичуються в SolverMetrics, а також записуються як події JFR. Без метрик і без запису JFR етапи не вимірюються.
  */
 
 public class FunctionSystem {
-	protected String delimiter;
-	protected final Function objective;
+	public static final int DEFAULT_CUT_POOL_SIZE = 32;
+	private static final double PENALTY_FACTOR = 1000;
+	private static final int DEGENERATE_PIVOTS = 20;
+	static final int CUT_AGE_LIMIT = 5;
+	private static final double CUT_AWAY = 0.01;
+	private static final int NO_CUT = -2;
+
+	protected Function objective;
 	protected final List<Function> functions = new ArrayList<>();
-	protected int prevCoefNum;
 	protected int coefNum;
 	protected final int orgSize;
 	protected boolean inverse;
 	protected List<Double> res;
-	protected final List<Integer> basis;
-	protected final List<Double> basisCoef;
-	protected final List<Double> zcDiff;
+	protected Tableau tableau;
+	protected Tableau workspace;
+	protected SolverListener listener;
+	protected int iterations;
+	protected int iterationLimit;
+	protected int parallelThreshold;
+	protected long startTime;
+	protected boolean[] negated;
+	protected int[] unitColumns;
+	protected int[] startBasis;
+	protected boolean warm;
+	protected boolean optimalBasis;
+	protected Supplier<? extends PricingRule> pricing;
+	protected final Map<String, Integer> ruleIterations = new LinkedHashMap<>();
+	protected int cutPoolSize;
+	protected Tolerances tolerances;
+	protected double valueScale;
+	protected double costScale;
+	protected boolean exact;
+	protected boolean presolve;
+	protected SparseMatrix matrix;
+	private SparseMatrix sparse;
+	protected int degeneratePivots;
+	protected final PhaseRecorder phases;
 
 	public FunctionSystem(Function objective) {
 		this.objective = objective;
 		coefNum = orgSize = objective.coefficients.size();
-		prevCoefNum = -1;
 		res = new ArrayList<>();
-		basis = new ArrayList<>();
-		basisCoef = new ArrayList<>();
-		zcDiff = new ArrayList<>();
 		inverse = false;
+		listener = SolverListener.NONE;
+		iterationLimit = Integer.MAX_VALUE;
+		parallelThreshold = Tableau.SEQUENTIAL;
+		pricing = DantzigPricing::new;
+		cutPoolSize = DEFAULT_CUT_POOL_SIZE;
+		tolerances = Tolerances.DEFAULT;
+		phases = new PhaseRecorder(getClass().getSimpleName());
 	}
 
 	public FunctionSystem(FunctionSystem system) {
-		objective = new Function(system.objective);
+		// рядки спільні з system і копіюються лише перед зміною (ownFunction, ownObjective)
+		objective = system.objective;
+		objective.shared = true;
 		for (Function f : system.functions) {
-			functions.add(new Function(f));
+			f.shared = true;
 		}
-		prevCoefNum = system.prevCoefNum;
+		functions.addAll(system.functions);
 		coefNum = system.coefNum;
 		orgSize = system.orgSize;
 		inverse = system.inverse;
-		delimiter = system.delimiter;
 		res = new ArrayList<>(system.res);
-		basis = new ArrayList<>(system.basis);
-		basisCoef = new ArrayList<>(system.basisCoef);
-		zcDiff = new ArrayList<>(system.zcDiff);
+		// пам'ять таблиці спільна до першої зміни (copy-on-write), а робочої таблиці копіюється одразу: її пам'ять належить користувачеві
+		if (system.tableau == null) {
+			tableau = null;
+		} else {
+			tableau = system.tableau == system.workspace ? system.tableau.copy() : new Tableau(system.tableau);
+		}
+		listener = system.listener;
+		iterationLimit = system.iterationLimit;
+		parallelThreshold = system.parallelThreshold;
+		negated = system.negated == null ? null : system.negated.clone();
+		unitColumns = system.unitColumns == null ? null : system.unitColumns.clone();
+		startBasis = system.startBasis;
+		warm = system.warm && tableau != null;
+		optimalBasis = system.optimalBasis && tableau != null;
+		pricing = system.pricing;
+		cutPoolSize = system.cutPoolSize;
+		tolerances = system.tolerances;
+		valueScale = system.valueScale;
+		costScale = system.costScale;
+		exact = system.exact;
+		presolve = system.presolve;
+		matrix = system.matrix;
+		sparse = system.sparse;
+		phases = new PhaseRecorder(getClass().getSimpleName());
+		phases.setMetrics(system.phases.getMetrics());
 	}
 
-	public FunctionSystem getDual(boolean max) {
-		FunctionSystem system = new FunctionSystem(this);
-		Double[][] dualFunctions = new Double[system.orgSize][system.functions.size()];
-		Double[] dualValues = new Double[system.orgSize];
-		Double[] dualObjective = new Double[system.functions.size()];
-
-		if (max) {
-			system.objective.multiply(-1);
+	// система, коефіцієнти обмежень якої зберігаються лише в розрідженій матриці (LinearModel); рядки functions містять тільки вільні члени
+	FunctionSystem(SparseMatrix matrix) {
+		this(new Function(costs(matrix)));
+		for (int i = 0; i < matrix.rows(); i++) {
+			functions.add(new Function(new Double[0], matrix.getValue(i), Function.Sign.EQUAL));
 		}
+		this.matrix = matrix;
+	}
 
-		for (int i = 0; i < system.functions.size(); i++) {
-			if (system.functions.get(i).sign == Function.Sign.LESS) {
-				system.functions.get(i).multiply(-1);
-			}
-
-			for (int j = 0; j < system.orgSize; j++) {
-				dualFunctions[j][i] = system.functions.get(i).coefficients.get(j);
-			}
-			dualObjective[i] = system.functions.get(i).value;
-		}
-		for (int i = 0; i < system.orgSize; i++) {
-			dualValues[i] = system.objective.coefficients.get(i);
+	private static Double[] costs(SparseMatrix matrix) {
+		Double[] costs = new Double[matrix.cols()];
+		for (int j = 0; j < costs.length; j++) {
+			costs[j] = matrix.getCost(j);
 		}
+		return costs;
+	}
 
-		system = new FunctionSystem(new Function(dualObjective));
-		for (int i = 0; i < dualFunctions.length; i++) {
-			system.addFunction(new Function(dualFunctions[i], dualValues[i], Function.Sign.LESS));
-		}
-		system.inverse = false;
-		return system;
+	// двоїста задача (на максимум) для задачі на max чи min як транспоноване подання цієї моделі (DualView)
+	public FunctionSystem getDual(boolean max) {
+		return DualView.of(this, max);
 	}
 
-	public List<Double> getOptimalDual() {
+	public SolveResult getOptimalDual() {
 		return getOptimal(true);
 	}
 
-	public List<Double> getOptimalInt(boolean max) {
-		prevCoefNum = -1;
-		getOptimal(max);
-		if (res.isEmpty()) {
-			return null;
-		}
+	public void setListener(SolverListener listener) {
+		this.listener = listener == null ? SolverListener.NONE : listener;
+	}
 
-		List<Double> valuesFractional = new ArrayList<>();
-		for (Function function : functions) {
-			valuesFractional.add(getFractional(function.value));
-		}
+	public void setIterationLimit(int iterationLimit) {
+		this.iterationLimit = iterationLimit;
+	}
 
-		int indexMax;
-		try {
-			indexMax = optimalIndFractional(valuesFractional, true);
-		} catch (Exception e) {
-			res.clear();
-			printResult();
-			return null;
+	public void setParallelThreshold(int parallelThreshold) {
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	public void setPricingRule(Supplier<? extends PricingRule> pricing) {
+		this.pricing = pricing == null ? DantzigPricing::new : pricing;
+	}
+
+	public void setCutPoolSize(int cutPoolSize) {
+		this.cutPoolSize = Math.max(0, cutPoolSize);
+	}
+
+	public void setTolerances(Tolerances tolerances) {
+		this.tolerances = tolerances == null ? Tolerances.DEFAULT : tolerances;
+	}
+
+	public Tolerances getTolerances() {
+		return tolerances;
+	}
+
+	public void setExact(boolean exact) {
+		this.exact = exact;
+	}
+
+	public void setPresolve(boolean presolve) {
+		this.presolve = presolve;
+	}
+
+	public void setStartBasis(int[] startBasis) {
+		this.startBasis = startBasis == null ? null : startBasis.clone();
+	}
+
+	public void setWorkspace(Tableau workspace) {
+		this.workspace = workspace;
+	}
+
+	public void setMetrics(SolverMetrics metrics) {
+		phases.setMetrics(metrics);
+	}
+
+	public SolverMetrics getMetrics() {
+		return phases.getMetrics();
+	}
+
+	public Sensitivity getSensitivity() {
+		if (!optimalBasis) {
+			throw new IllegalStateException("No optimal tableau: solve the unchanged model in TABLEAU mode first");
 		}
+		return Sensitivity.of(this, getDuals(unitColumns));
+	}
 
-		if (indexMax != -1) {
-			System.out.println("Result contains non-integer values. We need to use Gomori's method");
+	public ParametricResult getParametric(boolean max, double[] direction, double lower, double upper) {
+		if (!(lower <= upper) || direction.length > coefNum) {
+			throw new IllegalArgumentException("Invalid parametric objective");
+		}
+		double sign = inverse ? -1 : 1;
+		double[] base = new double[coefNum];
+		for (int j = 0; j < coefNum; j++) {
+			base[j] = sign * objective.coefficient(j);
+			setObjectiveCoefficient(j, j < direction.length ? base[j] + lower * direction[j] : base[j]);
 		}
-		while (indexMax != -1) {
-			int ind = indexMax;
-			Double[] newRow = new Double[coefNum];
-			Arrays.setAll(newRow, (i) -> {
-				double fractional = functions.get(ind).coefficients.get(i);
-				fractional = getFractional(fractional);
-				if (fractional < 0.00001) {
-					return 0.0;
-				} else {
-					return -fractional;
+		long start = System.nanoTime();
+		SolveResult result = getOptimal(max, false, Mode.TABLEAU, false);
+		List<ParametricResult.Segment> segments = new ArrayList<>();
+		SolveStatus status = result.getStatus();
+		if (result.isOptimal()) {
+			status = sweep(base, Arrays.copyOf(direction, tableau.cols()), lower, upper, segments);
+		}
+		for (int j = 0; j < coefNum; j++) {
+			setObjectiveCoefficient(j, base[j]);
+		}
+		return new ParametricResult(status, segments, iterations, System.nanoTime() - start);
+	}
+
+	// параметричний симплекс-метод за цільовою функцією base + λ * direction від оптимального базису для λ = lower
+	private SolveStatus sweep(double[] base, double[] direction, double lower, double upper, List<ParametricResult.Segment> segments) {
+		phase(SolverMetrics.Phase.PRIMAL);
+		double sign = inverse ? -1 : 1;
+		double[] reduced = new double[tableau.cols()];
+		List<Double> costs = ownObjective(coefNum).coefficients;
+		double lambda = lower;
+		while (true) {
+			// оцінки стовпців лінійні за λ: Zj - Cj (λ + t) = Zj - Cj (λ) + t * reduced[j]
+			tableau.setZcDiff();
+			double[] x = new double[tableau.cols()];
+			for (int j = 0; j < reduced.length; j++) {
+				reduced[j] = -sign * direction[j];
+			}
+			for (int i = 0; i < tableau.rows(); i++) {
+				int basic = tableau.getBasis(i);
+				x[basic] = tableau.getValue(i);
+				if (direction[basic] != 0) {
+					tableau.axpy(sign * direction[basic], i, reduced);
 				}
-			});
-
-			addFunction(new Function(newRow, -valuesFractional.get(indexMax), Function.Sign.LESS));
-			basis.add(coefNum - 1);
-			basisCoef.add(0.0);
-			if (findOptimalDualSimplex() == null) {
-				res.clear();
-				printResult();
-				return null;
+			}
+			double intercept = 0;
+			double slope = 0;
+			for (int j = 0; j < coefNum; j++) {
+				intercept += base[j] * x[j];
+				slope += direction[j] * x[j];
 			}
 
-			for (int i = 0; i < functions.size(); i++) {
-				double fractional = getFractional(functions.get(i).value);
-				fractional = fractional < 0.00001 || fractional > 0.99999 ? 0 : fractional;
-				if (valuesFractional.size() < i + 1) {
-					valuesFractional.add(fractional);
-				} else {
-					valuesFractional.set(i, fractional);
+			int col = -1;
+			double step = Double.POSITIVE_INFINITY;
+			double optimality = tableau.getOptimalityTolerance();
+			for (int j = 0; j < reduced.length; j++) {
+				if (reduced[j] < -optimality) {
+					double t = Math.max(tableau.getZcDiff(j), 0) / -reduced[j];
+					if (col == -1 || t < step || t == step && reduced[j] < reduced[col]) {
+						col = j;
+						step = t;
+					}
 				}
 			}
+			double next = col == -1 ? upper : Math.min(upper, lambda + step);
+			if (next > lambda || next == upper) {
+				segments.add(new ParametricResult.Segment(lambda, next, intercept, slope, setRes(x)));
+			}
+			if (next == upper) {
+				phase(null);
+				return SolveStatus.OPTIMAL;
+			}
 
-			try {
-				indexMax = optimalIndFractional(valuesFractional, true);
-			} catch (Exception e) {
-				res.clear();
-				printResult();
-				return null;
+			lambda = next;
+			for (int j = 0; j < tableau.cols(); j++) {
+				double cost = sign * (base.length > j ? base[j] + lambda * direction[j] : 0);
+				tableau.setCost(j, cost);
+				if (j < coefNum) {
+					costs.set(j, cost);
+				}
+			}
+			int row = ratioRow(col, false);
+			if (row == -1) {
+				if (segments.isEmpty()) {
+					segments.add(new ParametricResult.Segment(lambda, lambda, intercept, slope, setRes(x)));
+				}
+				phase(null);
+				return SolveStatus.UNBOUNDED;
+			}
+			if (iterations >= iterationLimit) {
+				phase(null);
+				return SolveStatus.ITERATION_LIMIT;
+			}
+			if (tableau.getValue(row) == 0) {
+				degeneratePivots++;
 			}
+			pivot(row, col);
+			ruleIterations.merge("parametric", 1, Integer::sum);
+			listener.onIteration(this, ++iterations);
 		}
+	}
 
-		printResult();
-		return res;
+	public SolveResult getOptimalInt(boolean max) {
+		if (exact) {
+			return getOptimalIntExact(max);
+		}
+		long start = System.nanoTime();
+		SolveResult relaxation = getOptimal(max, false, Mode.TABLEAU, false);
+		if (!relaxation.isOptimal()) {
+			return relaxation;
+		}
+		startTime = start;
+		warm = false;
+
+		List<Cut> cuts = new ArrayList<>();
+		phase(SolverMetrics.Phase.CUT);
+		int row = deepestCutRow();
+		while (row >= 0) {
+			cuts.add(addCut(row));
+			SolveStatus status = dualSimplex();
+			if (status != SolveStatus.OPTIMAL) {
+				return finish(status, null);
+			}
+			phase(SolverMetrics.Phase.CUT);
+			purgeCuts(cuts);
+			row = deepestCutRow();
+		}
+		if (row == NO_CUT) {
+			return finish(SolveStatus.INFEASIBLE, null);
+		}
+
+		setRes();
+		return finish(SolveStatus.OPTIMAL, null);
 	}
 
-	private double getFractional(double x) {
-		return x - Math.floor(x);
+	private SolveResult getOptimalIntExact(boolean max) {
+		startTime = System.nanoTime();
+		if (max == inverse) {
+			ownObjective().multiply(-1);
+			inverse = !inverse;
+		}
+		tableau = null;
+		warm = false;
+		ruleIterations.clear();
+		RationalSimplex simplex = new RationalSimplex(objective, functions, orgSize, coefNum);
+		simplex.setIterationLimit(iterationLimit);
+		simplex.setCutPoolSize(cutPoolSize);
+		simplex.setListener(listener, this);
+		SolveStatus status = simplex.solveInt();
+		iterations = simplex.getIterations();
+		ruleIterations.putAll(simplex.getIterationsByRule());
+		if (status == SolveStatus.OPTIMAL) {
+			setRes(simplex.getValues());
+		}
+		return finish(status, null);
 	}
 
-	private int optimalIndFractional(List<Double> list, boolean max)
-			throws Exception {
+	private double getCutCoefficient(double x) {
+		return tolerances.fractional(x);
+	}
+
+	// -1, якщо дробових рядків немає; NO_CUT, якщо дробовий рядок має лише цілі коефіцієнти (задача недопустима)
+	private int deepestCutRow() {
 		int ind = -1;
 		boolean found = false;
-		for (int i = 0; i < list.size(); i++) {
-			if (list.get(i) != 0 && (ind == -1 ||
-					max && list.get(i) > list.get(ind) ||
-					!max && list.get(i) < list.get(ind))) {
-				found = true;
-				boolean hasFractional = false;
-				for (int j = 0; j < functions.get(i).coefficients.size(); j++) {
-					double fractional = getFractional(functions.get(i).coefficients.get(j));
-					hasFractional = hasFractional || fractional > 0.00001 && fractional < 0.99999;
-				}
-				if (hasFractional) {
-					ind = i;
-				}
+		boolean indAway = false;
+		double maxDepth = 0;
+		for (int i = 0; i < tableau.rows(); i++) {
+			double value = getCutCoefficient(tableau.getValue(i));
+			if (value == 0) {
+				continue;
+			}
+			found = true;
+			double norm = 0;
+			for (int j = 0; j < tableau.cols(); j++) {
+				double fractional = getCutCoefficient(tableau.get(i, j));
+				norm += fractional * fractional;
+			}
+			if (norm == 0) {
+				continue;
+			}
+			boolean away = value >= CUT_AWAY && value <= 1 - CUT_AWAY;
+			double depth = value / Math.sqrt(norm);
+			if (ind == -1 || away && !indAway || away == indAway && depth > maxDepth) {
+				ind = i;
+				indAway = away;
+				maxDepth = depth;
 			}
 		}
 
-		if (found && ind == -1) {
-			throw new Exception();
+		return found && ind == -1 ? NO_CUT : ind;
+	}
+
+	private Cut addCut(int ind) {
+		int row = tableau.rows();
+		int slack = tableau.addColumn();
+		tableau.addRow();
+		for (int i = 0; i < slack; i++) {
+			tableau.set(row, i, -getCutCoefficient(tableau.get(ind, i)));
 		}
-		return ind;
+		tableau.set(row, slack, 1.0);
+		tableau.setValue(row, -getCutCoefficient(tableau.getValue(ind)));
+		tableau.setBasis(row, slack);
+		listener.onCut(this, row);
+		return new Cut(slack);
 	}
 
-	public List<Double> findOptimalDualSimplex() {
-		setZcDiff();
-		print();
+	private void purgeCuts(List<Cut> cuts) {
+		int[] rows = new int[tableau.cols()];
+		Arrays.fill(rows, -1);
+		for (int i = 0; i < tableau.rows(); i++) {
+			rows[tableau.getBasis(i)] = i;
+		}
 
-		int minRow = minRow();
-		while (minRow != -1) {
-			int minCol = -1;
-			double minValue = 0;
-			for (int i = 0; i < coefNum; i++) {
-				if (functions.get(minRow).coefficients.get(i) < -0.00001) {
-					double value = -zcDiff.get(i) /
-							functions.get(minRow).coefficients.get(i);
-					if (functions.get(minRow).coefficients.get(i) < -0.00001 &&
-							(minCol == -1 || value < minValue)) {
-						minCol = i;
-						minValue = value;
-					}
+		List<Cut> removed = new ArrayList<>();
+		List<Cut> inactive = new ArrayList<>();
+		for (Cut cut : cuts) {
+			int row = rows[cut.slack];
+			if (row == -1) {
+				cut.age = 0;
+			} else if (++cut.age > CUT_AGE_LIMIT) {
+				removed.add(cut);
+			} else {
+				inactive.add(cut);
+			}
+		}
+		inactive.sort((first, second) -> second.age - first.age);
+		for (int k = 0; k < inactive.size() && cuts.size() - removed.size() > cutPoolSize; k++) {
+			removed.add(inactive.get(k));
+		}
+
+		for (Cut cut : removed) {
+			for (int i = 0; i < tableau.rows(); i++) {
+				if (tableau.getBasis(i) == cut.slack) {
+					tableau.removeRow(i);
+					break;
 				}
 			}
+			tableau.removeColumn(cut.slack);
+			cuts.remove(cut);
+			for (Cut other : cuts) {
+				if (other.slack > cut.slack) {
+					other.slack--;
+				}
+			}
+		}
+	}
 
-			if (minCol == -1) {
-				res.clear();
-				return null;
+	public SolveResult findOptimalDualSimplex() {
+		startTime = System.nanoTime();
+		warm = false;
+		if (tableau == null) {
+			return finish(SolveStatus.INFEASIBLE, null);
+		}
+		SolveStatus status = dualSimplex();
+		if (status == SolveStatus.OPTIMAL) {
+			setRes();
+		}
+		return finish(status, null);
+	}
+
+	private SolveStatus dualSimplex() {
+		phase(SolverMetrics.Phase.DUAL);
+		tableau.setZcDiff();
+		listener.onIteration(this, iterations);
+
+		int row = leavingRow();
+		while (row != -1) {
+			if (iterations >= iterationLimit) {
+				return SolveStatus.ITERATION_LIMIT;
 			}
-			toOne(minRow, minCol);
-			basis.set(minRow, minCol);
-			basisCoef.set(minRow, objective.coefficients.get(minCol));
-			setZcDiff();
+			int col = enteringColumn(row);
+			if (col == -1) {
+				return SolveStatus.INFEASIBLE;
+			}
+			if (tableau.getZcDiff(col) <= 0) {
+				degeneratePivots++;
+			}
+			pivot(row, col);
+			ruleIterations.merge("dual", 1, Integer::sum);
+			tableau.setZcDiff();
+
+			listener.onIteration(this, ++iterations);
+			row = leavingRow();
+		}
+		return SolveStatus.OPTIMAL;
+	}
 
-			print();
-			minRow = minRow();
+	// двоїсте правило найкрутішого ребра: з недопустимих рядків обирається рядок з найбільшим відношенням Bi^2 / |рядок i|^2
+	private int leavingRow() {
+		double feasibility = tolerances.feasibility(valueScale);
+		int row = -1;
+		double maxScore = 0;
+		for (int i = 0; i < tableau.rows(); i++) {
+			double value = tableau.getValue(i);
+			if (value < -feasibility) {
+				double score = value * value / tableau.squaredRowNorm(i);
+				if (row == -1 || score > maxScore) {
+					row = i;
+					maxScore = score;
+				}
+			}
 		}
+		return row;
+	}
 
-		return setRes();
+	// двоїсте правило мінімального відношення у два проходи (Гарріс): серед стовпців, відношення яких не перевищує
+	// мінімального з урахуванням допуску оптимальності, обирається стовпець з найбільшим за модулем ведучим елементом
+	private int enteringColumn(int row) {
+		double pivotTolerance = tolerances.pivot(rowScale(row));
+		double optimality = tableau.getOptimalityTolerance();
+		double bound = Double.POSITIVE_INFINITY;
+		for (int j = 0; j < tableau.cols(); j++) {
+			double coefficient = tableau.get(row, j);
+			if (coefficient < -pivotTolerance) {
+				bound = Math.min(bound, (Math.max(tableau.getZcDiff(j), 0) + optimality) / -coefficient);
+			}
+		}
+		int col = -1;
+		for (int j = 0; j < tableau.cols(); j++) {
+			double coefficient = tableau.get(row, j);
+			if (coefficient < -pivotTolerance && Math.max(tableau.getZcDiff(j), 0) / -coefficient <= bound &&
+					(col == -1 || coefficient < tableau.get(row, col))) {
+				col = j;
+			}
+		}
+		return col;
 	}
 
 	private int minRow() {
 		int minRow = -1;
-		for (int i = 0; i < functions.size(); i++) {
-			if (functions.get(i).value < -0.00001 && (minRow == -1 ||
-					functions.get(i).value < functions.get(minRow).value)) {
+		double feasibility = tolerances.feasibility(valueScale);
+		for (int i = 0; i < tableau.rows(); i++) {
+			if (tableau.getValue(i) < -feasibility && (minRow == -1 ||
+					tableau.getValue(i) < tableau.getValue(minRow))) {
 				minRow = i;
 			}
 		}
 		return minRow;
 	}
 
-	public List<Double> getOptimal(boolean max) {
-		getOptimal(max, false);
-		return res;
+	public SolveResult getOptimal(boolean max) {
+		return getOptimal(max, false);
 	}
 
-	public List<Double> getOptimal(boolean max, boolean additionalVariable) {
+	public SolveResult getOptimal(boolean max, boolean additionalVariable) {
+		return getOptimal(max, additionalVariable, Mode.TABLEAU);
+	}
+
+	public SolveResult getOptimal(boolean max, Mode mode) {
+		return getOptimal(max, false, mode);
+	}
+
+	public SolveResult getOptimal(boolean max, boolean additionalVariable, Mode mode) {
+		return getOptimal(max, additionalVariable, mode, presolve);
+	}
+
+	private SolveResult getOptimal(boolean max, boolean additionalVariable, Mode mode, boolean presolve) {
+		startTime = System.nanoTime();
 		if (max == inverse) {
-			objective.multiply(-1);
+			ownObjective().multiply(-1);
 			inverse = !inverse;
 		}
-		setDelimiter();
+		negated = new boolean[functions.size()];
+		for (int i = 0; i < negated.length; i++) {
+			negated[i] = functions.get(i).value < 0;
+		}
+		updateScales();
+		if (presolve && matrix == null) {
+			return solvePresolved(additionalVariable, mode);
+		}
+		SolveResult result = solve(additionalVariable, mode);
+		return result != null ? result : solve(false, mode);
+	}
 
-		print();
-		if (!setBasis(additionalVariable)) {
-			print();
-			res.clear();
-			printResult();
-			return null;
+	private SolveResult solve(boolean bigM, Mode mode) {
+		iterations = 0;
+		degeneratePivots = 0;
+		ruleIterations.clear();
+		warm = false;
+		phase(SolverMetrics.Phase.INITIAL_BASIS);
+		if (mode == Mode.SPARSE) {
+			return getOptimalSparse(bigM);
+		}
+		if (mode == Mode.DUAL) {
+			SolveResult result = solveDual();
+			if (result != null) {
+				return result;
+			}
+		}
+		tableau = newTableau();
+
+		listener.onStart(this);
+		normalizeValues();
+		unitColumns = tableau.findUnitColumns();
+		int firstArtificial = tableau.cols();
+		addArtificial(bigM);
+
+		if (mode == Mode.REVISED) {
+			int[] basis = new int[tableau.rows()];
+			for (int i = 0; i < basis.length; i++) {
+				basis[i] = tableau.getBasis(i);
+			}
+			return getOptimalRevised(tableau, basis, firstArtificial, bigM);
 		}
 
-		for (Integer ind : basis) {
-			basisCoef.add(objective.coefficients.get(ind));
+		SolveStatus status = bigM ? SolveStatus.OPTIMAL : phaseOne(firstArtificial);
+		if (status == SolveStatus.OPTIMAL) {
+			phase(SolverMetrics.Phase.PRIMAL);
+			status = primalSimplex(pricing.get());
 		}
-		if (additionalVariable) {
-			print();
+		// при скінченному штрафі задача з додатною штучною змінною може бути необмеженою, хоча вона недопустима
+		if (bigM && status == SolveStatus.UNBOUNDED) {
+			phase(null);
+			return null;
+		}
+		if (bigM && status == SolveStatus.OPTIMAL) {
+			for (int i = 0; i < tableau.rows(); i++) {
+				if (tableau.getBasis(i) >= firstArtificial && tableau.getValue(i) > tolerances.feasibility(valueScale)) {
+					phase(null);
+					return null;
+				}
+			}
 		}
+		return finishPrimal(status);
+	}
 
-		do {
-			setZcDiff();
-			print();
-
-			int maxNotOpt = -1;
-			for (int i = 0; i < zcDiff.size(); i++) {
-				if (zcDiff.get(i) < 0) {
-					if (maxNotOpt == -1 ||
-							Math.abs(zcDiff.get(i)) > Math.abs(zcDiff.get(maxNotOpt))) {
-						maxNotOpt = i;
+	// двоїстий симплекс-метод з двоїсто допустимого початкового базису; null, якщо такого базису немає
+	private SolveResult solveDual() {
+		tableau = newTableau();
+		listener.onStart(this);
+		int rows = tableau.rows();
+		boolean[] flipped = new boolean[rows];
+		if (startBasis == null) {
+			// рядок без одиничного стовпця множиться на -1 (нерівність >= з додатковою змінною -1)
+			int[] units = tableau.findUnitColumns();
+			for (int i = 0; i < rows; i++) {
+				if (units[i] == -1) {
+					tableau.multiply(i, -1);
+					flipped[i] = true;
+				}
+			}
+			unitColumns = tableau.findUnitColumns();
+			for (int i = 0; i < rows; i++) {
+				if (unitColumns[i] == -1) {
+					return null;
+				}
+				tableau.setBasis(i, unitColumns[i]);
+			}
+		} else {
+			if (startBasis.length != rows) {
+				return null;
+			}
+			unitColumns = tableau.findUnitColumns();
+			boolean[] assigned = new boolean[rows];
+			for (int col : startBasis) {
+				if (col < 0 || col >= tableau.cols()) {
+					return null;
+				}
+				int row = -1;
+				double pivotTolerance = tolerances.pivot(columnScale(col));
+				for (int i = 0; i < rows; i++) {
+					double coefficient = Math.abs(tableau.get(i, col));
+					if (!assigned[i] && coefficient > pivotTolerance && (row == -1 || coefficient > Math.abs(tableau.get(row, col)))) {
+						row = i;
 					}
 				}
+				if (row == -1) {
+					return null;
+				}
+				assigned[row] = true;
+				pivot(row, col);
+			}
+		}
+		listener.onInitialBasis(this);
+
+		tableau.setZcDiff();
+		for (int j = 0; j < tableau.cols(); j++) {
+			if (tableau.getZcDiff(j) < -tableau.getOptimalityTolerance()) {
+				return null;
+			}
+		}
+		negated = flipped;
+		return finishPrimal(dualSimplex());
+	}
+
+	private SolveResult solvePresolved(boolean bigM, Mode mode) {
+		iterations = 0;
+		degeneratePivots = 0;
+		ruleIterations.clear();
+		warm = false;
+		tableau = null;
+		phase(SolverMetrics.Phase.PRESOLVE);
+		Presolve presolve = new Presolve(objective, functions, coefNum, tolerances);
+		SolveStatus status = presolve.presolve();
+		phase(null);
+		if (status != SolveStatus.OPTIMAL) {
+			return finish(status, null);
+		}
+		double[] x = new double[presolve.getCols()];
+		double[] duals = new double[0];
+		if (presolve.getRows() > 0) {
+			FunctionSystem reduced = presolve.getReduced();
+			reduced.listener = withoutTermination(listener);
+			reduced.iterationLimit = iterationLimit;
+			reduced.parallelThreshold = parallelThreshold;
+			reduced.pricing = pricing;
+			reduced.tolerances = tolerances;
+			reduced.workspace = workspace;
+			reduced.phases.setMetrics(phases.getMetrics());
+			reduced.phases.setNested(true);
+			SolveResult result = reduced.getOptimal(true, bigM, mode);
+			iterations = result.getIterations();
+			degeneratePivots = reduced.degeneratePivots;
+			ruleIterations.putAll(result.getIterationsByRule());
+			if (!result.isOptimal()) {
+				return finish(result.getStatus(), null);
+			}
+			x = result.getValues();
+			duals = result.getDuals();
+		}
+		setRes(presolve.postsolve(x));
+		duals = presolve.postsolveDuals(duals);
+		for (int i = 0; inverse && duals != null && i < duals.length; i++) {
+			duals[i] = -duals[i];
+		}
+		return finish(SolveStatus.OPTIMAL, duals);
+	}
+
+	// ітерації спрощеної задачі передаються спостерігачу, а завершення - лише для початкової задачі
+	static SolverListener withoutTermination(SolverListener listener) {
+		return new SolverListener() {
+			@Override
+			public void onStart(FunctionSystem system) {
+				listener.onStart(system);
+			}
+
+			@Override
+			public void onInitialBasis(FunctionSystem system) {
+				listener.onInitialBasis(system);
 			}
 
+			@Override
+			public void onIteration(FunctionSystem system, int iteration) {
+				listener.onIteration(system, iteration);
+			}
+
+			@Override
+			public void onPivot(FunctionSystem system, int row, int col) {
+				listener.onPivot(system, row, col);
+			}
+
+			@Override
+			public void onBasisChange(FunctionSystem system, int row, int leaving, int entering) {
+				listener.onBasisChange(system, row, leaving, entering);
+			}
+		};
+	}
+
+	private SolveResult finishPrimal(SolveStatus status) {
+		if (status != SolveStatus.OPTIMAL) {
+			return finish(status, null);
+		}
+		setRes();
+		warm = tableau.cols() == coefNum;
+		SolveResult result = finish(SolveStatus.OPTIMAL, getDuals(unitColumns));
+		optimalBasis = true;
+		return result;
+	}
+
+	private SolveStatus primalSimplex(PricingRule rule) {
+		rule.start(tableau);
+		PricingRule active = rule;
+		int degenerate = 0;
+		do {
+			tableau.setZcDiff();
+			listener.onIteration(this, iterations);
+
+			int maxNotOpt = active.select(tableau);
 			if (maxNotOpt == -1) {
-				setRes();
-				printResult();
-				return res;
+				return SolveStatus.OPTIMAL;
+			}
+			if (iterations >= iterationLimit) {
+				return SolveStatus.ITERATION_LIMIT;
 			}
 
-			int minPropInd = -1;
-			double minProportion = 0;
-			for (int i = 0; i < functions.size(); i++) {
-				double coefficient = functions.get(i).coefficients.get(maxNotOpt);
-				if (coefficient > 0) {
-					double proportion = functions.get(i).value / coefficient;
-					if (minPropInd == -1 || minProportion > proportion) {
-						minPropInd = i;
-						minProportion = proportion;
-					}
+			boolean bland = active instanceof BlandPricing;
+			int minPropInd = ratioRow(maxNotOpt, bland);
+			if (minPropInd == -1) {
+				return SolveStatus.UNBOUNDED;
+			}
+			double minProportion = tableau.getValue(minPropInd) / tableau.get(minPropInd, maxNotOpt);
+			rule.update(tableau, minPropInd, maxNotOpt);
+			pivot(minPropInd, maxNotOpt);
+			iterations++;
+			ruleIterations.merge(active.name(), 1, Integer::sum);
+
+			if (minProportion > 0) {
+				degenerate = 0;
+				active = rule;
+			} else {
+				degeneratePivots++;
+				if (++degenerate >= DEGENERATE_PIVOTS && !bland) {
+					active = new BlandPricing();
 				}
 			}
+		} while (true);
+	}
 
-			if (minPropInd != -1) {
-				toOne(minPropInd, maxNotOpt);
-				basis.set(minPropInd, maxNotOpt);
-				basisCoef.set(minPropInd,
-						objective.coefficients.get(basis.get(minPropInd)));
-			} else {
-				res.clear();
-				printResult();
+	// тест мінімального відношення: серед рядків з однаковим відношенням - рядок з найбільшим ведучим елементом
+	// (за правилом Бленда - з найменшою базисною змінною); -1, якщо стовпець не обмежений
+	private int ratioRow(int col, boolean bland) {
+		int minPropInd = -1;
+		double minProportion = 0;
+		double pivotTolerance = tolerances.pivot(columnScale(col));
+		for (int i = 0; i < tableau.rows(); i++) {
+			double coefficient = tableau.get(i, col);
+			if (coefficient > pivotTolerance) {
+				double proportion = tableau.getValue(i) / coefficient;
+				if (minPropInd == -1 || minProportion > proportion || minProportion == proportion && (bland ?
+						tableau.getBasis(i) < tableau.getBasis(minPropInd) :
+						coefficient > tableau.get(minPropInd, col))) {
+					minPropInd = i;
+					minProportion = proportion;
+				}
+			}
+		}
+		return minPropInd;
+	}
+
+	private SolveResult getOptimalSparse(boolean bigM) {
+		SparseMatrix model = sparseModel();
+		int[] basis = model.findUnitBasis();
+		int firstArtificial = model.cols();
+		for (int b : basis) {
+			if (b == -1) {
+				model = model.withArtificial(basis, bigM ? -penalty() : 0.0);
+				break;
+			}
+		}
+		return getOptimalRevised(model, basis, firstArtificial, bigM);
+	}
+
+	private SolveResult getOptimalRevised(ConstraintMatrix model, int[] basis, int firstArtificial, boolean bigM) {
+		tableau = null;
+		RevisedSimplex simplex = new RevisedSimplex(model, basis);
+		simplex.setListener(listener, this);
+		simplex.setTolerances(tolerances);
+		simplex.setIterationLimit(iterationLimit);
+		simplex.setRecorder(phases);
+		if (!bigM) {
+			simplex.setArtificial(firstArtificial);
+		}
+		double[] x = simplex.solve();
+		iterations = simplex.getIterations();
+		degeneratePivots = simplex.getDegeneratePivots();
+		phases.phase(null, iterations, degeneratePivots, model.rows(), model.cols());
+		if (iterations > simplex.getBlandIterations()) {
+			ruleIterations.put("dantzig", iterations - simplex.getBlandIterations());
+		}
+		if (simplex.getBlandIterations() > 0) {
+			ruleIterations.put("bland", simplex.getBlandIterations());
+		}
+		if (x == null) {
+			return bigM && simplex.getStatus() == SolveStatus.UNBOUNDED ? null : finish(simplex.getStatus(), null);
+		}
+		for (int j = firstArtificial; bigM && j < x.length; j++) {
+			if (x[j] > tolerances.feasibility(valueScale)) {
 				return null;
 			}
-		} while (true);
+		}
+		setRes(x);
+		return finish(SolveStatus.OPTIMAL, toModelDuals(simplex.getDuals()));
 	}
 
-	private boolean setBasis(boolean additionalVariable) {
-		basis.clear();
-		basisCoef.clear();
-		for (Function f : functions) {
-			if (f.value < -0.001) {
-				f.multiply(-1);
+	private double[] getDuals(int[] unitColumns) {
+		double[] duals = new double[tableau.rows()];
+		for (int i = 0; i < duals.length; i++) {
+			int col = unitColumns[i];
+			if (col == -1) {
+				return getFactorizedDuals();
 			}
+			duals[i] = tableau.getZcDiff(col) + tableau.getCost(col);
 		}
+		return toModelDuals(duals);
+	}
 
-		for (int i = 0; i < functions.size(); i++) {
-			for (int j = 0; j < coefNum; j++) {
+	private double[] getFactorizedDuals() {
+		BasisFactorization factorization = factorizeBasis();
+		if (factorization == null) {
+			return null;
+		}
+		double[] duals = new double[tableau.rows()];
+		for (int i = 0; i < duals.length; i++) {
+			duals[i] = tableau.getCost(tableau.getBasis(i));
+		}
+		factorization.btran(duals);
+		for (int i = 0; i < duals.length && i < functions.size(); i++) {
+			if ((functions.get(i).value < 0) != negated[i]) {
+				duals[i] = -duals[i];
+			}
+		}
+		return toModelDuals(duals);
+	}
+
+	// LU-розклад базису таблиці над матрицею моделі; штучна змінна в базисі замінюється одиничним стовпцем свого рядка
+	BasisFactorization factorizeBasis() {
+		SparseMatrix model = sparseModel();
+		int cols = model.cols();
+		int[] basis = new int[tableau.rows()];
+		int[] artificial = null;
+		for (int i = 0; i < basis.length; i++) {
+			basis[i] = tableau.getBasis(i);
+			if (basis[i] >= cols) {
+				int row = unitRow(basis[i]);
+				if (row == -1) {
+					return null;
+				}
+				if (artificial == null) {
+					artificial = new int[basis.length];
+				}
+				artificial[row] = -1;
+			}
+		}
+		if (artificial != null) {
+			model = model.withArtificial(artificial, 0);
+			for (int i = 0; i < basis.length; i++) {
+				if (basis[i] >= cols) {
+					basis[i] = artificial[unitRow(basis[i])];
+				}
+			}
+		}
+		BasisFactorization factorization = new BasisFactorization(basis.length, 1);
+		return factorization.factorize(model, basis) ? factorization : null;
+	}
+
+	private int unitRow(int col) {
+		for (int i = 0; i < unitColumns.length; i++) {
+			if (unitColumns[i] == col) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private double[] toModelDuals(double[] duals) {
+		for (int i = 0; i < duals.length && i < negated.length; i++) {
+			if (negated[i] != inverse) {
+				duals[i] = -duals[i];
+			}
+		}
+		return duals;
+	}
+
+	SolveResult finish(SolveStatus status, double[] duals) {
+		optimalBasis = false;
+		if (status != SolveStatus.OPTIMAL) {
+			res.clear();
+		}
+		listener.onTermination(this, status);
+		phase(null);
+		long time = System.nanoTime() - startTime;
+		phases.solved(status, time, iterations, degeneratePivots);
+		if (status != SolveStatus.OPTIMAL) {
+			return SolveResult.failed(status, iterations, ruleIterations, time);
+		}
+		double[] values = new double[res.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = res.get(i);
+		}
+		return new SolveResult(status, values, duals, getObjectiveValue(), iterations, ruleIterations, time);
+	}
+
+	// розріджена матриця моделі; будується один раз і використовується повторно, доки рядки чи цільова функція не змінені
+	SparseMatrix sparseModel() {
+		if (matrix != null) {
+			return matrix;
+		}
+		if (sparse == null) {
+			sparse = SparseMatrix.of(objective, functions, coefNum);
+		}
+		return sparse;
+	}
+
+	private Tableau newTableau() {
+		Tableau tableau;
+		if (matrix != null) {
+			tableau = (workspace == null ? new Tableau(0, 0) : workspace).load(matrix);
+		} else {
+			tableau = workspace == null ? Tableau.of(objective, functions, coefNum)
+					: workspace.load(objective, functions, coefNum);
+		}
+		tableau.setParallelThreshold(parallelThreshold);
+		tableau.setOptimalityTolerance(tolerances.optimality(costScale));
+		return tableau;
+	}
+
+	// завершує поточний етап розв'язання (SolverMetrics) і починає етап next
+	private void phase(SolverMetrics.Phase next) {
+		phases.phase(next, iterations, degeneratePivots, tableau == null ? 0 : tableau.rows(), tableau == null ? 0 : tableau.cols());
+	}
+
+	private void pivot(int row, int col) {
+		listener.onPivot(this, row, col);
+		int leaving = tableau.getBasis(row);
+		tableau.toOne(row, col);
+		tableau.setBasis(row, col);
+		listener.onBasisChange(this, row, leaving, col);
+	}
+
+	private void normalizeValues() {
+		for (int i = 0; i < tableau.rows(); i++) {
+			if (tableau.getValue(i) < 0) {
+				tableau.multiply(i, -1);
+			}
+		}
+	}
+
+	private void addArtificial(boolean bigM) {
+		for (int i = 0; i < tableau.rows(); i++) {
+			int basisCol = -1;
+			for (int j = 0; j < tableau.cols() && basisCol == -1; j++) {
 				if (isBasis(i, j)) {
-					basis.add(j);
-					break;
+					basisCol = j;
 				}
 			}
-			if (basis.size() == i + 1) {
-				continue;
+			if (basisCol == -1) {
+				basisCol = tableau.addColumn();
+				tableau.set(i, basisCol, 1.0);
+				if (unitColumns[i] == -1) {
+					unitColumns[i] = basisCol;
+				}
+			} else if (!isUnit(i, basisCol)) {
+				tableau.toOne(i, basisCol);
 			}
+			tableau.setBasis(i, basisCol);
+		}
+		if (bigM) {
+			double penalty = penalty();
+			for (int j = coefNum; j < tableau.cols(); j++) {
+				tableau.setCost(j, -penalty);
+			}
+		}
+		listener.onInitialBasis(this);
+	}
 
-			if (additionalVariable) {
-				functions.get(i).coefficients.add(1.0);
-				for (int j = 0; j < functions.size(); j++) {
-					if (j != i) {
-						functions.get(j).coefficients.add(0.0);
-					}
+	private double penalty() {
+		double max = 1;
+		for (double c : objective.coefficients) {
+			max = Math.max(max, Math.abs(c));
+		}
+		return PENALTY_FACTOR * max;
+	}
+
+	private SolveStatus phaseOne(int firstArtificial) {
+		int cols = tableau.cols();
+		if (firstArtificial == cols) {
+			return SolveStatus.OPTIMAL;
+		}
+		phase(SolverMetrics.Phase.PHASE_ONE);
+		double[] cost = new double[cols];
+		for (int j = 0; j < cols; j++) {
+			cost[j] = tableau.getCost(j);
+			tableau.setCost(j, j < firstArtificial ? 0 : -1);
+		}
+		tableau.setOptimalityTolerance(tolerances.optimality(1));
+		SolveStatus status = primalSimplex(new BlandPricing());
+		for (int j = 0; j < cols; j++) {
+			tableau.setCost(j, j < firstArtificial ? cost[j] : 0);
+		}
+		tableau.setOptimalityTolerance(tolerances.optimality(costScale));
+		if (status != SolveStatus.OPTIMAL) {
+			return status;
+		}
+
+		boolean[] basic = new boolean[cols];
+		for (int i = 0; i < tableau.rows(); i++) {
+			if (tableau.getBasis(i) >= firstArtificial) {
+				if (tableau.getValue(i) > tolerances.feasibility(valueScale)) {
+					return SolveStatus.INFEASIBLE;
 				}
-				objective.coefficients.add(-100.0);
-				basis.add(++coefNum - 1);
-			} else {
-				int min = -1;
-				for (int j = 0; j < coefNum; j++) {
-					double multiply = functions.get(i).value == 0 ? functions.get(i).coefficients.get(j)
-							: functions.get(i).coefficients.get(j) * functions.get(i).value;
-					if (Math.abs(functions.get(i).coefficients.get(j)) > 0.0001 &&
-							multiply > 0) {
-						if (min == -1 || Math.abs(functions.get(i).coefficients.get(j)) < Math.abs(functions.get(i).coefficients.get(min))) {
-							min = j;
-						}
+				int col = -1;
+				double pivotTolerance = tolerances.pivot(rowScale(i));
+				for (int j = 0; j < firstArtificial; j++) {
+					double coefficient = Math.abs(tableau.get(i, j));
+					if (coefficient > pivotTolerance && (col == -1 || coefficient > Math.abs(tableau.get(i, col)))) {
+						col = j;
 					}
 				}
-				if (min != -1) {
-					toOne(i, min);
+				if (col != -1) {
+					pivot(i, col);
 				}
-				basis.add(min);
 			}
+			basic[tableau.getBasis(i)] = true;
 		}
-
-		print();
-		boolean loop;
-		int num = 0;
-		do {
-			loop = false;
-			for (int i = 0; i < functions.size(); i++) {
-				if (functions.get(i).value < -0.0001) {
-					int min = -1;
-					for (int j = 0; j < coefNum; j++) {
-						if (functions.get(i).coefficients.get(j) < -0.0001) {
-							if (min == -1 ||
-									functions.get(i).coefficients.get(j) < functions.get(i).coefficients.get(min)) {
-								min = j;
-							}
-						}
-					}
-					if (min != -1) {
-						toOne(i, min);
-						basis.set(i, min);
+		for (int j = cols - 1; j >= firstArtificial; j--) {
+			if (!basic[j]) {
+				tableau.removeColumn(j);
+				for (int i = 0; i < unitColumns.length; i++) {
+					if (unitColumns[i] == j) {
+						unitColumns[i] = -1;
+					} else if (unitColumns[i] > j) {
+						unitColumns[i]--;
 					}
-					loop = true;
 				}
 			}
-			num++;
-			if (num > 100) {
-				return false;
-			}
-		} while (loop);
-
-		for (int b : basis) {
-			if (b == -1) {
-				return false;
-			}
 		}
-		return true;
+		return SolveStatus.OPTIMAL;
 	}
 
 	private boolean isBasis(int x, int y) {
-		if (functions.get(x).coefficients.get(y) != 1) {
+		double pivotTolerance = tolerances.pivot(1);
+		if (Math.abs(tableau.get(x, y) - 1) > pivotTolerance) {
 			return false;
 		}
-		for (int i = 0; i < functions.size(); i++) {
-			if (i != x && Math.abs(functions.get(i).coefficients.get(y)) > 0.00001) {
+		for (int i = 0; i < tableau.rows(); i++) {
+			if (i != x && Math.abs(tableau.get(i, y)) > pivotTolerance) {
 				return false;
 			}
 		}
 		return true;
 	}
 
-	private void setZcDiff() {
-		for (int i = 0; i < coefNum; i++) {
-			if (zcDiff.size() < (i + 1)) {
-				zcDiff.add(getVectorMultiplication(basisCoef, i));
-			} else {
-				zcDiff.set(i, getVectorMultiplication(basisCoef, i));
+	private boolean isUnit(int x, int y) {
+		for (int i = 0; i < tableau.rows(); i++) {
+			if (tableau.get(i, y) != (i == x ? 1 : 0)) {
+				return false;
 			}
 		}
+		return true;
+	}
+
+	private double rowScale(int x) {
+		double scale = 0;
+		for (int j = 0; j < tableau.cols(); j++) {
+			scale = Math.max(scale, Math.abs(tableau.get(x, j)));
+		}
+		return scale;
+	}
+
+	private double columnScale(int y) {
+		double scale = 0;
+		for (int i = 0; i < tableau.rows(); i++) {
+			scale = Math.max(scale, Math.abs(tableau.get(i, y)));
+		}
+		return scale;
+	}
+
+	private void updateScales() {
+		valueScale = 0;
+		for (Function function : functions) {
+			valueScale = Math.max(valueScale, Math.abs(function.value));
+		}
+		costScale = 0;
+		for (double c : objective.coefficients) {
+			costScale = Math.max(costScale, Math.abs(c));
+		}
 	}
 
 	protected List<Double> setRes() {
-		res = new ArrayList<>(coefNum);
-		for (int i = 0; i < coefNum; i++) {
-			res.add(0.0);
+		double[] x = new double[tableau.cols()];
+		for (int i = 0; i < tableau.rows(); i++) {
+			x[tableau.getBasis(i)] = tableau.getValue(i);
 		}
-		for (int i = 0; i < basis.size(); i++) {
-			res.set(basis.get(i), functions.get(i).value);
+		return setRes(x);
+	}
+
+	protected List<Double> setRes(double[] x) {
+		res = new ArrayList<>(x.length);
+		for (double v : x) {
+			res.add(v);
 		}
 		return res;
 	}
 
-	public void setDelimiter() {
-		delimiter = "+" + ("-".repeat(10) + "+").repeat(coefNum + 2);
+	public double getObjectiveValue() {
+		return inverse ? -getObjectiveValue(res) : getObjectiveValue(res);
 	}
 
 	public double getObjectiveValue(List<Double> x) {
 		double res = 0;
-		for (int i = 0; i < x.size(); i++) {
+		int size = Math.min(x.size(), objective.coefficients.size());
+		for (int i = 0; i < size; i++) {
 			res += objective.coefficients.get(i) * x.get(i);
 		}
 		return res;
 	}
 
-	public void addFunction(Function function) {
-		functions.add(function);
-		for (int i = function.coefficients.size(); i < coefNum; i++) {
+	// рядок index, який можна змінювати: рядок, спільний з іншою копією системи, спочатку копіюється
+	protected Function ownFunction(int index) {
+		sparse = null;
+		Function function = functions.get(index);
+		if (function.shared) {
+			function = new Function(function);
+			functions.set(index, function);
+		}
+		return function;
+	}
+
+	protected Function ownObjective() {
+		sparse = null;
+		if (objective.shared) {
+			objective = new Function(objective);
+		}
+		return objective;
+	}
+
+	// цільова функція, яку можна змінювати, з явними коефіцієнтами для перших size змінних
+	private Function ownObjective(int size) {
+		Function function = ownObjective();
+		while (function.coefficients.size() < size) {
 			function.coefficients.add(0.0);
 		}
+		return function;
+	}
+
+	public void addFunction(Function function) {
+		// рядок, спільний з іншою копією системи, доповнюється в копії
+		if (function.shared) {
+			function = new Function(function);
+		}
+		Function.Sign sign = function.sign;
+		optimalBasis = false;
+		sparse = null;
+		functions.add(function);
+		// рядок зберігається розріджено, тому доповнення нулями до coefNum не виділяє пам'яті
+		SparseCoefficients coefficients = function.coefficients instanceof SparseCoefficients sparseRow ? sparseRow
+				: new SparseCoefficients(function.coefficients);
+		coefficients.resize(coefNum);
+		function.coefficients = coefficients;
 		if (function.sign == Function.Sign.GREATER) {
 			function.coefficients.add(-1.0);
 		} else if (function.sign == Function.Sign.LESS) {
 			function.coefficients.add(1.0);
 		}
+		// коефіцієнти інших рядків для нової додаткової змінної нульові і не зберігаються, тому рядки не змінюються
 		if (function.sign != Function.Sign.EQUAL) {
-			for (Function f : functions) {
-				if (!function.equals(f)) {
-					f.coefficients.add(0.0);
-				}
-			}
-			objective.coefficients.add(0.0);
+			ownObjective().coefficients.add(0.0);
 			coefNum++;
 		}
 		function.sign = Function.Sign.EQUAL;
+		if (warm && sign != Function.Sign.EQUAL) {
+			addTableauRow(function);
+		} else {
+			warm = false;
+		}
 	}
 
 	public void addFunctionComplete(Function function) {
 		functions.add(function);
+		sparse = null;
+		warm = false;
+		optimalBasis = false;
 	}
 
-	public void print() {
-		setDelimiter();
-		if (prevCoefNum != coefNum) {
-			printHeader();
-			prevCoefNum = coefNum;
+	public void removeFunction(int index) {
+		optimalBasis = false;
+		sparse = null;
+		int slack = slackColumn(index);
+		if (warm && slack != -1) {
+			removeTableauRow(slack);
+		} else {
+			warm = false;
 		}
-		printFunctions();
-		if (!zcDiff.isEmpty()) {
-			printZCDiff();
+		functions.remove(index);
+		if (slack != -1) {
+			for (int i = 0; i < functions.size(); i++) {
+				if (slack < functions.get(i).coefficients.size()) {
+					ownFunction(i).coefficients.remove(slack);
+				}
+			}
+			if (slack < objective.coefficients.size()) {
+				ownObjective().coefficients.remove(slack);
+			}
+			coefNum--;
+		}
+		if (warm) {
+			boolean[] newNegated = new boolean[negated.length - 1];
+			int[] newUnitColumns = new int[unitColumns.length - 1];
+			for (int i = 0, k = 0; i < negated.length; i++) {
+				if (i != index) {
+					newNegated[k] = negated[i];
+					newUnitColumns[k++] = unitColumns[i] > slack ? unitColumns[i] - 1 : unitColumns[i];
+				}
+			}
+			negated = newNegated;
+			unitColumns = newUnitColumns;
 		}
 	}
 
-	public void printHeader() {
-		System.out.println(delimiter);
-		System.out.println("|%10s".formatted("") +
-				objective.coefToString() + "%10s|".formatted("b"));
-		System.out.println(delimiter);
+	public void setValue(int index, double value) {
+		Function function = ownFunction(index);
+		double delta = value - function.value;
+		function.value = value;
+		optimalBasis = false;
+		if (!warm) {
+			return;
+		}
+
+		int col = unitColumns[index];
+		double scale = 1;
+		if (col == -1) {
+			col = slackColumn(index);
+			if (col == -1) {
+				warm = false;
+				return;
+			}
+			scale = negated[index] ? -function.coefficients.get(col) : function.coefficients.get(col);
+		}
+		double change = (negated[index] ? -delta : delta) / scale;
+		for (int i = 0; i < tableau.rows(); i++) {
+			tableau.setValue(i, tableau.getValue(i) + tableau.get(i, col) * change);
+		}
 	}
 
-	public void printFunctions() {
-		for (int i = 0; i < functions.size(); i++) {
-			System.out.printf("|%6.1f p%-2d%s%n",
-					basisCoef.isEmpty() ? 0 : basisCoef.get(i),
-					basis.isEmpty() ? 0 : basis.get(i) + 1,
-					functions.get(i).toString());
+	public void setObjectiveCoefficient(int index, double value) {
+		double coefficient = inverse ? -value : value;
+		ownObjective(index + 1).coefficients.set(index, coefficient);
+		optimalBasis = false;
+		if (warm) {
+			tableau.setCost(index, coefficient);
 		}
-		System.out.println(delimiter);
 	}
 
-	private void printZCDiff() {
-		StringBuilder builder = new StringBuilder("|%10s|".formatted(""));
-		for (double v : zcDiff) {
-			builder.append("%10.5f|".formatted(v));
+	public SolveResult resolve(boolean max) {
+		if (max == inverse) {
+			ownObjective().multiply(-1);
+			inverse = !inverse;
+			optimalBasis = false;
+			if (warm) {
+				for (int j = 0; j < coefNum; j++) {
+					tableau.setCost(j, objective.coefficient(j));
+				}
+			}
 		}
-		builder.append("%10.5f|".formatted(getVectorMultiplication(basisCoef, coefNum)));
+		return resolve();
+	}
 
-		System.out.println(builder);
-		System.out.println(delimiter);
+	public SolveResult resolve() {
+		if (!warm) {
+			return getOptimal(!inverse);
+		}
+		startTime = System.nanoTime();
+		iterations = 0;
+		degeneratePivots = 0;
+		ruleIterations.clear();
+		warm = false;
+		updateScales();
+		tableau.setOptimalityTolerance(tolerances.optimality(costScale));
+		listener.onStart(this);
+		tableau.setZcDiff();
+		if (minRow() == -1) {
+			phase(SolverMetrics.Phase.PRIMAL);
+			return finishPrimal(primalSimplex(pricing.get()));
+		}
+		for (int j = 0; j < tableau.cols(); j++) {
+			if (tableau.getZcDiff(j) < -tableau.getOptimalityTolerance()) {
+				return getOptimal(!inverse);
+			}
+		}
+		return finishPrimal(dualSimplex());
+	}
+
+	// переводить збережену таблицю в базис basis (стовпці по рядках) кроками жорданових виключень, не змінюючи модель;
+	// BranchAndBound так відновлює базис батьківського вузла. false, якщо стовпець базису не може увійти в базис
+	boolean restoreBasis(int[] basis) {
+		if (!warm || basis.length != tableau.rows()) {
+			return false;
+		}
+		boolean[] target = new boolean[tableau.cols()];
+		for (int col : basis) {
+			if (col < 0 || col >= target.length) {
+				return false;
+			}
+			target[col] = true;
+		}
+		boolean[] basic = new boolean[tableau.cols()];
+		for (int i = 0; i < tableau.rows(); i++) {
+			basic[tableau.getBasis(i)] = true;
+		}
+		optimalBasis = false;
+		for (int col : basis) {
+			if (basic[col]) {
+				continue;
+			}
+			// виходить базисна змінна, якої немає в basis, з найбільшим за модулем ведучим елементом
+			double pivotTolerance = tolerances.pivot(columnScale(col));
+			int row = -1;
+			for (int i = 0; i < tableau.rows(); i++) {
+				double coefficient = Math.abs(tableau.get(i, col));
+				if (!target[tableau.getBasis(i)] && coefficient > pivotTolerance
+						&& (row == -1 || coefficient > Math.abs(tableau.get(row, col)))) {
+					row = i;
+				}
+			}
+			if (row == -1) {
+				return false;
+			}
+			basic[tableau.getBasis(row)] = false;
+			pivot(row, col);
+			basic[col] = true;
+		}
+		return true;
+	}
+
+	private void addTableauRow(Function function) {
+		int slack = tableau.addColumn();
+		int row = tableau.rows();
+		tableau.addRow();
+		boolean negate = function.value < 0;
+		double sign = negate ? -1 : 1;
+		for (int j = 0; j <= slack; j++) {
+			tableau.set(row, j, function.coefficients.get(j) * sign);
+		}
+		tableau.setValue(row, function.value * sign);
+		tableau.eliminateBasis(row);
+		boolean unit = tableau.get(row, slack) > 0;
+		if (!unit) {
+			tableau.multiply(row, -1);
+		}
+		tableau.setBasis(row, slack);
+
+		negated = Arrays.copyOf(negated, negated.length + 1);
+		negated[negated.length - 1] = negate;
+		// одиничний стовпець рядка, в якому новий рядок має ненульовий коефіцієнт, вже не дорівнює e_i
+		for (int i = 0; i < unitColumns.length; i++) {
+			if (unitColumns[i] != -1 && function.coefficient(unitColumns[i]) != 0) {
+				unitColumns[i] = -1;
+			}
+		}
+		unitColumns = Arrays.copyOf(unitColumns, unitColumns.length + 1);
+		unitColumns[unitColumns.length - 1] = unit ? slack : -1;
+	}
+
+	private void removeTableauRow(int slack) {
+		int row = -1;
+		for (int i = 0; i < tableau.rows(); i++) {
+			if (tableau.getBasis(i) == slack) {
+				row = i;
+			}
+		}
+		if (row == -1) {
+			double minProportion = 0;
+			double pivotTolerance = tolerances.pivot(columnScale(slack));
+			for (int i = 0; i < tableau.rows(); i++) {
+				double coefficient = tableau.get(i, slack);
+				if (coefficient > pivotTolerance) {
+					double proportion = tableau.getValue(i) / coefficient;
+					if (row == -1 || proportion < minProportion) {
+						row = i;
+						minProportion = proportion;
+					}
+				}
+			}
+			for (int i = 0; row == -1 && i < tableau.rows(); i++) {
+				if (Math.abs(tableau.get(i, slack)) > pivotTolerance) {
+					row = i;
+				}
+			}
+			if (row == -1) {
+				warm = false;
+				return;
+			}
+			pivot(row, slack);
+		}
+		tableau.removeRow(row);
+		tableau.removeColumn(slack);
+	}
+
+	private int slackColumn(int index) {
+		Function function = functions.get(index);
+		for (int j = orgSize; j < function.coefficients.size(); j++) {
+			if (Math.abs(function.coefficients.get(j)) != 1 || objective.coefficient(j) != 0) {
+				continue;
+			}
+			boolean unique = true;
+			for (int i = 0; i < functions.size() && unique; i++) {
+				List<Double> coefficients = functions.get(i).coefficients;
+				unique = i == index || j >= coefficients.size() || coefficients.get(j) == 0;
+			}
+			if (unique) {
+				return j;
+			}
+		}
+		return -1;
 	}
 
 	protected void printResult() {
@@ -529,44 +1528,38 @@ public class FunctionSystem {
 				joiner.add("%.3f".formatted(x));
 			}
 			System.out.printf((!inverse ? "Max" : "Min") + " point - %s, F" +
-							(!inverse ? "max" : "min") + " = %.3f%n", joiner,
-					inverse ? -getObjectiveValue(res) : getObjectiveValue(res));
+							(!inverse ? "max" : "min") + " = %.3f%n", joiner, getObjectiveValue());
 		}
 		System.out.println();
 	}
 
 	public double getVectorMultiplication(List<Double> vector, int y) {
-		if (vector.size() != functions.size()) {
+		if (tableau == null || vector.size() != tableau.rows()) {
 			return Double.MIN_VALUE;
 		}
 		double res;
-		if (y < coefNum) {
-			res = -objective.coefficients.get(y);
+		if (y < tableau.cols()) {
+			res = -tableau.getCost(y);
 			for (int i = 0; i < vector.size(); i++) {
-				res += functions.get(i).coefficients.get(y) * vector.get(i);
+				res += tableau.get(i, y) * vector.get(i);
 			}
 		} else {
 			res = 0;
 			for (int i = 0; i < vector.size(); i++) {
-				res += functions.get(i).value * vector.get(i);
+				res += tableau.getValue(i) * vector.get(i);
 			}
 		}
 		return res;
 	}
 
 	public void toOne(int x, int y) {
-		functions.get(x).divide(functions.get(x).coefficients.get(y));
-		for (int i = 0; i < functions.size(); i++) {
-			if (i != x) {
-				functions.get(i).add(functions.get(x), -functions.get(i).coefficients.get(y));
-			}
-		}
+		tableau.toOne(x, y);
 	}
 
 	protected void buildFunction(Function function, StringBuilder builder) {
-		builder.append(function.coefficients.get(0)).append("x1");
-		for (int i = 1; i < function.coefficients.size(); i++) {
-			double x = function.coefficients.get(i);
+		builder.append(function.coefficient(0)).append("x1");
+		for (int i = 1; i < Math.max(function.coefficients.size(), coefNum); i++) {
+			double x = function.coefficient(i);
 			builder.append(x < 0 ? " - " : " + ")
 					.append(Math.abs(x)).append('x').append(i + 1);
 		}
@@ -584,4 +1577,20 @@ public class FunctionSystem {
 		functions.forEach((f) -> buildFunction(f, builder));
 		return builder.toString();
 	}
+
+	public enum Mode {
+		TABLEAU,
+		REVISED,
+		SPARSE,
+		DUAL
+	}
+
+	private static final class Cut {
+		private int slack;
+		private int age;
+
+		private Cut(int slack) {
+			this.slack = slack;
+		}
+	}
 }
\ No newline at end of file
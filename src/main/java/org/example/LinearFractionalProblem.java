@@ -1,6 +1,7 @@
 package org.example;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.StringJoiner;
 
@@ -19,12 +20,27 @@ import java.util.StringJoiner;
 Обчислення результатів:
 
 Перевизначений метод setRes, який обчислює результати для дробової задачі.
+Перевизначений метод getObjectiveValue, який обчислює значення дробової функції.
 Перевизначений метод printResult, який виводить результати у вигляді дробових значень.
 Цей клас розширює функціональність системи функцій для обробки дробових задач, де функції виражені як дроби, а не просто лінійні функції.
+
+Максимум та мінімум (getOptimalRange): обидві задачі розв'язуються над однією перетвореною моделлю і однією симплекс-таблицею без копіювання системи. Допустима множина не залежить від напрямку, тому задача на мінімум продовжує звичайний симплекс-метод з оптимального базису задачі на максимум (resolve(false)) без першого етапу. Метод Дінкельбаха розв'язує обидва напрямки над однією параметричною задачею, і перша задача на мінімум починається з останнього базису задачі на максимум.
+
+Метод розв'язання (setMethod):
+
+CHARNES_COOPER: Перетворення Чарнса-Купера (Y = X / D(X), Y0 = 1 / D(X)) і одна лінійна задача над змінними Y.
+DINKELBACH: Параметричний метод Дінкельбаха над початковими змінними X: F(λ) = max (min) {N(X) - λ D(X)} розв'язується послідовно для λ = N(X) / D(X) попереднього розв'язку, доки F(λ) не дорівнює нулю (з допуском оптимальності). Початковий розв'язок мінімізує знаменник; кожна наступна задача відрізняється лише цільовою функцією, тому розв'язується методом resolve з попереднього оптимального базису. Двоїсті оцінки не обчислюються. Якщо знаменник у розв'язку не додатний, параметрична задача необмежена або кількість кроків перевищує DINKELBACH_ITERATION_LIMIT, задача розв'язується перетворенням Чарнса-Купера.
+AUTO (за замовчуванням): DINKELBACH, якщо добуток кількості обмежень на кількість змінних X не менший за DINKELBACH_SIZE, інакше CHARNES_COOPER. Усі вільні члени перетвореної задачі (крім рівності D(Y) = 1) нульові, тому вона повністю вироджена, і кількість вироджених кроків швидко зростає з розміром задачі; метод Дінкельбаха розв'язує кілька невироджених задач, але для малих задач ці повторні розв'язання повільніші за одне перетворення.
+
+Параметричний чисельник (getParametric): напрямок задається для коефіцієнтів чисельника, тобто розв'язуються задачі (N(X) + λ N'(X)) / D(X). Для перетвореної задачі це лінійна параметрична цільова функція, тому оптимальне значення дробової функції кусково-лінійне за λ, а getParametric завжди використовує перетворення Чарнса-Купера.
 */
 
 public class LinearFractionalProblem extends FunctionSystem {
+	public static final int DINKELBACH_ITERATION_LIMIT = 100;
+	public static final int DINKELBACH_SIZE = 5000;
+
 	private List<Double> y;
+	private Method method = Method.AUTO;
 
 	public LinearFractionalProblem(Double[] numerator, Double[] denominator) {
 		super(new Function(numerator));
@@ -38,6 +54,148 @@ public class LinearFractionalProblem extends FunctionSystem {
 	public LinearFractionalProblem(LinearFractionalProblem system) {
 		super(system);
 		this.y = system.y;
+		this.method = system.method;
+	}
+
+	public void setMethod(Method method) {
+		this.method = method;
+	}
+
+	public Method getMethod() {
+		return method;
+	}
+
+	@Override
+	public SolveResult getOptimal(boolean max, boolean additionalVariable, Mode mode) {
+		if (isDinkelbach()) {
+			SolveResult result = getOptimalDinkelbach(max, mode, parametricProblem());
+			if (result != null) {
+				return result;
+			}
+		}
+		return super.getOptimal(max, additionalVariable, mode);
+	}
+
+	public FractionalRange getOptimalRange() {
+		return getOptimalRange(Mode.TABLEAU);
+	}
+
+	public FractionalRange getOptimalRange(Mode mode) {
+		if (isDinkelbach()) {
+			FunctionSystem parametric = parametricProblem();
+			SolveResult max = getOptimalDinkelbach(true, mode, parametric);
+			SolveResult min = max == null ? null : getOptimalDinkelbach(false, mode, parametric);
+			if (min != null) {
+				return new FractionalRange(max, min);
+			}
+		}
+		SolveResult max = super.getOptimal(true, false, mode);
+		SolveResult min = max.isOptimal() && warm ? resolve(false) : super.getOptimal(false, false, mode);
+		return new FractionalRange(max, min);
+	}
+
+	// напрямок задається для коефіцієнтів чисельника (змінних X); розв'язується перетворена задача
+	@Override
+	public ParametricResult getParametric(boolean max, double[] direction, double lower, double upper) {
+		double[] shifted = new double[direction.length + 1];
+		System.arraycopy(direction, 0, shifted, 1, direction.length);
+		return super.getParametric(max, shifted, lower, upper);
+	}
+
+	private boolean isDinkelbach() {
+		if (method != Method.AUTO) {
+			return method == Method.DINKELBACH;
+		}
+		return (long) (functions.size() - 1) * orgSize >= DINKELBACH_SIZE;
+	}
+
+	// задача над змінними X з обмеженнями початкової задачі (A * X <= B); цільова функція задається перед кожним розв'язанням
+	private FunctionSystem parametricProblem() {
+		Double[] costs = new Double[orgSize];
+		Arrays.fill(costs, 0.0);
+		FunctionSystem parametric = new FunctionSystem(new Function(costs));
+		for (int i = 1; i < functions.size(); i++) {
+			List<Double> coefficients = functions.get(i).coefficients;
+			Double[] row = new Double[orgSize];
+			for (int j = 0; j < orgSize; j++) {
+				row[j] = coefficients.get(j + 1);
+			}
+			parametric.addFunction(new Function(row, -coefficients.get(0), Function.Sign.LESS));
+		}
+		parametric.listener = withoutTermination(listener);
+		parametric.parallelThreshold = parallelThreshold;
+		parametric.pricing = pricing;
+		parametric.tolerances = tolerances;
+		parametric.workspace = workspace;
+		parametric.phases.setMetrics(phases.getMetrics());
+		parametric.phases.setNested(true);
+		return parametric;
+	}
+
+	// метод Дінкельбаха; null, якщо задачу потрібно розв'язати перетворенням Чарнса-Купера
+	private SolveResult getOptimalDinkelbach(boolean max, Mode mode, FunctionSystem parametric) {
+		startTime = System.nanoTime();
+		if (max == inverse) {
+			ownObjective().multiply(-1);
+			inverse = !inverse;
+		}
+		iterations = 0;
+		degeneratePivots = 0;
+		ruleIterations.clear();
+		warm = false;
+		tableau = null;
+		double sign = inverse ? -1 : 1;
+		double[] numerator = new double[orgSize];
+		double[] denominator = new double[orgSize];
+		for (int j = 0; j < orgSize; j++) {
+			numerator[j] = sign * objective.coefficients.get(j + 1);
+			denominator[j] = functions.get(0).coefficients.get(j + 1);
+			parametric.setObjectiveCoefficient(j, max ? -denominator[j] : denominator[j]);
+		}
+
+		double lambda = Double.NaN;
+		for (int step = 0; step <= DINKELBACH_ITERATION_LIMIT; step++) {
+			parametric.iterationLimit = iterationLimit - iterations;
+			SolveResult result = parametric.warm ? parametric.resolve(max) : parametric.getOptimal(max, mode);
+			iterations += result.getIterations();
+			degeneratePivots += parametric.degeneratePivots;
+			result.getIterationsByRule().forEach((rule, count) -> ruleIterations.merge(rule, count, Integer::sum));
+			if (result.getStatus() == SolveStatus.INFEASIBLE || result.getStatus() == SolveStatus.ITERATION_LIMIT) {
+				return finish(result.getStatus(), null);
+			}
+			if (!result.isOptimal()) {
+				return null;
+			}
+			double[] x = result.getValues();
+			double value = 0;
+			double scale = 0;
+			for (int j = 0; j < orgSize; j++) {
+				value += denominator[j] * x[j];
+				scale = Math.max(scale, Math.abs(denominator[j] * x[j]));
+			}
+			if (value <= tolerances.feasibility(scale)) {
+				return null;
+			}
+			if (step > 0 && Math.abs(result.getObjective()) <= tolerances.optimality(1) * Math.max(1, Math.abs(lambda) * value)) {
+				y = new ArrayList<>(x.length + 1);
+				res = new ArrayList<>(x.length);
+				y.add(1 / value);
+				for (double v : x) {
+					y.add(v / value);
+					res.add(v);
+				}
+				return finish(SolveStatus.OPTIMAL, null);
+			}
+			lambda = 0;
+			for (int j = 0; j < orgSize; j++) {
+				lambda += numerator[j] * x[j];
+			}
+			lambda /= value;
+			for (int j = 0; j < orgSize; j++) {
+				parametric.setObjectiveCoefficient(j, numerator[j] - lambda * denominator[j]);
+			}
+		}
+		return null;
 	}
 
 	@Override
@@ -53,16 +211,22 @@ public class LinearFractionalProblem extends FunctionSystem {
 	}
 
 	@Override
-	protected List<Double> setRes() {
-		super.setRes();
-		y = res;
-		res = new ArrayList<>(coefNum - 1);
-		for (int i = 1; i < coefNum; i++) {
-			res.add(y.get(i) / y.get(0));
+	protected List<Double> setRes(double[] x) {
+		y = new ArrayList<>(x.length);
+		res = new ArrayList<>(x.length - 1);
+		y.add(x[0]);
+		for (int i = 1; i < x.length; i++) {
+			y.add(x[i]);
+			res.add(x[i] / x[0]);
 		}
 		return res;
 	}
 
+	@Override
+	public double getObjectiveValue() {
+		return inverse ? -getObjectiveValue(y) : getObjectiveValue(y);
+	}
+
 	@Override
 	protected void printResult() {
 		if (res.isEmpty()) {
@@ -79,17 +243,16 @@ public class LinearFractionalProblem extends FunctionSystem {
 				joiner.add("%.3f".formatted(x));
 			}
 			System.out.printf((!inverse ? "Max" : "Min") + " point - %s, F" +
-							(!inverse ? "max" : "min") + " = %.3f%n", joiner,
-					inverse ? -getObjectiveValue(y) : getObjectiveValue(y));
+							(!inverse ? "max" : "min") + " = %.3f%n", joiner, getObjectiveValue());
 		}
 		System.out.println();
 	}
 
 	@Override
 	protected void buildFunction(Function function, StringBuilder builder) {
-		builder.append(function.coefficients.get(0)).append("y0");
-		for (int i = 1; i < function.coefficients.size(); i++) {
-			double x = function.coefficients.get(i);
+		builder.append(function.coefficient(0)).append("y0");
+		for (int i = 1; i < Math.max(function.coefficients.size(), coefNum); i++) {
+			double x = function.coefficient(i);
 			builder.append(x < 0 ? " - " : " + ")
 					.append(Math.abs(x)).append('y').append(i);
 		}
@@ -99,4 +262,10 @@ public class LinearFractionalProblem extends FunctionSystem {
 		}
 		builder.append("\n");
 	}
+
+	public enum Method {
+		AUTO,
+		CHARNES_COOPER,
+		DINKELBACH
+	}
 }
\ No newline at end of file
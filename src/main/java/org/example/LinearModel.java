@@ -0,0 +1,498 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+У цьому класі зберігається незмінна модель лінійного програмування, прочитана з файлу (MpsFormat, LpFormat) або побудована з FunctionSystem. На відміну від FunctionSystem, коефіцієнти не зберігаються у списках Double: модель одразу будується у розріджену матрицю обмежень (SparseMatrix), з якою працює режим SPARSE, тому пам'ять залежить лише від кількості ненульових коефіцієнтів.
+
+Основні елементи класу:
+
+name, max: Назва моделі та напрям оптимізації.
+matrix: Матриця обмежень з додатковими змінними нерівностей після змінних моделі; ціни зберігаються для максимізації (для мінімізації - з протилежним знаком), а рядки з від'ємним вільним членом помножені на -1, як у SparseMatrix.Builder.
+columnNames, rowNames, signs, values: Назви змінних і обмежень, знаки та вільні члени обмежень у початковому вигляді.
+offset: Стала цільової функції.
+
+Методи класу:
+
+solve: Розв'язує модель модифікованим симплекс-методом над розрідженою матрицею (RevisedSimplex) і повертає SolveResult зі значеннями змінних моделі та двоїстими оцінками обмежень у початковому вигляді. Варіант з робочою таблицею (workspace) розв'язує модель симплекс-методом над таблицею FunctionSystem (режим TABLEAU): таблиця заповнюється безпосередньо з розрідженої матриці, тому з пам'яттю MappedStorage купа містить лише розріджену модель.
+toFunctionSystem: Будує FunctionSystem для невеликих моделей, щоб використати таблицю, попередню обробку чи метод Гоморі.
+of: Будує модель з FunctionSystem (нерівності визначаються за додатковими змінними), наприклад, для запису у файл.
+getCoefficients: Повертає коефіцієнти рядка у початковому вигляді (для запису у файл).
+
+Клас Builder приймає назви, ціни, коефіцієнти та межі в довільному порядку (MPS записує коефіцієнти по стовпцях, LP - по рядках) і зберігає коефіцієнти лише у масивах примітивних типів; повторні коефіцієнти одного рядка та стовпця додаються. Усі змінні невід'ємні: нижня межа більша за нуль, верхня межа та проміжок значень обмеження (RANGES) перетворюються на додаткові обмеження з назвами "<змінна>.lo", "<змінна>.up", "<змінна>.fx" та "<обмеження>.range". Від'ємні нижні межі та вільні змінні не підтримуються (IllegalArgumentException).
+*/
+
+public final class LinearModel {
+	private final String name;
+	private final boolean max;
+	private final SparseMatrix matrix;
+	private final int variables;
+	private final String[] columnNames;
+	private final String[] rowNames;
+	private final Function.Sign[] signs;
+	private final double[] values;
+	private final double offset;
+
+	private LinearModel(String name, boolean max, SparseMatrix matrix, String[] columnNames, String[] rowNames,
+						Function.Sign[] signs, double[] values, double offset) {
+		this.name = name;
+		this.max = max;
+		this.matrix = matrix;
+		this.variables = columnNames.length;
+		this.columnNames = columnNames;
+		this.rowNames = rowNames;
+		this.signs = signs;
+		this.values = values;
+		this.offset = offset;
+	}
+
+	public static LinearModel of(FunctionSystem system, boolean max) {
+		int cols = system.coefNum;
+		int rows = system.functions.size();
+		boolean[] slack = new boolean[cols];
+		Function.Sign[] signs = new Function.Sign[rows];
+		Arrays.fill(signs, Function.Sign.EQUAL);
+		for (int j = system.orgSize; j < cols; j++) {
+			int row = -1;
+			for (int i = 0; i < rows && row != -2; i++) {
+				if (coefficient(system.functions.get(i), j) != 0) {
+					row = row == -1 ? i : -2;
+				}
+			}
+			double coefficient = row < 0 ? 0 : coefficient(system.functions.get(row), j);
+			if (Math.abs(coefficient) == 1 && coefficient(system.objective, j) == 0 && signs[row] == Function.Sign.EQUAL) {
+				slack[j] = true;
+				signs[row] = coefficient > 0 ? Function.Sign.LESS : Function.Sign.GREATER;
+			}
+		}
+
+		Builder builder = new Builder().setName("model").setMax(max);
+		int[] columns = new int[cols];
+		for (int j = 0; j < cols; j++) {
+			if (!slack[j]) {
+				columns[j] = builder.addColumn("x" + (j + 1));
+				double cost = coefficient(system.objective, j);
+				builder.addCost(columns[j], system.inverse ? -cost : cost);
+			}
+		}
+		for (int i = 0; i < rows; i++) {
+			Function function = system.functions.get(i);
+			int row = builder.addRow("c" + (i + 1), signs[i]);
+			for (int j = 0; j < cols; j++) {
+				double coefficient = coefficient(function, j);
+				if (!slack[j] && coefficient != 0) {
+					builder.add(row, columns[j], coefficient);
+				}
+			}
+			builder.setValue(row, function.value);
+		}
+		return builder.build();
+	}
+
+	private static double coefficient(Function function, int j) {
+		return j < function.coefficients.size() ? function.coefficients.get(j) : 0;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public boolean isMax() {
+		return max;
+	}
+
+	public SparseMatrix getMatrix() {
+		return matrix;
+	}
+
+	public int getVariables() {
+		return variables;
+	}
+
+	public int getRows() {
+		return rowNames.length;
+	}
+
+	public String getColumnName(int y) {
+		return columnNames[y];
+	}
+
+	public String getRowName(int x) {
+		return rowNames[x];
+	}
+
+	public Function.Sign getSign(int x) {
+		return signs[x];
+	}
+
+	public double getValue(int x) {
+		return values[x];
+	}
+
+	public double getCost(int y) {
+		return max ? matrix.getCost(y) : -matrix.getCost(y);
+	}
+
+	public double getOffset() {
+		return offset;
+	}
+
+	public int nonZeros() {
+		return matrix.nonZeros();
+	}
+
+	// коефіцієнти рядка x без додаткової змінної; повертає їх кількість
+	public int getCoefficients(int x, int[] indices, double[] coefficients) {
+		double multiplier = values[x] < 0 ? -1 : 1;
+		int size = 0;
+		for (int k = matrix.rowStart(x); k < matrix.rowStart(x + 1); k++) {
+			if (matrix.rowIndex(k) < variables) {
+				indices[size] = matrix.rowIndex(k);
+				coefficients[size++] = matrix.rowValue(k) * multiplier;
+			}
+		}
+		return size;
+	}
+
+	public SolveResult solve() {
+		return solve(Tolerances.DEFAULT, Integer.MAX_VALUE);
+	}
+
+	public SolveResult solve(Tolerances tolerances, int iterationLimit) {
+		long start = System.nanoTime();
+		SparseMatrix model = matrix;
+		int[] basis = model.findUnitBasis();
+		int firstArtificial = model.cols();
+		for (int b : basis) {
+			if (b == -1) {
+				model = model.withArtificial(basis, 0.0);
+				break;
+			}
+		}
+		RevisedSimplex simplex = new RevisedSimplex(model, basis);
+		simplex.setTolerances(tolerances);
+		simplex.setIterationLimit(iterationLimit);
+		simplex.setArtificial(firstArtificial);
+		double[] x = simplex.solve();
+
+		int iterations = simplex.getIterations();
+		Map<String, Integer> iterationsByRule = new LinkedHashMap<>();
+		if (iterations > simplex.getBlandIterations()) {
+			iterationsByRule.put("dantzig", iterations - simplex.getBlandIterations());
+		}
+		if (simplex.getBlandIterations() > 0) {
+			iterationsByRule.put("bland", simplex.getBlandIterations());
+		}
+		if (x == null) {
+			return SolveResult.failed(simplex.getStatus(), iterations, iterationsByRule, System.nanoTime() - start);
+		}
+		return toResult(x, simplex.getDuals(), iterations, iterationsByRule, System.nanoTime() - start);
+	}
+
+	public SolveResult solve(Tolerances tolerances, int iterationLimit, Tableau workspace) {
+		FunctionSystem system = new FunctionSystem(matrix);
+		system.setTolerances(tolerances);
+		system.setIterationLimit(iterationLimit);
+		system.setWorkspace(workspace);
+		SolveResult result = system.getOptimal(true);
+		if (!result.isOptimal()) {
+			return result;
+		}
+		double[] duals = result.getDuals().length == matrix.rows() ? result.getDuals() : null;
+		return toResult(result.getValues(), duals, result.getIterations(), result.getIterationsByRule(),
+				result.getTime().toNanos());
+	}
+
+	// x та duals - значення змінних матриці та двоїсті оцінки її рядків для максимізації
+	private SolveResult toResult(double[] x, double[] duals, int iterations, Map<String, Integer> iterationsByRule,
+								 long time) {
+		double[] result = Arrays.copyOf(x, variables);
+		double objective = offset;
+		for (int j = 0; j < variables; j++) {
+			objective += getCost(j) * result[j];
+		}
+		for (int i = 0; duals != null && i < duals.length; i++) {
+			if ((values[i] < 0) != !max) {
+				duals[i] = -duals[i];
+			}
+		}
+		return new SolveResult(SolveStatus.OPTIMAL, result, duals, objective, iterations, iterationsByRule, time);
+	}
+
+	public FunctionSystem toFunctionSystem() {
+		Double[] objective = new Double[variables];
+		for (int j = 0; j < variables; j++) {
+			objective[j] = getCost(j);
+		}
+		FunctionSystem system = new FunctionSystem(new Function(objective));
+		int[] indices = new int[variables];
+		double[] coefficients = new double[variables];
+		for (int i = 0; i < rowNames.length; i++) {
+			Double[] row = new Double[variables];
+			Arrays.fill(row, 0.0);
+			int size = getCoefficients(i, indices, coefficients);
+			for (int k = 0; k < size; k++) {
+				row[indices[k]] = coefficients[k];
+			}
+			system.addFunction(new Function(row, values[i], signs[i]));
+		}
+		return system;
+	}
+
+	static String format(double x) {
+		if (x == Math.rint(x) && Math.abs(x) < 1e15) {
+			return Long.toString((long) x);
+		}
+		return Double.toString(x);
+	}
+
+	public static class Builder {
+		private String name = "";
+		private boolean max;
+		private double offset;
+		private final Map<String, Integer> columnIndex = new HashMap<>();
+		private final Map<String, Integer> rowIndex = new HashMap<>();
+		private int columns;
+		private String[] columnNames = new String[16];
+		private double[] cost = new double[16];
+		private double[] lower = new double[16];
+		private double[] upper = new double[16];
+		private int rows;
+		private String[] rowNames = new String[16];
+		private Function.Sign[] signs = new Function.Sign[16];
+		private double[] values = new double[16];
+		private double[] ranges = new double[16];
+		private int entries;
+		private int[] entryRows = new int[64];
+		private int[] entryCols = new int[64];
+		private double[] entryValues = new double[64];
+
+		public Builder setName(String name) {
+			this.name = name;
+			return this;
+		}
+
+		public Builder setMax(boolean max) {
+			this.max = max;
+			return this;
+		}
+
+		public Builder setOffset(double offset) {
+			this.offset = offset;
+			return this;
+		}
+
+		public int addColumn(String name) {
+			Integer index = columnIndex.get(name);
+			if (index != null) {
+				return index;
+			}
+			if (columns == columnNames.length) {
+				int capacity = columns * 2;
+				columnNames = Arrays.copyOf(columnNames, capacity);
+				cost = Arrays.copyOf(cost, capacity);
+				lower = Arrays.copyOf(lower, capacity);
+				upper = Arrays.copyOf(upper, capacity);
+			}
+			columnNames[columns] = name;
+			upper[columns] = Double.POSITIVE_INFINITY;
+			columnIndex.put(name, columns);
+			return columns++;
+		}
+
+		public int findColumn(String name) {
+			return columnIndex.getOrDefault(name, -1);
+		}
+
+		public int addRow(String name, Function.Sign sign) {
+			if (rowIndex.containsKey(name)) {
+				throw new IllegalArgumentException("Duplicate row " + name);
+			}
+			if (rows == rowNames.length) {
+				int capacity = rows * 2;
+				rowNames = Arrays.copyOf(rowNames, capacity);
+				signs = Arrays.copyOf(signs, capacity);
+				values = Arrays.copyOf(values, capacity);
+				ranges = Arrays.copyOf(ranges, capacity);
+			}
+			rowNames[rows] = name;
+			signs[rows] = sign;
+			ranges[rows] = Double.NaN;
+			rowIndex.put(name, rows);
+			return rows++;
+		}
+
+		public int findRow(String name) {
+			return rowIndex.getOrDefault(name, -1);
+		}
+
+		public int rows() {
+			return rows;
+		}
+
+		public Builder add(int row, int col, double value) {
+			if (value == 0) {
+				return this;
+			}
+			if (entries == entryRows.length) {
+				int capacity = entries * 2;
+				entryRows = Arrays.copyOf(entryRows, capacity);
+				entryCols = Arrays.copyOf(entryCols, capacity);
+				entryValues = Arrays.copyOf(entryValues, capacity);
+			}
+			entryRows[entries] = row;
+			entryCols[entries] = col;
+			entryValues[entries++] = value;
+			return this;
+		}
+
+		public Builder addCost(int col, double value) {
+			cost[col] += value;
+			return this;
+		}
+
+		public Builder setValue(int row, double value) {
+			values[row] = value;
+			return this;
+		}
+
+		public Builder setRange(int row, double range) {
+			ranges[row] = range;
+			return this;
+		}
+
+		public Builder setLower(int col, double value) {
+			if (!(value >= 0)) {
+				throw new IllegalArgumentException("Negative lower bound of " + columnNames[col] + " is not supported");
+			}
+			lower[col] = value;
+			return this;
+		}
+
+		public Builder setUpper(int col, double value) {
+			if (value < 0) {
+				throw new IllegalArgumentException("Negative upper bound of " + columnNames[col] + " is not supported");
+			}
+			upper[col] = value;
+			return this;
+		}
+
+		public LinearModel build() {
+			int[] rowStart = new int[rows + 1];
+			for (int k = 0; k < entries; k++) {
+				rowStart[entryRows[k] + 1]++;
+			}
+			for (int i = 0; i < rows; i++) {
+				rowStart[i + 1] += rowStart[i];
+			}
+			int[] next = Arrays.copyOf(rowStart, rows);
+			int[] order = new int[entries];
+			for (int k = 0; k < entries; k++) {
+				order[next[entryRows[k]]++] = k;
+			}
+
+			int extra = 0;
+			for (int i = 0; i < rows; i++) {
+				if (!Double.isNaN(ranges[i]) && ranges[i] != 0) {
+					extra++;
+				}
+			}
+			for (int j = 0; j < columns; j++) {
+				if (lower[j] == upper[j] || lower[j] > 0 && upper[j] == Double.POSITIVE_INFINITY) {
+					extra++;
+				} else if (upper[j] != Double.POSITIVE_INFINITY) {
+					extra += lower[j] > 0 ? 2 : 1;
+				}
+			}
+			int total = rows + extra;
+			String[] modelRows = Arrays.copyOf(rowNames, total);
+			Function.Sign[] modelSigns = Arrays.copyOf(signs, total);
+			double[] modelValues = Arrays.copyOf(values, total);
+
+			SparseMatrix.Builder matrix = new SparseMatrix.Builder(columns);
+			for (int j = 0; j < columns; j++) {
+				matrix.setCost(j, max ? cost[j] : -cost[j]);
+			}
+			int[] position = new int[columns];
+			Arrays.fill(position, -1);
+			int[] indices = new int[columns];
+			double[] coefficients = new double[columns];
+			for (int i = 0; i < rows; i++) {
+				if (!Double.isNaN(ranges[i]) && ranges[i] != 0) {
+					double range = ranges[i];
+					if (signs[i] == Function.Sign.EQUAL) {
+						modelSigns[i] = range > 0 ? Function.Sign.GREATER : Function.Sign.LESS;
+					}
+				}
+				int size = gather(rowStart[i], rowStart[i + 1], order, position, indices, coefficients);
+				matrix.addRow(indices, coefficients, size, modelValues[i], modelSigns[i]);
+			}
+
+			int row = rows;
+			for (int i = 0; i < rows; i++) {
+				if (Double.isNaN(ranges[i]) || ranges[i] == 0) {
+					continue;
+				}
+				double range = Math.abs(ranges[i]);
+				boolean upperSide = modelSigns[i] == Function.Sign.GREATER;
+				modelRows[row] = rowNames[i] + ".range";
+				modelSigns[row] = upperSide ? Function.Sign.LESS : Function.Sign.GREATER;
+				modelValues[row] = upperSide ? values[i] + range : values[i] - range;
+				int size = gather(rowStart[i], rowStart[i + 1], order, position, indices, coefficients);
+				matrix.addRow(indices, coefficients, size, modelValues[row], modelSigns[row]);
+				row++;
+			}
+			for (int j = 0; j < columns; j++) {
+				if (lower[j] == upper[j]) {
+					row = addBound(matrix, row, j, ".fx", Function.Sign.EQUAL, lower[j], modelRows, modelSigns, modelValues);
+					continue;
+				}
+				if (lower[j] > 0) {
+					row = addBound(matrix, row, j, ".lo", Function.Sign.GREATER, lower[j], modelRows, modelSigns, modelValues);
+				}
+				if (upper[j] != Double.POSITIVE_INFINITY) {
+					row = addBound(matrix, row, j, ".up", Function.Sign.LESS, upper[j], modelRows, modelSigns, modelValues);
+				}
+			}
+
+			return new LinearModel(name, max, matrix.build(), Arrays.copyOf(columnNames, columns),
+					modelRows, modelSigns, modelValues, offset);
+		}
+
+		private int addBound(SparseMatrix.Builder matrix, int row, int col, String suffix, Function.Sign sign, double value,
+							 String[] modelRows, Function.Sign[] modelSigns, double[] modelValues) {
+			modelRows[row] = columnNames[col] + suffix;
+			modelSigns[row] = sign;
+			modelValues[row] = value;
+			matrix.addRow(new int[]{col}, new double[]{1}, 1, value, sign);
+			return row + 1;
+		}
+
+		// повторні коефіцієнти одного стовпця додаються; position[col] - місце стовпця в indices або -1
+		private int gather(int from, int to, int[] order, int[] position, int[] indices, double[] coefficients) {
+			int size = 0;
+			for (int k = from; k < to; k++) {
+				int col = entryCols[order[k]];
+				if (position[col] == -1) {
+					position[col] = size;
+					indices[size] = col;
+					coefficients[size++] = entryValues[order[k]];
+				} else {
+					coefficients[position[col]] += entryValues[order[k]];
+				}
+			}
+			int nonZero = 0;
+			for (int k = 0; k < size; k++) {
+				position[indices[k]] = -1;
+				if (coefficients[k] != 0) {
+					indices[nonZero] = indices[k];
+					coefficients[nonZero++] = coefficients[k];
+				}
+			}
+			return nonZero;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,424 @@
+package org.example;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Set;
+
+/*
+У цьому класі реалізовано читання та запис моделі (LinearModel) у форматі CPLEX LP.
+
+Читання: Файл читається по рядку через буферизований потік NIO (Files.newBufferedReader) і розбивається на слова (Lexer): числа, назви, знаки +, -, оператори <=, >=, = та двокрапка; усе після '\' до кінця рядка є коментарем. Вираз і обмеження можуть займати кілька рядків. Коефіцієнти одразу передаються в LinearModel.Builder, тому файл не зберігається в пам'яті.
+
+Розділи: Maximize/Minimize (цільова функція з необов'язковою назвою та сталою), Subject To (обмеження вигляду "назва: вираз оператор число"; обмеження без назви отримують назви R1, R2, ...), Bounds ("x <= u", "x >= l", "l <= x <= u", "x = v"; нескінченність записується як inf або infinity), Generals/Integers та Binaries (цілочисловість не враховується, двійкова змінна отримує верхню межу 1) і End. Вільні змінні (free) та від'ємні нижні межі не підтримуються.
+
+Запис: Модель записується з назвами рядків і змінних, по ROW_TERMS доданків у рядку файлу; межі та проміжки, прочитані з файлу, записуються як звичайні обмеження.
+
+Помилки формату повідомляються винятком IOException з номером рядка файлу.
+*/
+
+public final class LpFormat {
+	private static final int ROW_TERMS = 8;
+	private static final Set<String> KEYWORDS = Set.of("max", "maximize", "maximise", "maximum", "min", "minimize",
+			"minimise", "minimum", "subject", "such", "st", "s.t.", "st.", "bounds", "bound", "general", "generals",
+			"gen", "integer", "integers", "binary", "binaries", "bin", "end");
+
+	private LpFormat() {
+	}
+
+	public static LinearModel read(Path path) throws IOException {
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.ISO_8859_1)) {
+			return read(reader);
+		}
+	}
+
+	public static LinearModel read(BufferedReader reader) throws IOException {
+		Lexer lexer = new Lexer(reader);
+		LinearModel.Builder builder = new LinearModel.Builder();
+		try {
+			String token = lexer.next();
+			while (token != null) {
+				String keyword = token.toLowerCase(Locale.ROOT);
+				switch (keyword) {
+					case "max", "maximize", "maximise", "maximum", "min", "minimize", "minimise", "minimum" -> {
+						builder.setMax(keyword.startsWith("max"));
+						token = objective(lexer, builder);
+					}
+					case "subject", "such", "st", "s.t.", "st." -> {
+						if (keyword.equals("subject") || keyword.equals("such")) {
+							lexer.next();
+						}
+						token = constraints(lexer, builder);
+					}
+					case "bounds", "bound" -> token = bounds(lexer, builder);
+					case "general", "generals", "gen", "integer", "integers", "binary", "binaries", "bin" -> {
+						boolean binary = keyword.startsWith("bin");
+						token = lexer.next();
+						while (token != null && !isKeyword(token)) {
+							if (binary) {
+								builder.setUpper(column(builder, token), 1);
+							}
+							token = lexer.next();
+						}
+					}
+					case "end" -> token = null;
+					default -> throw new IllegalArgumentException("Unexpected " + token);
+				}
+			}
+		} catch (IllegalArgumentException e) {
+			throw new IOException("Line " + lexer.line + ": " + e.getMessage(), e);
+		}
+		return builder.build();
+	}
+
+	private static String objective(Lexer lexer, LinearModel.Builder builder) throws IOException {
+		String token = label(lexer);
+		Expression expression = new Expression();
+		token = expression.parse(lexer, token, builder);
+		for (int k = 0; k < expression.size; k++) {
+			builder.addCost(expression.cols[k], expression.coefficients[k]);
+		}
+		builder.setOffset(expression.constant);
+		return token;
+	}
+
+	private static String constraints(Lexer lexer, LinearModel.Builder builder) throws IOException {
+		Expression expression = new Expression();
+		String token = lexer.next();
+		while (token != null && !isKeyword(token)) {
+			lexer.push(token);
+			String name = lexer.peekLabel();
+			token = label(lexer);
+			token = expression.parse(lexer, token, builder);
+			Function.Sign sign = operator(token);
+			double value = number(lexer, lexer.next()) - expression.constant;
+			int row = builder.addRow(name != null ? name : "R" + (builder.rows() + 1), sign);
+			for (int k = 0; k < expression.size; k++) {
+				builder.add(row, expression.cols[k], expression.coefficients[k]);
+			}
+			builder.setValue(row, value);
+			token = lexer.next();
+		}
+		return token;
+	}
+
+	private static String bounds(Lexer lexer, LinearModel.Builder builder) throws IOException {
+		String token = lexer.next();
+		while (token != null && !isKeyword(token)) {
+			if (isNumber(token)) {
+				double left = number(lexer, token);
+				Function.Sign first = operator(lexer.next());
+				int col = column(builder, lexer.next());
+				bound(builder, col, first == Function.Sign.EQUAL ? first : first.opposite(), left);
+				token = lexer.next();
+				if (token != null && isOperator(token)) {
+					bound(builder, col, operator(token), number(lexer, lexer.next()));
+					token = lexer.next();
+				}
+			} else {
+				String name = token;
+				int col = column(builder, name);
+				token = lexer.next();
+				if (token != null && token.equalsIgnoreCase("free")) {
+					throw new IllegalArgumentException("Free column " + name + " is not supported");
+				}
+				bound(builder, col, operator(token), number(lexer, lexer.next()));
+				token = lexer.next();
+			}
+		}
+		return token;
+	}
+
+	// sign - знак відношення "x sign value"
+	private static void bound(LinearModel.Builder builder, int col, Function.Sign sign, double value) {
+		switch (sign) {
+			case LESS -> {
+				if (value != Double.POSITIVE_INFINITY) {
+					builder.setUpper(col, value);
+				}
+			}
+			case GREATER -> builder.setLower(col, value);
+			case EQUAL -> builder.setLower(col, value).setUpper(col, value);
+		}
+	}
+
+	// знак числа до числа, "+" перед числом та нескінченність
+	private static boolean isNumber(String token) {
+		char c = token.charAt(0);
+		return c == '+' || c == '-' || Character.isDigit(c) || c == '.' ||
+				token.equalsIgnoreCase("inf") || token.equalsIgnoreCase("infinity");
+	}
+
+	private static double number(Lexer lexer, String token) throws IOException {
+		double sign = 1;
+		while (token != null && (token.equals("+") || token.equals("-"))) {
+			if (token.equals("-")) {
+				sign = -sign;
+			}
+			token = lexer.next();
+		}
+		if (token == null) {
+			throw new IllegalArgumentException("Number expected");
+		}
+		if (token.equalsIgnoreCase("inf") || token.equalsIgnoreCase("infinity")) {
+			return sign * Double.POSITIVE_INFINITY;
+		}
+		return sign * Double.parseDouble(token);
+	}
+
+	private static boolean isOperator(String token) {
+		return token.equals("<=") || token.equals(">=") || token.equals("=");
+	}
+
+	private static Function.Sign operator(String token) {
+		if (token == null || !isOperator(token)) {
+			throw new IllegalArgumentException("Operator expected instead of " + token);
+		}
+		return token.equals("<=") ? Function.Sign.LESS : token.equals(">=") ? Function.Sign.GREATER : Function.Sign.EQUAL;
+	}
+
+	// пропускає необов'язкову назву "name:" і повертає наступне слово
+	private static String label(Lexer lexer) throws IOException {
+		String token = lexer.next();
+		if (token != null && lexer.peekIs(":")) {
+			lexer.next();
+			token = lexer.next();
+		}
+		return token;
+	}
+
+	private static int column(LinearModel.Builder builder, String name) {
+		if (name == null || isKeyword(name) || isNumber(name)) {
+			throw new IllegalArgumentException("Column name expected instead of " + name);
+		}
+		return builder.addColumn(name);
+	}
+
+	private static boolean isKeyword(String token) {
+		return KEYWORDS.contains(token.toLowerCase(Locale.ROOT));
+	}
+
+	public static void write(LinearModel model, Path path) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.ISO_8859_1)) {
+			write(model, writer);
+		}
+	}
+
+	public static void write(LinearModel model, Writer writer) throws IOException {
+		int variables = model.getVariables();
+		int[] indices = new int[variables];
+		double[] coefficients = new double[variables];
+
+		writer.write("\\ Problem name: " + model.getName() + "\n");
+		writer.write(model.isMax() ? "Maximize\n" : "Minimize\n");
+		int size = 0;
+		for (int j = 0; j < variables; j++) {
+			if (model.getCost(j) != 0) {
+				indices[size] = j;
+				coefficients[size++] = model.getCost(j);
+			}
+		}
+		writer.write(" obj:");
+		writeTerms(model, writer, indices, coefficients, size);
+		if (model.getOffset() != 0) {
+			writer.write(model.getOffset() < 0 ? " - " : " + ");
+			writer.write(LinearModel.format(Math.abs(model.getOffset())));
+		}
+		writer.write("\n");
+
+		writer.write("Subject To\n");
+		for (int i = 0; i < model.getRows(); i++) {
+			writer.write(" " + model.getRowName(i) + ":");
+			size = model.getCoefficients(i, indices, coefficients);
+			writeTerms(model, writer, indices, coefficients, size);
+			String operator = switch (model.getSign(i)) {
+				case LESS -> "<=";
+				case GREATER -> ">=";
+				case EQUAL -> "=";
+			};
+			writer.write(" " + operator + " " + LinearModel.format(model.getValue(i)) + "\n");
+		}
+		writer.write("End\n");
+	}
+
+	private static void writeTerms(LinearModel model, Writer writer, int[] indices, double[] coefficients, int size)
+			throws IOException {
+		if (size == 0 && model.getVariables() > 0) {
+			writer.write(" 0 " + model.getColumnName(0));
+		}
+		for (int k = 0; k < size; k++) {
+			if (k > 0 && k % ROW_TERMS == 0) {
+				writer.write("\n  ");
+			}
+			double coefficient = coefficients[k];
+			writer.write(coefficient < 0 ? " - " : k == 0 ? " " : " + ");
+			if (Math.abs(coefficient) != 1) {
+				writer.write(LinearModel.format(Math.abs(coefficient)) + " ");
+			}
+			writer.write(model.getColumnName(indices[k]));
+		}
+	}
+
+	// лінійний вираз: доданки "[знак] [число] [назва]"; доданки без назви утворюють сталу
+	private static final class Expression {
+		private int[] cols = new int[16];
+		private double[] coefficients = new double[16];
+		private int size;
+		private double constant;
+
+		// повертає перше слово після виразу
+		private String parse(Lexer lexer, String token, LinearModel.Builder builder) throws IOException {
+			size = 0;
+			constant = 0;
+			boolean first = true;
+			while (token != null) {
+				double sign = 1;
+				boolean signed = false;
+				while (token != null && (token.equals("+") || token.equals("-"))) {
+					if (token.equals("-")) {
+						sign = -sign;
+					}
+					signed = true;
+					token = lexer.next();
+				}
+				if (token == null || !first && !signed || isOperator(token) || isKeyword(token) && !signed) {
+					if (signed) {
+						throw new IllegalArgumentException("Term expected");
+					}
+					return token;
+				}
+				double coefficient = 1;
+				boolean number = Character.isDigit(token.charAt(0)) || token.charAt(0) == '.';
+				if (number) {
+					coefficient = Double.parseDouble(token);
+					token = lexer.next();
+				}
+				if (token != null && !isOperator(token) && !token.equals("+") && !token.equals("-") &&
+						!(number && isKeyword(token)) && !(number && lexer.peekIs(":"))) {
+					add(column(builder, token), sign * coefficient);
+					token = lexer.next();
+				} else if (number) {
+					constant += sign * coefficient;
+				} else {
+					throw new IllegalArgumentException("Term expected");
+				}
+				first = false;
+			}
+			return null;
+		}
+
+		private void add(int col, double coefficient) {
+			if (size == cols.length) {
+				cols = Arrays.copyOf(cols, size * 2);
+				coefficients = Arrays.copyOf(coefficients, size * 2);
+			}
+			cols[size] = col;
+			coefficients[size++] = coefficient;
+		}
+	}
+
+	// розбиває файл на слова; push повертає слово назад
+	private static final class Lexer {
+		private final BufferedReader reader;
+		private final Deque<String> pushed = new ArrayDeque<>();
+		private String text = "";
+		private int position;
+		private int line;
+
+		private Lexer(BufferedReader reader) {
+			this.reader = reader;
+		}
+
+		private String next() throws IOException {
+			if (!pushed.isEmpty()) {
+				return pushed.pop();
+			}
+			while (true) {
+				while (position < text.length() && text.charAt(position) <= ' ') {
+					position++;
+				}
+				if (position < text.length() && text.charAt(position) != '\\') {
+					return scan();
+				}
+				text = reader.readLine();
+				position = 0;
+				if (text == null) {
+					text = "";
+					return null;
+				}
+				line++;
+			}
+		}
+
+		private String scan() {
+			int start = position;
+			char c = text.charAt(position++);
+			if (c == '<' || c == '>' || c == '=') {
+				char next = position < text.length() ? text.charAt(position) : ' ';
+				if (next == '<' || next == '>' || next == '=') {
+					position++;
+					c = c == '=' ? next : c;
+				}
+				return c == '<' ? "<=" : c == '>' ? ">=" : "=";
+			}
+			if (c == '+' || c == '-' || c == ':') {
+				return String.valueOf(c);
+			}
+			if (c == '[' || c == ']' || c == '^') {
+				throw new IllegalArgumentException("Quadratic terms are not supported");
+			}
+			if (Character.isDigit(c) || c == '.' && position < text.length() && Character.isDigit(text.charAt(position))) {
+				while (position < text.length() && (Character.isDigit(text.charAt(position)) || text.charAt(position) == '.')) {
+					position++;
+				}
+				if (position < text.length() && (text.charAt(position) == 'e' || text.charAt(position) == 'E')) {
+					int exponent = position + 1;
+					if (exponent < text.length() && (text.charAt(exponent) == '+' || text.charAt(exponent) == '-')) {
+						exponent++;
+					}
+					if (exponent < text.length() && Character.isDigit(text.charAt(exponent))) {
+						position = exponent;
+						while (position < text.length() && Character.isDigit(text.charAt(position))) {
+							position++;
+						}
+					}
+				}
+				return text.substring(start, position);
+			}
+			while (position < text.length() && text.charAt(position) > ' ' && "<>=+-:\\[]^".indexOf(text.charAt(position)) == -1) {
+				position++;
+			}
+			return text.substring(start, position);
+		}
+
+		private void push(String token) {
+			pushed.push(token);
+		}
+
+		private boolean peekIs(String expected) throws IOException {
+			String token = next();
+			if (token != null) {
+				push(token);
+			}
+			return expected.equals(token);
+		}
+
+		// назва перед двокрапкою на початку обмеження або null
+		private String peekLabel() throws IOException {
+			String token = next();
+			boolean label = token != null && peekIs(":");
+			if (token != null) {
+				push(token);
+			}
+			return label ? token : null;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,224 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/*
+У цьому класі реалізовано пам'ять симплекс-таблиці (TableauStorage) у тимчасовому файлі, відображеному в пам'ять (MappedByteBuffer). Коефіцієнти таблиці не займають купу (-Xmx): файл відображається блоками по CHUNK чисел (128 МБ), а сторінки блоків завантажує та записує на диск операційна система, тому таблиця може бути в кілька разів більшою за купу. Доки таблиця вміщується в оперативну пам'ять, сторінки залишаються в кеші файлової системи; якщо вона більша за оперативну пам'ять, швидкість розв'язання обмежується диском.
+
+Використання: таблиця з цією пам'яттю передається як робоча таблиця задачі, наприклад
+
+try (MappedStorage storage = new MappedStorage(directory)) {
+	system.setWorkspace(new Tableau(0, 0, storage));
+	SolveResult result = system.getOptimal(true);
+}
+
+або LinearModel.solve(tolerances, iterationLimit, workspace) для моделі з файлу, коефіцієнти якої не зберігаються у списках Double.
+
+Файл створюється в заданому каталозі (за замовчуванням java.io.tmpdir) з параметром DELETE_ON_CLOSE і видаляється методом close (в Linux - одразу після створення, а місце на диску звільняється після закриття). Каталог у tmpfs розміщує таблицю в оперативній пам'яті, тому для великих таблиць слід обирати каталог на диску. Копія пам'яті (copy, наприклад під час копіювання FunctionSystem) створює новий файл у тому самому каталозі. Копію, як і будь-яку пам'ять, закриває close; якщо її не закрито (копіями, створеними таблицями задачі, ніхто не володіє явно), файл закривається та видаляється, щойно пам'ять стає недосяжною (Cleaner), а відображення блоків звільняє збирач сміття.
+
+Рядок таблиці може перетинати межу двох блоків, тому операції над відрізками розбивають відрізок на частини в межах блоків. Операції не виділяють пам'яті, крім ensureCapacity, яка відображає нові блоки (вони заповнені нулями).
+*/
+
+public final class MappedStorage implements TableauStorage {
+	private static final int CHUNK_SHIFT = 24;
+	private static final int CHUNK = 1 << CHUNK_SHIFT;
+	private static final int MASK = CHUNK - 1;
+
+	private static final Cleaner CLEANER = Cleaner.create();
+
+	private final Path directory;
+	private final FileChannel channel;
+	private final Cleaner.Cleanable cleanable;
+	private DoubleBuffer[] chunks = new DoubleBuffer[0];
+
+	public MappedStorage() throws IOException {
+		this(Path.of(System.getProperty("java.io.tmpdir")));
+	}
+
+	public MappedStorage(Path directory) throws IOException {
+		this.directory = directory;
+		Path file = Files.createTempFile(directory, "tableau", ".bin");
+		channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+				StandardOpenOption.DELETE_ON_CLOSE);
+		cleanable = CLEANER.register(this, new Release(channel));
+	}
+
+	public Path getDirectory() {
+		return directory;
+	}
+
+	@Override
+	public long capacity() {
+		return (long) chunks.length << CHUNK_SHIFT;
+	}
+
+	@Override
+	public void ensureCapacity(long size) {
+		int count = Math.toIntExact((size + MASK) >>> CHUNK_SHIFT);
+		if (count <= chunks.length) {
+			return;
+		}
+		int old = chunks.length;
+		chunks = Arrays.copyOf(chunks, count);
+		try {
+			for (int k = old; k < count; k++) {
+				long position = (long) k * CHUNK * Double.BYTES;
+				chunks[k] = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) CHUNK * Double.BYTES)
+						.order(ByteOrder.nativeOrder()).asDoubleBuffer();
+			}
+		} catch (IOException e) {
+			chunks = Arrays.copyOf(chunks, old);
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public double get(long index) {
+		return chunks[(int) (index >>> CHUNK_SHIFT)].get((int) index & MASK);
+	}
+
+	@Override
+	public void set(long index, double value) {
+		chunks[(int) (index >>> CHUNK_SHIFT)].put((int) index & MASK, value);
+	}
+
+	@Override
+	public void fill(long from, long to, double value) {
+		while (from < to) {
+			DoubleBuffer chunk = chunks[(int) (from >>> CHUNK_SHIFT)];
+			int offset = (int) from & MASK;
+			int length = (int) Math.min(to - from, CHUNK - offset);
+			for (int k = 0; k < length; k++) {
+				chunk.put(offset + k, value);
+			}
+			from += length;
+		}
+	}
+
+	@Override
+	public void copy(long from, long to, long length) {
+		if (from < to) {
+			for (long k = length - 1; k >= 0; k--) {
+				set(to + k, get(from + k));
+			}
+		} else if (from > to) {
+			while (length > 0) {
+				DoubleBuffer source = chunks[(int) (from >>> CHUNK_SHIFT)];
+				DoubleBuffer target = chunks[(int) (to >>> CHUNK_SHIFT)];
+				int sourceOffset = (int) from & MASK;
+				int targetOffset = (int) to & MASK;
+				int count = (int) Math.min(length, CHUNK - Math.max(sourceOffset, targetOffset));
+				for (int k = 0; k < count; k++) {
+					target.put(targetOffset + k, source.get(sourceOffset + k));
+				}
+				from += count;
+				to += count;
+				length -= count;
+			}
+		}
+	}
+
+	@Override
+	public void scale(double a, long x, int length) {
+		while (length > 0) {
+			DoubleBuffer chunk = chunks[(int) (x >>> CHUNK_SHIFT)];
+			int offset = (int) x & MASK;
+			int count = Math.min(length, CHUNK - offset);
+			for (int k = 0; k < count; k++) {
+				chunk.put(offset + k, chunk.get(offset + k) * a);
+			}
+			x += count;
+			length -= count;
+		}
+	}
+
+	@Override
+	public void axpy(double a, long x, long y, int length) {
+		while (length > 0) {
+			DoubleBuffer source = chunks[(int) (x >>> CHUNK_SHIFT)];
+			DoubleBuffer target = chunks[(int) (y >>> CHUNK_SHIFT)];
+			int sourceOffset = (int) x & MASK;
+			int targetOffset = (int) y & MASK;
+			int count = Math.min(length, CHUNK - Math.max(sourceOffset, targetOffset));
+			for (int k = 0; k < count; k++) {
+				target.put(targetOffset + k, target.get(targetOffset + k) + source.get(sourceOffset + k) * a);
+			}
+			x += count;
+			y += count;
+			length -= count;
+		}
+	}
+
+	@Override
+	public void axpy(double a, long x, long y, int[] indices, int count) {
+		for (int k = 0; k < count; k++) {
+			int j = indices[k];
+			set(y + j, get(y + j) + get(x + j) * a);
+		}
+	}
+
+	@Override
+	public void axpy(double a, long x, double[] y, int from, int to) {
+		long index = x + from;
+		int j = from;
+		while (j < to) {
+			DoubleBuffer chunk = chunks[(int) (index >>> CHUNK_SHIFT)];
+			int offset = (int) index & MASK;
+			int count = Math.min(to - j, CHUNK - offset);
+			for (int k = 0; k < count; k++) {
+				y[j + k] += chunk.get(offset + k) * a;
+			}
+			index += count;
+			j += count;
+		}
+	}
+
+	@Override
+	public TableauStorage copy(long size) {
+		try {
+			MappedStorage storage = new MappedStorage(directory);
+			storage.ensureCapacity(size);
+			for (long k = 0; k < size; k += CHUNK) {
+				DoubleBuffer source = chunks[(int) (k >>> CHUNK_SHIFT)].duplicate();
+				source.limit((int) Math.min(CHUNK, size - k));
+				storage.chunks[(int) (k >>> CHUNK_SHIFT)].duplicate().put(source);
+			}
+			return storage;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void close() {
+		chunks = new DoubleBuffer[0];
+		cleanable.clean();
+	}
+
+	// дія Cleaner не повинна посилатися на саму пам'ять, тому зберігає лише канал файлу
+	private static final class Release implements Runnable {
+		private final FileChannel channel;
+
+		private Release(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		@Override
+		public void run() {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}
\ No newline at end of file
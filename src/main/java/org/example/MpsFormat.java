@@ -0,0 +1,268 @@
+package org.example;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/*
+У цьому класі реалізовано читання та запис моделі (LinearModel) у вільному форматі MPS.
+
+Читання: Файл читається по рядку через буферизований потік NIO (Files.newBufferedReader), рядок розбивається на слова без регулярних виразів, а назви, ціни та коефіцієнти одразу передаються в LinearModel.Builder, тому пам'ять залежить лише від кількості ненульових коефіцієнтів, а не від розміру файлу. Підтримуються розділи NAME, OBJSENSE, ROWS, COLUMNS, RHS, RANGES, BOUNDS та ENDATA; рядки, що починаються з '*', є коментарями. Першим рядком типу N є цільова функція, інші рядки типу N пропускаються. Вільний член цільової функції в RHS задає сталу зі зворотним знаком. Позначки MARKER (цілочислові змінні) пропускаються. Межі LO, UP, FX, BV, LI, UI та PL перетворюються на обмеження (LinearModel.Builder), а межі FR та MI не підтримуються. Назва набору меж необов'язкова; значення меж BV, MI, PL та FR, якщо його записано, ігнорується.
+
+Запис: Модель записується з назвами рядків і змінних; межі та проміжки, прочитані з файлу, записуються як звичайні обмеження. Для мінімізації розділ OBJSENSE не записується.
+
+Помилки формату повідомляються винятком IOException з номером рядка файлу.
+*/
+
+public final class MpsFormat {
+	private MpsFormat() {
+	}
+
+	public static LinearModel read(Path path) throws IOException {
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.ISO_8859_1)) {
+			return read(reader);
+		}
+	}
+
+	public static LinearModel read(BufferedReader reader) throws IOException {
+		LinearModel.Builder builder = new LinearModel.Builder();
+		Set<String> ignoredRows = new HashSet<>();
+		String objective = null;
+		String section = "";
+		String[] tokens = new String[8];
+		String line;
+		int lineNumber = 0;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			if (line.isEmpty() || line.charAt(0) == '*') {
+				continue;
+			}
+			int count = split(line, tokens);
+			if (count == 0) {
+				continue;
+			}
+			try {
+				if (!Character.isWhitespace(line.charAt(0))) {
+					section = tokens[0].toUpperCase(Locale.ROOT);
+					switch (section) {
+						case "NAME" -> builder.setName(count > 1 ? tokens[1] : "");
+						case "OBJSENSE" -> {
+							if (count > 1) {
+								builder.setMax(isMax(tokens[1]));
+							}
+						}
+						case "ENDATA" -> {
+							return builder.build();
+						}
+						case "ROWS", "COLUMNS", "RHS", "RANGES", "BOUNDS" -> {
+						}
+						default -> throw new IllegalArgumentException("Unknown section " + tokens[0]);
+					}
+					continue;
+				}
+				switch (section) {
+					case "OBJSENSE" -> builder.setMax(isMax(tokens[0]));
+					case "ROWS" -> {
+						require(count >= 2, line);
+						String type = tokens[0].toUpperCase(Locale.ROOT);
+						if (type.equals("N")) {
+							if (objective == null) {
+								objective = tokens[1];
+							} else {
+								ignoredRows.add(tokens[1]);
+							}
+						} else {
+							builder.addRow(tokens[1], sign(type));
+						}
+					}
+					case "COLUMNS" -> {
+						if (count >= 2 && tokens[1].equals("'MARKER'")) {
+							continue;
+						}
+						require(count >= 3 && count % 2 == 1, line);
+						int col = builder.addColumn(tokens[0]);
+						for (int k = 1; k < count; k += 2) {
+							double value = Double.parseDouble(tokens[k + 1]);
+							if (tokens[k].equals(objective)) {
+								builder.addCost(col, value);
+							} else if (!ignoredRows.contains(tokens[k])) {
+								builder.add(row(builder, tokens[k]), col, value);
+							}
+						}
+					}
+					case "RHS", "RANGES" -> {
+						for (int k = count % 2; k < count; k += 2) {
+							require(k + 1 < count, line);
+							double value = Double.parseDouble(tokens[k + 1]);
+							if (tokens[k].equals(objective)) {
+								builder.setOffset(-value);
+							} else if (ignoredRows.contains(tokens[k])) {
+								continue;
+							} else if (section.equals("RHS")) {
+								builder.setValue(row(builder, tokens[k]), value);
+							} else {
+								builder.setRange(row(builder, tokens[k]), value);
+							}
+						}
+					}
+					case "BOUNDS" -> bound(builder, tokens, count, line);
+					default -> throw new IllegalArgumentException("Data outside of a section");
+				}
+			} catch (IllegalArgumentException e) {
+				throw new IOException("Line " + lineNumber + ": " + e.getMessage(), e);
+			}
+		}
+		return builder.build();
+	}
+
+	private static void bound(LinearModel.Builder builder, String[] tokens, int count, String line) {
+		String type = tokens[0].toUpperCase(Locale.ROOT);
+		boolean valued = switch (type) {
+			case "UP", "LO", "FX", "LI", "UI" -> true;
+			case "FR", "MI", "PL", "BV" -> false;
+			default -> throw new IllegalArgumentException("Unknown bound type " + tokens[0]);
+		};
+		// назва набору меж необов'язкова; межі без значення (BV, MI, PL, FR) іноді все ж записуються зі значенням
+		int name = valued ? count - 2 : count - 1;
+		if (!valued && count >= 3 && builder.findColumn(tokens[name]) == -1 && isNumber(tokens[name])) {
+			name--;
+		}
+		require(name >= 1 && name <= 2, line);
+		int col = builder.findColumn(tokens[name]);
+		if (col == -1) {
+			throw new IllegalArgumentException("Unknown column " + tokens[name]);
+		}
+		double value = valued ? Double.parseDouble(tokens[name + 1]) : 0;
+		switch (type) {
+			case "UP", "UI" -> builder.setUpper(col, value);
+			case "LO", "LI" -> builder.setLower(col, value);
+			case "FX" -> builder.setLower(col, value).setUpper(col, value);
+			case "BV" -> builder.setUpper(col, 1);
+			case "FR", "MI" -> throw new IllegalArgumentException("Free column " + tokens[name] + " is not supported");
+			default -> {
+			}
+		}
+	}
+
+	private static int row(LinearModel.Builder builder, String name) {
+		int row = builder.findRow(name);
+		if (row == -1) {
+			throw new IllegalArgumentException("Unknown row " + name);
+		}
+		return row;
+	}
+
+	private static Function.Sign sign(String type) {
+		return switch (type) {
+			case "L" -> Function.Sign.LESS;
+			case "G" -> Function.Sign.GREATER;
+			case "E" -> Function.Sign.EQUAL;
+			default -> throw new IllegalArgumentException("Unknown row type " + type);
+		};
+	}
+
+	private static boolean isNumber(String token) {
+		try {
+			Double.parseDouble(token);
+			return true;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	private static boolean isMax(String sense) {
+		return sense.toUpperCase(Locale.ROOT).startsWith("MAX");
+	}
+
+	private static void require(boolean condition, String line) {
+		if (!condition) {
+			throw new IllegalArgumentException("Malformed line: " + line.trim());
+		}
+	}
+
+	// розбиває рядок на слова, розділені пробілами чи табуляцією; повертає кількість слів
+	static int split(String line, String[] tokens) {
+		int count = 0;
+		int length = line.length();
+		int i = 0;
+		while (i < length) {
+			while (i < length && line.charAt(i) <= ' ') {
+				i++;
+			}
+			int start = i;
+			while (i < length && line.charAt(i) > ' ') {
+				i++;
+			}
+			if (start < i) {
+				if (count == tokens.length) {
+					throw new IllegalArgumentException("Too many fields: " + line.trim());
+				}
+				tokens[count++] = line.substring(start, i);
+			}
+		}
+		return count;
+	}
+
+	public static void write(LinearModel model, Path path) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.ISO_8859_1)) {
+			write(model, writer);
+		}
+	}
+
+	public static void write(LinearModel model, Writer writer) throws IOException {
+		Set<String> rows = new HashSet<>();
+		for (int i = 0; i < model.getRows(); i++) {
+			rows.add(model.getRowName(i));
+		}
+		String objective = "obj";
+		while (rows.contains(objective)) {
+			objective += "_";
+		}
+
+		writer.write("NAME " + (model.getName().isEmpty() ? "model" : model.getName()) + "\n");
+		if (model.isMax()) {
+			writer.write("OBJSENSE\n    MAX\n");
+		}
+		writer.write("ROWS\n N " + objective + "\n");
+		for (int i = 0; i < model.getRows(); i++) {
+			String type = switch (model.getSign(i)) {
+				case LESS -> "L";
+				case GREATER -> "G";
+				case EQUAL -> "E";
+			};
+			writer.write(" " + type + " " + model.getRowName(i) + "\n");
+		}
+
+		writer.write("COLUMNS\n");
+		SparseMatrix matrix = model.getMatrix();
+		for (int j = 0; j < model.getVariables(); j++) {
+			String column = model.getColumnName(j);
+			if (model.getCost(j) != 0) {
+				writer.write(" " + column + " " + objective + " " + LinearModel.format(model.getCost(j)) + "\n");
+			}
+			for (int k = matrix.colStart(j); k < matrix.colStart(j + 1); k++) {
+				int row = matrix.colIndex(k);
+				double value = model.getValue(row) < 0 ? -matrix.colValue(k) : matrix.colValue(k);
+				writer.write(" " + column + " " + model.getRowName(row) + " " + LinearModel.format(value) + "\n");
+			}
+		}
+
+		writer.write("RHS\n");
+		if (model.getOffset() != 0) {
+			writer.write(" RHS " + objective + " " + LinearModel.format(-model.getOffset()) + "\n");
+		}
+		for (int i = 0; i < model.getRows(); i++) {
+			if (model.getValue(i) != 0) {
+				writer.write(" RHS " + model.getRowName(i) + " " + LinearModel.format(model.getValue(i)) + "\n");
+			}
+		}
+		writer.write("ENDATA\n");
+	}
+}
\ No newline at end of file
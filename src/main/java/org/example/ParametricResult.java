@@ -0,0 +1,121 @@
+package org.example;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/*
+У цьому класі зберігається результат параметричного розв'язання (FunctionSystem.getParametric) задачі з цільовою функцією C + λ D для λ з відрізка [lower, upper].
+
+Основні елементи класу:
+
+status: OPTIMAL, якщо оптимальні базиси знайдено для всього відрізка; UNBOUNDED, якщо цільова функція необмежена при λ = lower або для λ, більших за кінець останнього відрізка; INFEASIBLE, якщо задача недопустима; ITERATION_LIMIT, якщо вичерпано допустиму кількість ітерацій.
+segments: Відрізки λ, на яких оптимальний базис не змінюється (Segment). Оптимальне значення цільової функції на відрізку лінійне: intercept + slope * λ, а values - значення змінних (як у SolveResult.getValues) в оптимальній вершині. Межі сусідніх відрізків - точки зміни базису (getBreakpoints), в яких оптимальне значення неперервне, а нахил змінюється (для максимуму зростає, для мінімуму спадає).
+iterations: Кількість ітерацій: розв'язання для λ = lower і по одному кроку на кожну точку зміни базису.
+*/
+
+public final class ParametricResult {
+	private final SolveStatus status;
+	private final List<Segment> segments;
+	private final int iterations;
+	private final long timeNanos;
+
+	ParametricResult(SolveStatus status, List<Segment> segments, int iterations, long timeNanos) {
+		this.status = status;
+		this.segments = Collections.unmodifiableList(segments);
+		this.iterations = iterations;
+		this.timeNanos = timeNanos;
+	}
+
+	public SolveStatus getStatus() {
+		return status;
+	}
+
+	public List<Segment> getSegments() {
+		return segments;
+	}
+
+	public double[] getBreakpoints() {
+		double[] breakpoints = new double[Math.max(segments.size() - 1, 0)];
+		for (int k = 0; k < breakpoints.length; k++) {
+			breakpoints[k] = segments.get(k).upper;
+		}
+		return breakpoints;
+	}
+
+	// оптимальне значення цільової функції для λ; NaN, якщо λ поза знайденими відрізками
+	public double getObjective(double lambda) {
+		for (Segment segment : segments) {
+			if (segment.lower <= lambda && lambda <= segment.upper) {
+				return segment.getObjective(lambda);
+			}
+		}
+		return Double.NaN;
+	}
+
+	public int getIterations() {
+		return iterations;
+	}
+
+	public Duration getTime() {
+		return Duration.ofNanos(timeNanos);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder(status.toString()).append(", iterations = ").append(iterations);
+		for (Segment segment : segments) {
+			builder.append('\n').append(segment);
+		}
+		return builder.toString();
+	}
+
+	public static final class Segment {
+		private final double lower;
+		private final double upper;
+		private final double intercept;
+		private final double slope;
+		private final double[] values;
+
+		Segment(double lower, double upper, double intercept, double slope, List<Double> values) {
+			this.lower = lower;
+			this.upper = upper;
+			this.intercept = intercept;
+			this.slope = slope;
+			this.values = new double[values.size()];
+			for (int i = 0; i < this.values.length; i++) {
+				this.values[i] = values.get(i);
+			}
+		}
+
+		public double getLower() {
+			return lower;
+		}
+
+		public double getUpper() {
+			return upper;
+		}
+
+		public double getIntercept() {
+			return intercept;
+		}
+
+		public double getSlope() {
+			return slope;
+		}
+
+		public double getObjective(double lambda) {
+			return intercept + slope * lambda;
+		}
+
+		public double[] getValues() {
+			return values.clone();
+		}
+
+		@Override
+		public String toString() {
+			return "[%.6g, %.6g]: F = %.6g + %.6g * λ, X = %s".formatted(lower, upper, intercept, slope, Arrays.toString(values));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package org.example;
+
+/*
+Часткове оцінювання: стовпці переглядаються частинами по segment стовпців, починаючи з частини, наступної за попередньою. Вхідною змінною обирається стовпець з найбільшою за модулем від'ємною оцінкою в першій частині, де такі стовпці є.
+Якщо жодна частина не містить від'ємних оцінок, план оптимальний. Корисно для задач з дуже великою кількістю стовпців.
+*/
+
+public class PartialPricing implements PricingRule {
+	public static final int DEFAULT_SEGMENT = 64;
+
+	private final int segment;
+	private int cursor;
+
+	public PartialPricing() {
+		this(DEFAULT_SEGMENT);
+	}
+
+	public PartialPricing(int segment) {
+		this.segment = Math.max(1, segment);
+	}
+
+	@Override
+	public String name() {
+		return "partial";
+	}
+
+	@Override
+	public void start(Tableau tableau) {
+		cursor = 0;
+	}
+
+	@Override
+	public int select(Tableau tableau) {
+		int cols = tableau.cols();
+		if (cols == 0) {
+			return -1;
+		}
+		int start = cursor % cols;
+		for (int scanned = 0; scanned < cols; scanned += segment) {
+			int maxNotOpt = -1;
+			int end = Math.min(scanned + segment, cols);
+			for (int k = scanned; k < end; k++) {
+				int j = (start + k) % cols;
+				if (tableau.getZcDiff(j) < -tableau.getOptimalityTolerance() &&
+						(maxNotOpt == -1 || tableau.getZcDiff(j) < tableau.getZcDiff(maxNotOpt))) {
+					maxNotOpt = j;
+				}
+			}
+			if (maxNotOpt != -1) {
+				cursor = (start + end) % cols;
+				return maxNotOpt;
+			}
+		}
+		return -1;
+	}
+}
\ No newline at end of file
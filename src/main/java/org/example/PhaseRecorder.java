@@ -0,0 +1,92 @@
+package org.example;
+
+import jdk.jfr.EventType;
+
+/*
+У цьому класі вимірюються етапи розв'язання однієї задачі (FunctionSystem, RevisedSimplex): метод phase завершує поточний етап (записує його в SolverMetrics та подію SolverPhaseEvent) і починає наступний. Якщо метрики не встановлено і події JFR вимкнено, етап не починається, тому час не вимірюється і подія не створюється.
+
+Рекордер спрощеної задачі (nested) не записує розв'язання (SolveEvent, SolverMetrics.getSolves): його записує початкова задача.
+*/
+
+final class PhaseRecorder {
+	private static final EventType PHASE_EVENT = EventType.getEventType(SolverPhaseEvent.class);
+	private static final EventType SOLVE_EVENT = EventType.getEventType(SolveEvent.class);
+
+	private final String problem;
+	private SolverMetrics metrics;
+	private boolean nested;
+	private SolverMetrics.Phase phase;
+	private SolverPhaseEvent event;
+	private long start;
+	private int iterations;
+	private int degenerate;
+
+	PhaseRecorder(String problem) {
+		this.problem = problem;
+	}
+
+	SolverMetrics getMetrics() {
+		return metrics;
+	}
+
+	void setMetrics(SolverMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	void setNested(boolean nested) {
+		this.nested = nested;
+	}
+
+	// iterations та degenerate - лічильники задачі на момент виклику, rows x cols - розмір таблиці наприкінці поточного етапу
+	void phase(SolverMetrics.Phase next, int iterations, int degenerate, int rows, int cols) {
+		if (phase != null) {
+			int phaseIterations = iterations - this.iterations;
+			int phaseDegenerate = degenerate - this.degenerate;
+			if (metrics != null) {
+				metrics.record(phase, System.nanoTime() - start, phaseIterations, phaseDegenerate, rows, cols);
+			}
+			if (event != null) {
+				event.end();
+				if (event.shouldCommit()) {
+					event.problem = problem;
+					event.phase = phase.name();
+					event.iterations = phaseIterations;
+					event.degeneratePivots = phaseDegenerate;
+					event.rows = rows;
+					event.cols = cols;
+					event.commit();
+				}
+				event = null;
+			}
+			phase = null;
+		}
+		if (next != null && (metrics != null || PHASE_EVENT.isEnabled())) {
+			phase = next;
+			start = System.nanoTime();
+			this.iterations = iterations;
+			this.degenerate = degenerate;
+			if (PHASE_EVENT.isEnabled()) {
+				event = new SolverPhaseEvent();
+				event.begin();
+			}
+		}
+	}
+
+	void solved(SolveStatus status, long nanos, int iterations, int degenerate) {
+		if (nested) {
+			return;
+		}
+		if (metrics != null) {
+			metrics.solved(nanos);
+		}
+		if (SOLVE_EVENT.isEnabled()) {
+			SolveEvent event = new SolveEvent();
+			event.problem = problem;
+			event.status = status.name();
+			event.iterations = iterations;
+			event.degeneratePivots = degenerate;
+			event.solveTime = nanos;
+			event.commit();
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,498 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+У цьому класі реалізовано попередню обробку (presolve) задачі перед симплекс-методом та відновлення розв'язку початкової задачі (postsolve). Її виконує FunctionSystem.getOptimal, якщо задано setPresolve(true).
+
+Задача вже має вигляд max c x, A x = b, x >= 0 (нерівності перетворені на рівності додатковими змінними). Спрощення повторюються, доки хоча б одне з них змінює задачу:
+
+Порожній рядок: Видаляється, якщо вільний член дорівнює нулю, інакше задача недопустима.
+Рядок з однією змінною: Фіксує змінну x_k = b_i / a_ik (від'ємне значення означає недопустимість); змінна підставляється в інші рядки, а рядок видаляється.
+Обмежувальний рядок: Якщо всі коефіцієнти рядка одного знака, а вільний член дорівнює нулю, усі його змінні фіксуються нулем; якщо вільний член протилежного знака, задача недопустима.
+Зайвий рядок: Рядок з власною додатковою змінною (єдиний ненульовий коефіцієнт стовпця з нульовою ціною), який виконується при будь-яких x >= 0 (наприклад, -x1 - x2 <= 5), видаляється разом з цією змінною.
+Дублікати: Рядки з пропорційними коефіцієнтами (без урахування власної додаткової змінної) порівнюються як проміжки для a x; рядок, проміжок якого містить проміжок іншого, видаляється, а порожній перетин означає недопустимість.
+Порожній стовпець: Змінна без ненульових коефіцієнтів з ціною <= 0 фіксується нулем.
+
+Після спрощення рядки та стовпці масштабуються (SCALING_PASSES проходів середнього геометричного найменшого та найбільшого коефіцієнтів, потім рівняння рядків за найбільшим коефіцієнтом). Множники округлюються до степенів двійки, тому масштабування не вносить похибок округлення; стовпець з одним ненульовим коефіцієнтом масштабується так, щоб коефіцієнт став ±1 і залишився одиничним стовпцем початкового базису.
+
+Відновлення (postsolve): значення змінних та двоїсті оцінки спрощеної задачі повертаються до початкового масштабу, після чого спрощення скасовуються у зворотному порядку. Зафіксовані змінні отримують свої значення, додаткові змінні видалених рядків обчислюються з початкового рядка. Двоїста оцінка видаленого зайвого рядка чи дубліката дорівнює нулю; для рядка з однією змінною вона обирається так, щоб оцінка зафіксованої змінної дорівнювала нулю, а для обмежувального рядка - найменша, за якої оцінки всіх його змінних допустимі. Тому відновлені значення та двоїсті оцінки утворюють оптимальну пару початкової задачі.
+*/
+
+public class Presolve {
+	private static final int SCALING_PASSES = 4;
+
+	private final int rows;
+	private final int cols;
+	private final double[][] a;
+	private final double[] b;
+	private final double[] c;
+	private final double[] value;
+	private final double[] fixed;
+	private final boolean[] rowActive;
+	private final boolean[] colActive;
+	private final int[] colCount;
+	private final List<Step> steps = new ArrayList<>();
+	private final Tolerances tolerances;
+	private final double feasibility;
+	private int[] rowMap;
+	private int[] colMap;
+	private double[] rowScale;
+	private double[] colScale;
+
+	public Presolve(Function objective, List<Function> functions, int coefNum, Tolerances tolerances) {
+		rows = functions.size();
+		cols = coefNum;
+		a = new double[rows][cols];
+		b = new double[rows];
+		c = new double[cols];
+		double valueScale = 0;
+		for (int i = 0; i < rows; i++) {
+			Function function = functions.get(i);
+			for (int j = 0; j < cols && j < function.coefficients.size(); j++) {
+				a[i][j] = function.coefficients.get(j);
+			}
+			b[i] = function.value;
+			valueScale = Math.max(valueScale, Math.abs(b[i]));
+		}
+		for (int j = 0; j < cols && j < objective.coefficients.size(); j++) {
+			c[j] = objective.coefficients.get(j);
+		}
+		value = b.clone();
+		fixed = new double[cols];
+		rowActive = new boolean[rows];
+		colActive = new boolean[cols];
+		colCount = new int[cols];
+		Arrays.fill(rowActive, true);
+		Arrays.fill(colActive, true);
+		this.tolerances = tolerances;
+		feasibility = tolerances.feasibility(valueScale);
+	}
+
+	public SolveStatus presolve() {
+		boolean changed = true;
+		while (changed) {
+			countColumns();
+			changed = false;
+			for (int i = 0; i < rows; i++) {
+				if (rowActive[i]) {
+					SolveStatus status = reduceRow(i);
+					if (status == null) {
+						changed = true;
+					} else if (status != SolveStatus.OPTIMAL) {
+						return status;
+					}
+				}
+			}
+			countColumns();
+			for (int j = 0; j < cols; j++) {
+				if (colActive[j] && colCount[j] == 0 && c[j] <= 0) {
+					colActive[j] = false;
+					changed = true;
+				}
+			}
+			SolveStatus status = removeDuplicates();
+			if (status == null) {
+				changed = true;
+			} else if (status != SolveStatus.OPTIMAL) {
+				return status;
+			}
+		}
+
+		rowMap = indices(rowActive);
+		colMap = indices(colActive);
+		if (rowMap.length == 0) {
+			for (int j : colMap) {
+				if (c[j] > 0) {
+					return SolveStatus.UNBOUNDED;
+				}
+			}
+		}
+		scale();
+		return SolveStatus.OPTIMAL;
+	}
+
+	// null - рядок видалено, OPTIMAL - рядок залишився без змін
+	private SolveStatus reduceRow(int i) {
+		int count = 0;
+		int last = -1;
+		int positive = 0;
+		int slack = -1;
+		for (int j = 0; j < cols; j++) {
+			if (colActive[j] && a[i][j] != 0) {
+				count++;
+				last = j;
+				if (a[i][j] > 0) {
+					positive++;
+				}
+				if (slack == -1 && colCount[j] == 1 && c[j] == 0) {
+					slack = j;
+				}
+			}
+		}
+
+		if (count == 0) {
+			if (Math.abs(value[i]) > feasibility) {
+				return SolveStatus.INFEASIBLE;
+			}
+			removeRow(i);
+			return null;
+		}
+		if (count == 1) {
+			double x = value[i] / a[i][last];
+			if (x < -feasibility) {
+				return SolveStatus.INFEASIBLE;
+			}
+			fix(last, Math.max(0, x));
+			removeRow(i);
+			steps.add(new Step(Reduction.FIXED_ROW, i, new int[]{last}));
+			return null;
+		}
+		if (positive == 0 || positive == count) {
+			double sign = positive == 0 ? -1 : 1;
+			if (value[i] * sign < -feasibility) {
+				return SolveStatus.INFEASIBLE;
+			}
+			if (value[i] * sign <= feasibility) {
+				int[] forced = new int[count];
+				for (int j = 0, k = 0; j < cols; j++) {
+					if (colActive[j] && a[i][j] != 0) {
+						forced[k++] = j;
+					}
+				}
+				for (int j : forced) {
+					fix(j, 0);
+				}
+				removeRow(i);
+				steps.add(new Step(Reduction.FORCING_ROW, i, forced));
+				return null;
+			}
+		}
+		if (slack != -1 && isRedundant(i, slack)) {
+			colActive[slack] = false;
+			removeRow(i);
+			steps.add(new Step(Reduction.DROPPED_ROW, i, new int[]{slack}));
+			return null;
+		}
+		return SolveStatus.OPTIMAL;
+	}
+
+	// додаткова змінна (b - a x) / a_s невід'ємна для будь-яких x >= 0
+	private boolean isRedundant(int i, int slack) {
+		double sign = a[i][slack] > 0 ? 1 : -1;
+		if (value[i] * sign < -feasibility) {
+			return false;
+		}
+		for (int j = 0; j < cols; j++) {
+			if (j != slack && colActive[j] && a[i][j] * sign > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// null - видалено хоча б один рядок
+	private SolveStatus removeDuplicates() {
+		Map<List<Integer>, List<RowRange>> groups = new HashMap<>();
+		boolean removed = false;
+		for (int i = 0; i < rows; i++) {
+			if (!rowActive[i]) {
+				continue;
+			}
+			RowRange range = new RowRange(i);
+			if (range.support.isEmpty()) {
+				continue;
+			}
+			List<RowRange> group = groups.computeIfAbsent(range.support, key -> new ArrayList<>());
+			boolean keep = true;
+			for (int k = 0; k < group.size() && keep; k++) {
+				RowRange other = group.get(k);
+				if (!range.isParallel(other)) {
+					continue;
+				}
+				if (Math.max(range.lower, other.lower) > Math.min(range.upper, other.upper) + feasibility) {
+					return SolveStatus.INFEASIBLE;
+				}
+				if (range.contains(other)) {
+					dropRow(range);
+					keep = false;
+				} else if (other.contains(range)) {
+					dropRow(other);
+					group.set(k, range);
+					keep = false;
+				}
+			}
+			if (keep) {
+				group.add(range);
+			} else {
+				removed = true;
+			}
+		}
+		return removed ? null : SolveStatus.OPTIMAL;
+	}
+
+	private void dropRow(RowRange range) {
+		if (range.slack != -1) {
+			colActive[range.slack] = false;
+		}
+		removeRow(range.row);
+		steps.add(new Step(Reduction.DROPPED_ROW, range.row, range.slack == -1 ? new int[0] : new int[]{range.slack}));
+	}
+
+	private void fix(int col, double x) {
+		fixed[col] = x;
+		colActive[col] = false;
+		if (x != 0) {
+			for (int i = 0; i < rows; i++) {
+				value[i] -= a[i][col] * x;
+			}
+		}
+	}
+
+	private void removeRow(int row) {
+		rowActive[row] = false;
+		for (int j = 0; j < cols; j++) {
+			if (a[row][j] != 0) {
+				colCount[j]--;
+			}
+		}
+	}
+
+	private void countColumns() {
+		Arrays.fill(colCount, 0);
+		for (int i = 0; i < rows; i++) {
+			for (int j = 0; rowActive[i] && j < cols; j++) {
+				if (a[i][j] != 0) {
+					colCount[j]++;
+				}
+			}
+		}
+	}
+
+	private static int[] indices(boolean[] active) {
+		int count = 0;
+		for (boolean x : active) {
+			if (x) {
+				count++;
+			}
+		}
+		int[] indices = new int[count];
+		for (int i = 0, k = 0; i < active.length; i++) {
+			if (active[i]) {
+				indices[k++] = i;
+			}
+		}
+		return indices;
+	}
+
+	private void scale() {
+		rowScale = new double[rowMap.length];
+		colScale = new double[colMap.length];
+		Arrays.fill(rowScale, 1);
+		Arrays.fill(colScale, 1);
+		for (int pass = 0; pass < SCALING_PASSES; pass++) {
+			for (int i = 0; i < rowMap.length; i++) {
+				double min = Double.POSITIVE_INFINITY;
+				double max = 0;
+				for (int j = 0; j < colMap.length; j++) {
+					double x = Math.abs(a[rowMap[i]][colMap[j]] * colScale[j]);
+					if (x != 0) {
+						min = Math.min(min, x);
+						max = Math.max(max, x);
+					}
+				}
+				rowScale[i] = max == 0 ? 1 : powerOfTwo(1 / Math.sqrt(min * max));
+			}
+			for (int j = 0; j < colMap.length; j++) {
+				double min = Double.POSITIVE_INFINITY;
+				double max = 0;
+				for (int i = 0; i < rowMap.length; i++) {
+					double x = Math.abs(a[rowMap[i]][colMap[j]] * rowScale[i]);
+					if (x != 0) {
+						min = Math.min(min, x);
+						max = Math.max(max, x);
+					}
+				}
+				colScale[j] = max == 0 ? 1 : powerOfTwo(1 / Math.sqrt(min * max));
+			}
+		}
+		for (int i = 0; i < rowMap.length; i++) {
+			double max = 0;
+			for (int j = 0; j < colMap.length; j++) {
+				max = Math.max(max, Math.abs(a[rowMap[i]][colMap[j]] * rowScale[i] * colScale[j]));
+			}
+			if (max != 0) {
+				rowScale[i] *= powerOfTwo(1 / max);
+			}
+		}
+		for (int j = 0; j < colMap.length; j++) {
+			int row = -1;
+			for (int i = 0; i < rowMap.length; i++) {
+				if (a[rowMap[i]][colMap[j]] != 0) {
+					row = row == -1 ? i : -2;
+				}
+			}
+			if (row >= 0) {
+				colScale[j] = powerOfTwo(1 / Math.abs(a[rowMap[row]][colMap[j]] * rowScale[row]));
+			}
+		}
+	}
+
+	private static double powerOfTwo(double x) {
+		return Math.scalb(1.0, Math.getExponent(x * Math.sqrt(2)));
+	}
+
+	public FunctionSystem getReduced() {
+		Double[] objective = new Double[colMap.length];
+		for (int j = 0; j < colMap.length; j++) {
+			objective[j] = c[colMap[j]] * colScale[j];
+		}
+		FunctionSystem system = new FunctionSystem(new Function(objective));
+		for (int i = 0; i < rowMap.length; i++) {
+			Double[] coefficients = new Double[colMap.length];
+			for (int j = 0; j < colMap.length; j++) {
+				coefficients[j] = a[rowMap[i]][colMap[j]] * rowScale[i] * colScale[j];
+			}
+			system.addFunctionComplete(new Function(coefficients, value[rowMap[i]] * rowScale[i], Function.Sign.EQUAL));
+		}
+		return system;
+	}
+
+	public int getRows() {
+		return rowMap.length;
+	}
+
+	public int getCols() {
+		return colMap.length;
+	}
+
+	public double[] postsolve(double[] reduced) {
+		double[] x = fixed.clone();
+		for (int j = 0; j < colMap.length; j++) {
+			x[colMap[j]] = reduced[j] * colScale[j];
+		}
+		for (int k = steps.size() - 1; k >= 0; k--) {
+			Step step = steps.get(k);
+			if (step.reduction == Reduction.DROPPED_ROW && step.cols.length == 1) {
+				int slack = step.cols[0];
+				double rest = b[step.row];
+				for (int j = 0; j < cols; j++) {
+					if (j != slack) {
+						rest -= a[step.row][j] * x[j];
+					}
+				}
+				x[slack] = Math.max(0, rest / a[step.row][slack]);
+			}
+		}
+		return x;
+	}
+
+	public double[] postsolveDuals(double[] reduced) {
+		if (reduced == null || reduced.length < rowMap.length) {
+			return null;
+		}
+		double[] y = new double[rows];
+		for (int i = 0; i < rowMap.length; i++) {
+			y[rowMap[i]] = reduced[i] * rowScale[i];
+		}
+		for (int k = steps.size() - 1; k >= 0; k--) {
+			Step step = steps.get(k);
+			int row = step.row;
+			if (step.reduction == Reduction.FIXED_ROW) {
+				int col = step.cols[0];
+				y[row] = reducedCost(y, col) / a[row][col];
+			} else if (step.reduction == Reduction.FORCING_ROW) {
+				double dual = 0;
+				for (int n = 0; n < step.cols.length; n++) {
+					int col = step.cols[n];
+					double ratio = reducedCost(y, col) / a[row][col];
+					if (n == 0 || (a[row][col] > 0 ? ratio > dual : ratio < dual)) {
+						dual = ratio;
+					}
+				}
+				y[row] = dual;
+			}
+		}
+		return y;
+	}
+
+	private double reducedCost(double[] y, int col) {
+		double d = c[col];
+		for (int i = 0; i < rows; i++) {
+			d -= y[i] * a[i][col];
+		}
+		return d;
+	}
+
+	private enum Reduction {
+		FIXED_ROW,
+		FORCING_ROW,
+		DROPPED_ROW
+	}
+
+	private static final class Step {
+		private final Reduction reduction;
+		private final int row;
+		private final int[] cols;
+
+		private Step(Reduction reduction, int row, int[] cols) {
+			this.reduction = reduction;
+			this.row = row;
+			this.cols = cols;
+		}
+	}
+
+	// рядок як проміжок lower <= a x / pivot <= upper без власної додаткової змінної
+	private final class RowRange {
+		private final int row;
+		private final int slack;
+		private final List<Integer> support = new ArrayList<>();
+		private final double[] normalized;
+		private final double lower;
+		private final double upper;
+
+		private RowRange(int row) {
+			this.row = row;
+			int slack = -1;
+			for (int j = 0; j < cols; j++) {
+				if (colActive[j] && a[row][j] != 0) {
+					if (slack == -1 && colCount[j] == 1 && c[j] == 0) {
+						slack = j;
+					} else {
+						support.add(j);
+					}
+				}
+			}
+			this.slack = slack;
+			normalized = new double[support.size()];
+			double pivot = support.isEmpty() ? 1 : a[row][support.get(0)];
+			for (int k = 0; k < normalized.length; k++) {
+				normalized[k] = a[row][support.get(k)] / pivot;
+			}
+			double rhs = value[row] / pivot;
+			double slackCoefficient = slack == -1 ? 0 : a[row][slack] / pivot;
+			lower = slackCoefficient > 0 ? Double.NEGATIVE_INFINITY : rhs;
+			upper = slackCoefficient < 0 ? Double.POSITIVE_INFINITY : rhs;
+		}
+
+		private boolean isParallel(RowRange other) {
+			for (int k = 0; k < normalized.length; k++) {
+				double x = normalized[k];
+				double y = other.normalized[k];
+				if (Math.abs(x - y) > tolerances.pivot(Math.max(Math.abs(x), Math.abs(y)))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		// проміжок цього рядка містить проміжок іншого, тобто цей рядок зайвий
+		private boolean contains(RowRange other) {
+			return lower <= other.lower + feasibility && upper >= other.upper - feasibility;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package org.example;
+
+/*
+Цей інтерфейс описує правило вибору вхідної змінної (стовпця) для симплекс-методу над таблицею (Tableau). Правило задається методом FunctionSystem.setPricingRule.
+
+Методи інтерфейсу:
+
+name: Назва правила (за нею у SolveResult.getIterationsByRule рахуються ітерації).
+start: Викликається перед першою ітерацією; правило скидає свій стан (наприклад, ваги стовпців).
+select: Повертає номер стовпця з від'ємною оцінкою Zj - Cj (меншою за -Tableau.getOptimalityTolerance, що задається з Tolerances) або -1, якщо таких стовпців немає (план оптимальний).
+update: Викликається перед кроком жорданових виключень з ведучим елементом (row, col), поки таблиця ще не змінена.
+
+Реалізації: DantzigPricing (найбільша за модулем оцінка), SteepestEdgePricing (найкрутіше ребро), DevexPricing (наближені ваги найкрутішого ребра), PartialPricing (пошук у частині стовпців), BlandPricing (найменший номер стовпця).
+Правило може зберігати стан між ітераціями, тому кожне розв'язання створює власний об'єкт правила.
+*/
+
+public interface PricingRule {
+	String name();
+
+	default void start(Tableau tableau) {
+	}
+
+	int select(Tableau tableau);
+
+	default void update(Tableau tableau, int row, int col) {
+	}
+}
\ No newline at end of file
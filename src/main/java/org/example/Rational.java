@@ -0,0 +1,249 @@
+package org.example;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+/*
+У цьому класі реалізовано незмінний раціональний дріб для точного розв'язання цілочислових задач (RationalSimplex).
+
+Чисельник і знаменник зберігаються у примітивних long, а операції виконуються через Math.multiplyExact та Math.addExact. Лише якщо результат не вміщується в long, дріб переходить на BigInteger і повертається до long, щойно скорочений результат знову вміщується. Дріб завжди скорочений, а знаменник додатний (значення Long.MIN_VALUE зберігається як BigInteger, щоб зміна знака не переповнювалась), тому рівні дроби мають однакове представлення.
+
+valueOf(double) перетворює число за його десятковим записом (0.1 стає 1/10, а не найближчим двійковим дробом), тому дані задачі потрапляють у точний розв'язок так, як їх записано.
+*/
+
+public final class Rational implements Comparable<Rational> {
+	public static final Rational ZERO = new Rational(0, 1);
+	public static final Rational ONE = new Rational(1, 1);
+
+	private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+	private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+	private final long num;
+	private final long den;
+	private final BigInteger bigNum;
+	private final BigInteger bigDen;
+
+	private Rational(long num, long den) {
+		this.num = num;
+		this.den = den;
+		bigNum = null;
+		bigDen = null;
+	}
+
+	private Rational(BigInteger bigNum, BigInteger bigDen) {
+		num = 0;
+		den = 1;
+		this.bigNum = bigNum;
+		this.bigDen = bigDen;
+	}
+
+	public static Rational valueOf(long value) {
+		return value == 0 ? ZERO : value == 1 ? ONE : of(value, 1);
+	}
+
+	public static Rational valueOf(BigInteger value) {
+		return of(value, BigInteger.ONE);
+	}
+
+	public static Rational valueOf(double value) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			throw new IllegalArgumentException("Not a finite number: " + value);
+		}
+		BigDecimal decimal = new BigDecimal(Double.toString(value)).stripTrailingZeros();
+		if (decimal.scale() <= 0) {
+			return of(decimal.toBigIntegerExact(), BigInteger.ONE);
+		}
+		return of(decimal.unscaledValue(), BigInteger.TEN.pow(decimal.scale()));
+	}
+
+	public static Rational of(long num, long den) {
+		if (den == 0) {
+			throw new ArithmeticException("Zero denominator");
+		}
+		if (num == Long.MIN_VALUE || den == Long.MIN_VALUE) {
+			return of(BigInteger.valueOf(num), BigInteger.valueOf(den));
+		}
+		if (den < 0) {
+			num = -num;
+			den = -den;
+		}
+		long gcd = gcd(Math.abs(num), den);
+		return new Rational(num / gcd, den / gcd);
+	}
+
+	private static Rational of(BigInteger num, BigInteger den) {
+		if (den.signum() == 0) {
+			throw new ArithmeticException("Zero denominator");
+		}
+		if (den.signum() < 0) {
+			num = num.negate();
+			den = den.negate();
+		}
+		BigInteger gcd = num.gcd(den);
+		if (!gcd.equals(BigInteger.ONE)) {
+			num = num.divide(gcd);
+			den = den.divide(gcd);
+		}
+		if (fits(num) && fits(den)) {
+			return new Rational(num.longValue(), den.longValue());
+		}
+		return new Rational(num, den);
+	}
+
+	private static boolean fits(BigInteger value) {
+		return value.compareTo(LONG_MIN) > 0 && value.compareTo(LONG_MAX) <= 0;
+	}
+
+	private static long gcd(long a, long b) {
+		while (b != 0) {
+			long t = a % b;
+			a = b;
+			b = t;
+		}
+		return a == 0 ? 1 : a;
+	}
+
+	private boolean isBig() {
+		return bigNum != null;
+	}
+
+	private BigInteger bigNum() {
+		return isBig() ? bigNum : BigInteger.valueOf(num);
+	}
+
+	private BigInteger bigDen() {
+		return isBig() ? bigDen : BigInteger.valueOf(den);
+	}
+
+	public BigInteger getNumerator() {
+		return bigNum();
+	}
+
+	public BigInteger getDenominator() {
+		return bigDen();
+	}
+
+	public Rational add(Rational other) {
+		if (signum() == 0) {
+			return other;
+		}
+		if (other.signum() == 0) {
+			return this;
+		}
+		if (!isBig() && !other.isBig()) {
+			try {
+				if (den == other.den) {
+					return of(Math.addExact(num, other.num), den);
+				}
+				return of(Math.addExact(Math.multiplyExact(num, other.den), Math.multiplyExact(other.num, den)),
+						Math.multiplyExact(den, other.den));
+			} catch (ArithmeticException e) {
+				// переповнення long, обчислюємо через BigInteger
+			}
+		}
+		return of(bigNum().multiply(other.bigDen()).add(other.bigNum().multiply(bigDen())),
+				bigDen().multiply(other.bigDen()));
+	}
+
+	public Rational subtract(Rational other) {
+		return add(other.negate());
+	}
+
+	public Rational multiply(Rational other) {
+		if (signum() == 0 || other.signum() == 0) {
+			return ZERO;
+		}
+		if (!isBig() && !other.isBig()) {
+			try {
+				long g1 = gcd(Math.abs(num), other.den);
+				long g2 = gcd(Math.abs(other.num), den);
+				return of(Math.multiplyExact(num / g1, other.num / g2),
+						Math.multiplyExact(den / g2, other.den / g1));
+			} catch (ArithmeticException e) {
+				// переповнення long, обчислюємо через BigInteger
+			}
+		}
+		return of(bigNum().multiply(other.bigNum()), bigDen().multiply(other.bigDen()));
+	}
+
+	public Rational divide(Rational other) {
+		if (other.signum() == 0) {
+			throw new ArithmeticException("Division by zero");
+		}
+		return multiply(other.reciprocal());
+	}
+
+	public Rational negate() {
+		if (isBig()) {
+			return of(bigNum.negate(), bigDen);
+		}
+		return new Rational(-num, den);
+	}
+
+	public Rational reciprocal() {
+		return isBig() ? of(bigDen, bigNum) : of(den, num);
+	}
+
+	public Rational floor() {
+		if (isBig()) {
+			BigInteger[] division = bigNum.divideAndRemainder(bigDen);
+			BigInteger floor = division[1].signum() < 0 ? division[0].subtract(BigInteger.ONE) : division[0];
+			return of(floor, BigInteger.ONE);
+		}
+		return valueOf(Math.floorDiv(num, den));
+	}
+
+	public Rational fractional() {
+		return subtract(floor());
+	}
+
+	public boolean isInteger() {
+		return isBig() ? bigDen.equals(BigInteger.ONE) : den == 1;
+	}
+
+	public int signum() {
+		return isBig() ? bigNum.signum() : Long.signum(num);
+	}
+
+	public double doubleValue() {
+		if (isBig()) {
+			return new BigDecimal(bigNum).divide(new BigDecimal(bigDen), MathContext.DECIMAL64).doubleValue();
+		}
+		return (double) num / den;
+	}
+
+	@Override
+	public int compareTo(Rational other) {
+		if (!isBig() && !other.isBig()) {
+			try {
+				return Long.compare(Math.multiplyExact(num, other.den), Math.multiplyExact(other.num, den));
+			} catch (ArithmeticException e) {
+				// переповнення long, порівнюємо через BigInteger
+			}
+		}
+		return bigNum().multiply(other.bigDen()).compareTo(other.bigNum().multiply(bigDen()));
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof Rational other) || isBig() != other.isBig()) {
+			return false;
+		}
+		return isBig() ? bigNum.equals(other.bigNum) && bigDen.equals(other.bigDen)
+				: num == other.num && den == other.den;
+	}
+
+	@Override
+	public int hashCode() {
+		return isBig() ? 31 * bigNum.hashCode() + bigDen.hashCode() : Long.hashCode(31 * num + den);
+	}
+
+	@Override
+	public String toString() {
+		return isInteger() ? bigNum().toString() : bigNum() + "/" + bigDen();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,391 @@
+package org.example;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+У цьому класі реалізовано точний метод Гоморі на раціональних дробах (Rational). Його використовує FunctionSystem.getOptimalInt, якщо задано setExact(true).
+
+Порядок розв'язання:
+
+Модель: Коефіцієнти та вільні члени перетворюються на дроби за десятковим записом. Кожен рядок множиться на найменше спільне кратне знаменників, тому всі коефіцієнти цілі. Додаткова змінна (стовпець після X1..Xn), яка входить лише в один рядок і не входить у цільову функцію, ділиться на свій коефіцієнт (заміна змінної); за цілих X вона теж ціла, тому відсічення Гоморі коректні і для дробових даних.
+Початковий базис: Одиничні стовпці, а для решти рядків - штучні змінні.
+Перший і другий етапи: Симплекс-метод за правилом Бленда (оцінки Zj - Cj перераховуються з таблиці), тому метод не зациклюється і не потребує жодних допусків.
+Відсічення: З рядків з дробовим значенням обирається рядок з найглибшим відсіченням, після чого задача розв'язується двоїстим симплекс-методом. Відсічення, додаткова змінна якого довше FunctionSystem.CUT_AGE_LIMIT кроків залишається в базисі, видаляється, як і в FunctionSystem.getOptimalInt.
+
+Дробові частини обчислюються точно, тому рішення про додавання відсічення та про завершення не залежать від допусків. Результат (getValues) перетворюється на double лише наприкінці.
+*/
+
+public class RationalSimplex {
+	private final List<Rational[]> rows = new ArrayList<>();
+	private final List<Rational> values = new ArrayList<>();
+	private final List<Integer> basis = new ArrayList<>();
+	private final List<Rational> cost = new ArrayList<>();
+	private final List<Rational> scale = new ArrayList<>();
+	private final int coefNum;
+	private final Map<String, Integer> iterationsByRule = new LinkedHashMap<>();
+	private int cols;
+	private int iterations;
+	private int iterationLimit = Integer.MAX_VALUE;
+	private int cutPoolSize = FunctionSystem.DEFAULT_CUT_POOL_SIZE;
+	private SolverListener listener = SolverListener.NONE;
+	private FunctionSystem system;
+
+	public RationalSimplex(Function objective, List<Function> functions, int orgSize, int coefNum) {
+		this.coefNum = coefNum;
+		cols = coefNum;
+		for (int j = 0; j < coefNum; j++) {
+			cost.add(j < objective.coefficients.size() ? Rational.valueOf(objective.coefficients.get(j)) : Rational.ZERO);
+			scale.add(Rational.ONE);
+		}
+		for (Function function : functions) {
+			Rational[] row = new Rational[coefNum];
+			for (int j = 0; j < coefNum; j++) {
+				row[j] = j < function.coefficients.size() ? Rational.valueOf(function.coefficients.get(j)) : Rational.ZERO;
+			}
+			Rational value = Rational.valueOf(function.value);
+			BigInteger lcm = value.getDenominator();
+			for (Rational a : row) {
+				lcm = lcm.divide(lcm.gcd(a.getDenominator())).multiply(a.getDenominator());
+			}
+			Rational multiplier = Rational.valueOf(value.signum() < 0 ? lcm.negate() : lcm);
+			for (int j = 0; j < coefNum; j++) {
+				row[j] = row[j].multiply(multiplier);
+			}
+			rows.add(row);
+			values.add(value.multiply(multiplier));
+			basis.add(-1);
+		}
+		for (int j = orgSize; j < coefNum; j++) {
+			int row = -1;
+			for (int i = 0; i < rows.size() && row != -2; i++) {
+				if (rows.get(i)[j].signum() != 0) {
+					row = row == -1 ? i : -2;
+				}
+			}
+			if (row >= 0 && cost.get(j).signum() == 0) {
+				Rational a = rows.get(row)[j];
+				scale.set(j, a.signum() < 0 ? a.negate() : a);
+				rows.get(row)[j] = Rational.valueOf(a.signum());
+			}
+		}
+	}
+
+	public void setIterationLimit(int iterationLimit) {
+		this.iterationLimit = iterationLimit;
+	}
+
+	public void setCutPoolSize(int cutPoolSize) {
+		this.cutPoolSize = cutPoolSize;
+	}
+
+	public void setListener(SolverListener listener, FunctionSystem system) {
+		this.listener = listener;
+		this.system = system;
+	}
+
+	public SolveStatus solve() {
+		int firstArtificial = cols;
+		for (int i = 0; i < rows.size(); i++) {
+			for (int j = 0; j < firstArtificial && basis.get(i) == -1; j++) {
+				if (isUnit(i, j)) {
+					basis.set(i, j);
+				}
+			}
+			if (basis.get(i) == -1) {
+				basis.set(i, addColumn());
+				rows.get(i)[cols - 1] = Rational.ONE;
+			}
+		}
+
+		if (firstArtificial < cols) {
+			Rational[] phaseOne = new Rational[cols];
+			for (int j = 0; j < cols; j++) {
+				phaseOne[j] = j < firstArtificial ? Rational.ZERO : Rational.ONE.negate();
+			}
+			SolveStatus status = primalSimplex(phaseOne, firstArtificial);
+			if (status != SolveStatus.OPTIMAL) {
+				return status;
+			}
+			for (int i = rows.size() - 1; i >= 0; i--) {
+				if (basis.get(i) < firstArtificial) {
+					continue;
+				}
+				if (values.get(i).signum() != 0) {
+					return SolveStatus.INFEASIBLE;
+				}
+				int col = -1;
+				for (int j = 0; j < firstArtificial && col == -1; j++) {
+					if (rows.get(i)[j].signum() != 0) {
+						col = j;
+					}
+				}
+				if (col != -1) {
+					pivot(i, col);
+				} else {
+					removeRow(i);
+				}
+			}
+			while (cols > firstArtificial) {
+				removeColumn(cols - 1);
+			}
+		}
+		return primalSimplex(cost.toArray(new Rational[0]), cols);
+	}
+
+	public SolveStatus solveInt() {
+		SolveStatus status = solve();
+		List<int[]> cuts = new ArrayList<>();
+		int row = deepestCutRow();
+		while (status == SolveStatus.OPTIMAL && row != -1) {
+			cuts.add(new int[]{addCut(row), 0});
+			status = dualSimplex();
+			if (status == SolveStatus.OPTIMAL) {
+				purgeCuts(cuts);
+				row = deepestCutRow();
+			}
+		}
+		return status;
+	}
+
+	public double[] getValues() {
+		double[] x = new double[coefNum];
+		for (int i = 0; i < rows.size(); i++) {
+			int b = basis.get(i);
+			if (b < coefNum) {
+				x[b] = values.get(i).divide(scale.get(b)).doubleValue();
+			}
+		}
+		return x;
+	}
+
+	public int getIterations() {
+		return iterations;
+	}
+
+	public Map<String, Integer> getIterationsByRule() {
+		return iterationsByRule;
+	}
+
+	private SolveStatus primalSimplex(Rational[] cost, int enter) {
+		while (true) {
+			int col = -1;
+			for (int j = 0; j < enter && col == -1; j++) {
+				if (!basis.contains(j) && zcDiff(cost, j).signum() < 0) {
+					col = j;
+				}
+			}
+			if (col == -1) {
+				return SolveStatus.OPTIMAL;
+			}
+			if (iterations >= iterationLimit) {
+				return SolveStatus.ITERATION_LIMIT;
+			}
+
+			int row = -1;
+			Rational minProportion = null;
+			for (int i = 0; i < rows.size(); i++) {
+				Rational a = rows.get(i)[col];
+				if (a.signum() > 0) {
+					Rational proportion = values.get(i).divide(a);
+					int compare = minProportion == null ? -1 : proportion.compareTo(minProportion);
+					if (compare < 0 || compare == 0 && basis.get(i) < basis.get(row)) {
+						row = i;
+						minProportion = proportion;
+					}
+				}
+			}
+			if (row == -1) {
+				return SolveStatus.UNBOUNDED;
+			}
+			pivot(row, col);
+			iterationsByRule.merge("bland", 1, Integer::sum);
+		}
+	}
+
+	private SolveStatus dualSimplex() {
+		Rational[] cost = this.cost.toArray(new Rational[0]);
+		while (true) {
+			int row = -1;
+			for (int i = 0; i < rows.size(); i++) {
+				if (values.get(i).signum() < 0 && (row == -1 || values.get(i).compareTo(values.get(row)) < 0)) {
+					row = i;
+				}
+			}
+			if (row == -1) {
+				return SolveStatus.OPTIMAL;
+			}
+			if (iterations >= iterationLimit) {
+				return SolveStatus.ITERATION_LIMIT;
+			}
+
+			int col = -1;
+			Rational minValue = null;
+			for (int j = 0; j < cols; j++) {
+				Rational a = rows.get(row)[j];
+				if (a.signum() < 0) {
+					Rational value = zcDiff(cost, j).divide(a.negate());
+					if (minValue == null || value.compareTo(minValue) < 0) {
+						col = j;
+						minValue = value;
+					}
+				}
+			}
+			if (col == -1) {
+				return SolveStatus.INFEASIBLE;
+			}
+			pivot(row, col);
+			iterationsByRule.merge("dual", 1, Integer::sum);
+		}
+	}
+
+	private Rational zcDiff(Rational[] cost, int j) {
+		Rational zc = cost[j].negate();
+		for (int i = 0; i < rows.size(); i++) {
+			Rational a = rows.get(i)[j];
+			if (a.signum() != 0) {
+				zc = zc.add(cost[basis.get(i)].multiply(a));
+			}
+		}
+		return zc;
+	}
+
+	private void pivot(int row, int col) {
+		Rational[] pivotRow = rows.get(row);
+		Rational pivot = pivotRow[col];
+		if (!pivot.equals(Rational.ONE)) {
+			for (int j = 0; j < cols; j++) {
+				pivotRow[j] = pivotRow[j].divide(pivot);
+			}
+			values.set(row, values.get(row).divide(pivot));
+		}
+		for (int i = 0; i < rows.size(); i++) {
+			Rational factor = rows.get(i)[col];
+			if (i == row || factor.signum() == 0) {
+				continue;
+			}
+			Rational[] r = rows.get(i);
+			for (int j = 0; j < cols; j++) {
+				if (pivotRow[j].signum() != 0) {
+					r[j] = r[j].subtract(factor.multiply(pivotRow[j]));
+				}
+			}
+			values.set(i, values.get(i).subtract(factor.multiply(values.get(row))));
+		}
+		basis.set(row, col);
+		iterations++;
+	}
+
+	private boolean isUnit(int x, int y) {
+		for (int i = 0; i < rows.size(); i++) {
+			Rational a = rows.get(i)[y];
+			if (i == x ? !a.equals(Rational.ONE) : a.signum() != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int deepestCutRow() {
+		int ind = -1;
+		double maxDepth = 0;
+		for (int i = 0; i < rows.size(); i++) {
+			Rational value = values.get(i).fractional();
+			if (value.signum() == 0) {
+				continue;
+			}
+			double norm = 0;
+			for (int j = 0; j < cols; j++) {
+				double fractional = rows.get(i)[j].fractional().doubleValue();
+				norm += fractional * fractional;
+			}
+			double depth = norm == 0 ? Double.POSITIVE_INFINITY : value.doubleValue() / Math.sqrt(norm);
+			if (ind == -1 || depth > maxDepth) {
+				ind = i;
+				maxDepth = depth;
+			}
+		}
+		return ind;
+	}
+
+	private int addCut(int ind) {
+		int slack = addColumn();
+		Rational[] row = new Rational[cols];
+		Rational[] source = rows.get(ind);
+		for (int j = 0; j < slack; j++) {
+			row[j] = source[j].fractional().negate();
+		}
+		row[slack] = Rational.ONE;
+		rows.add(row);
+		values.add(values.get(ind).fractional().negate());
+		basis.add(slack);
+		listener.onCut(system, rows.size() - 1);
+		return slack;
+	}
+
+	private void purgeCuts(List<int[]> cuts) {
+		List<int[]> removed = new ArrayList<>();
+		List<int[]> inactive = new ArrayList<>();
+		for (int[] cut : cuts) {
+			if (!basis.contains(cut[0])) {
+				cut[1] = 0;
+			} else if (++cut[1] > FunctionSystem.CUT_AGE_LIMIT) {
+				removed.add(cut);
+			} else {
+				inactive.add(cut);
+			}
+		}
+		inactive.sort((first, second) -> second[1] - first[1]);
+		for (int k = 0; k < inactive.size() && cuts.size() - removed.size() > cutPoolSize; k++) {
+			removed.add(inactive.get(k));
+		}
+
+		for (int[] cut : removed) {
+			removeRow(basis.indexOf(cut[0]));
+			removeColumn(cut[0]);
+			cuts.remove(cut);
+			for (int[] other : cuts) {
+				if (other[0] > cut[0]) {
+					other[0]--;
+				}
+			}
+		}
+	}
+
+	private int addColumn() {
+		for (int i = 0; i < rows.size(); i++) {
+			Rational[] row = Arrays.copyOf(rows.get(i), cols + 1);
+			row[cols] = Rational.ZERO;
+			rows.set(i, row);
+		}
+		cost.add(Rational.ZERO);
+		scale.add(Rational.ONE);
+		return cols++;
+	}
+
+	private void removeRow(int x) {
+		rows.remove(x);
+		values.remove(x);
+		basis.remove(x);
+	}
+
+	private void removeColumn(int y) {
+		for (int i = 0; i < rows.size(); i++) {
+			Rational[] row = rows.get(i);
+			Rational[] shorter = new Rational[cols - 1];
+			System.arraycopy(row, 0, shorter, 0, y);
+			System.arraycopy(row, y + 1, shorter, y, cols - y - 1);
+			rows.set(i, shorter);
+			if (basis.get(i) > y) {
+				basis.set(i, basis.get(i) - 1);
+			}
+		}
+		cost.remove(y);
+		scale.remove(y);
+		cols--;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,314 @@
+package org.example;
+
+/*
+У цьому класі реалізовано модифікований (revised) симплекс-метод. На відміну від класу FunctionSystem, який на кожній ітерації перераховує всю симплекс-таблицю, тут зберігається лише LU-розклад базисної матриці (BasisFactorization), а потрібні величини обчислюються з початкової матриці обмежень (щільної Tableau або розрідженої SparseMatrix):
+
+Симплекс-множники y знаходяться з системи B^T y = Cb (btran).
+Оцінки стовпців Zj - Cj = y * Aj - Cj обчислюються з початкової матриці, без перерахунку таблиці.
+Стовпець вхідної змінної B^-1 Aj знаходиться з системи B x = Aj (ftran) і використовується у правилі мінімального відношення.
+
+Після знаходження оптимуму симплекс-множники y є двоїстими оцінками обмежень (getDuals).
+
+Двоетапний метод (setArtificial): стовпці, починаючи з firstArtificial, є штучними змінними початкового базису. На першому етапі мінімізується сума штучних змінних (ціни стовпців підміняє PhaseOneCost, вибір за правилом Бленда, тому етап завжди скінченний). Якщо сума не дорівнює нулю, задача недопустима. Штучні змінні ніколи не вводяться в базис, а штучна змінна, що залишилася в базисі на нульовому рівні, виводиться з нього при першому ненульовому елементі ведучого стовпця, тому на другому етапі вона не може стати додатною.
+
+Допуски для оцінок, ведучого елемента та значень змінних задаються методом setTolerances (Tolerances) і масштабуються за найбільшим коефіцієнтом цільової функції, стовпця B^-1 Aj та вільним членом відповідно.
+
+Вхідна змінна обирається за правилом Данцига. Якщо DEGENERATE_PIVOTS кроків поспіль не змінюють значення цільової функції (вироджені кроки), метод переходить на правило Бленда до першого невиродженого кроку, тому не зациклюється. Для задач з невеликою кількістю рядків та великою кількістю стовпців цей спосіб значно швидший.
+
+Етапи розв'язання (перший етап, симплекс-метод) та вироджені кроки (getDegeneratePivots) записуються в метрики задачі FunctionSystem (SolverMetrics).
+*/
+
+public class RevisedSimplex {
+	public static final int DEFAULT_REFACTOR_FREQUENCY = 50;
+	private static final int DEGENERATE_PIVOTS = 20;
+
+	private final ConstraintMatrix model;
+	private final int rows;
+	private final int cols;
+	private final int[] basis;
+	private final boolean[] isBasic;
+	private final double[] values;
+	private final double[] alpha;
+	private final double[] y;
+	private final double[] zcDiff;
+	private final BasisFactorization factorization;
+	private SolverListener listener = SolverListener.NONE;
+	private FunctionSystem system;
+	private int iterations;
+	private int blandIterations;
+	private int degeneratePivots;
+	private PhaseRecorder recorder;
+	private int iterationLimit = Integer.MAX_VALUE;
+	private SolveStatus status;
+	private int firstArtificial;
+	private ConstraintMatrix pricing;
+	private Tolerances tolerances = Tolerances.DEFAULT;
+	private double feasibility;
+
+	public RevisedSimplex(ConstraintMatrix model, int[] basis) {
+		this(model, basis, DEFAULT_REFACTOR_FREQUENCY);
+	}
+
+	public RevisedSimplex(ConstraintMatrix model, int[] basis, int refactorFrequency) {
+		this.model = model;
+		rows = model.rows();
+		cols = model.cols();
+		this.basis = basis.clone();
+		isBasic = new boolean[cols];
+		for (int b : basis) {
+			isBasic[b] = true;
+		}
+		values = new double[rows];
+		alpha = new double[rows];
+		y = new double[rows];
+		zcDiff = new double[cols];
+		factorization = new BasisFactorization(rows, refactorFrequency);
+		firstArtificial = cols;
+		pricing = model;
+	}
+
+	public void setListener(SolverListener listener, FunctionSystem system) {
+		this.listener = listener;
+		this.system = system;
+	}
+
+	public void setIterationLimit(int iterationLimit) {
+		this.iterationLimit = iterationLimit;
+	}
+
+	public void setArtificial(int firstArtificial) {
+		this.firstArtificial = firstArtificial;
+	}
+
+	public void setTolerances(Tolerances tolerances) {
+		this.tolerances = tolerances;
+	}
+
+	// етапи розв'язання записуються рекордером задачі (FunctionSystem)
+	void setRecorder(PhaseRecorder recorder) {
+		this.recorder = recorder;
+	}
+
+	public double[] solve() {
+		status = SolveStatus.INFEASIBLE;
+		if (!refactorize()) {
+			return null;
+		}
+		double valueScale = 0;
+		for (int i = 0; i < rows; i++) {
+			valueScale = Math.max(valueScale, Math.abs(model.getValue(i)));
+		}
+		feasibility = tolerances.feasibility(valueScale);
+
+		if (firstArtificial < cols) {
+			phase(SolverMetrics.Phase.PHASE_ONE);
+			pricing = new PhaseOneCost(model, firstArtificial);
+			boolean solved = iterate(true);
+			pricing = model;
+			if (!solved) {
+				return null;
+			}
+			for (int i = 0; i < rows; i++) {
+				if (basis[i] >= firstArtificial && values[i] > feasibility) {
+					status = SolveStatus.INFEASIBLE;
+					return null;
+				}
+			}
+		}
+		phase(SolverMetrics.Phase.PRIMAL);
+		if (!iterate(false)) {
+			return null;
+		}
+		status = SolveStatus.OPTIMAL;
+		return getX();
+	}
+
+	private boolean iterate(boolean phaseOne) {
+		boolean bland = phaseOne;
+		int degenerate = 0;
+		double costScale = 0;
+		for (int j = 0; j < firstArtificial; j++) {
+			costScale = Math.max(costScale, Math.abs(pricing.getCost(j)));
+		}
+		double optimality = tolerances.optimality(costScale);
+		while (true) {
+			price();
+			listener.onIteration(system, iterations);
+			int maxNotOpt = -1;
+			for (int j = 0; j < firstArtificial; j++) {
+				if (!isBasic[j] && zcDiff[j] < -optimality &&
+						(maxNotOpt == -1 || !bland && -zcDiff[j] > -zcDiff[maxNotOpt])) {
+					maxNotOpt = j;
+				}
+			}
+			if (maxNotOpt == -1) {
+				return true;
+			}
+			if (iterations >= iterationLimit) {
+				status = SolveStatus.ITERATION_LIMIT;
+				return false;
+			}
+
+			model.loadColumn(maxNotOpt, alpha);
+			factorization.ftran(alpha);
+
+			double alphaScale = 0;
+			for (int i = 0; i < rows; i++) {
+				alphaScale = Math.max(alphaScale, Math.abs(alpha[i]));
+			}
+			double pivot = tolerances.pivot(alphaScale);
+			int minPropInd = -1;
+			double minProportion = 0;
+			for (int i = 0; i < rows; i++) {
+				double proportion;
+				if (basis[i] >= firstArtificial && values[i] <= feasibility && Math.abs(alpha[i]) > pivot) {
+					proportion = 0;
+				} else if (alpha[i] > pivot) {
+					proportion = values[i] / alpha[i];
+				} else {
+					continue;
+				}
+				if (minPropInd == -1 || minProportion > proportion || minProportion == proportion &&
+						(bland ? basis[i] < basis[minPropInd] : Math.abs(alpha[i]) > Math.abs(alpha[minPropInd]))) {
+					minPropInd = i;
+					minProportion = proportion;
+				}
+			}
+			if (minPropInd == -1) {
+				status = SolveStatus.UNBOUNDED;
+				return false;
+			}
+			listener.onPivot(system, minPropInd, maxNotOpt);
+			int leaving = basis[minPropInd];
+
+			for (int i = 0; i < rows; i++) {
+				values[i] -= minProportion * alpha[i];
+			}
+			values[minPropInd] = minProportion;
+			isBasic[basis[minPropInd]] = false;
+			isBasic[maxNotOpt] = true;
+			basis[minPropInd] = maxNotOpt;
+			iterations++;
+			if (bland) {
+				blandIterations++;
+			}
+			listener.onBasisChange(system, minPropInd, leaving, maxNotOpt);
+
+			if (minProportion > 0) {
+				degenerate = 0;
+				bland = phaseOne;
+			} else {
+				degeneratePivots++;
+				if (++degenerate >= DEGENERATE_PIVOTS) {
+					bland = true;
+				}
+			}
+
+			if (!factorization.isFull()) {
+				factorization.update(minPropInd, alpha);
+			} else if (!refactorize()) {
+				return false;
+			}
+		}
+	}
+
+	private boolean refactorize() {
+		if (!factorization.factorize(model, basis)) {
+			return false;
+		}
+		for (int i = 0; i < rows; i++) {
+			values[i] = model.getValue(i);
+		}
+		factorization.ftran(values);
+		return true;
+	}
+
+	private void price() {
+		for (int i = 0; i < rows; i++) {
+			y[i] = pricing.getCost(basis[i]);
+		}
+		factorization.btran(y);
+		pricing.price(y, zcDiff);
+	}
+
+	private double[] getX() {
+		double[] x = new double[cols];
+		for (int i = 0; i < rows; i++) {
+			x[basis[i]] = values[i];
+		}
+		return x;
+	}
+
+	public int getBasis(int x) {
+		return basis[x];
+	}
+
+	public int getIterations() {
+		return iterations;
+	}
+
+	public int getBlandIterations() {
+		return blandIterations;
+	}
+
+	public int getDegeneratePivots() {
+		return degeneratePivots;
+	}
+
+	private void phase(SolverMetrics.Phase next) {
+		if (recorder != null) {
+			recorder.phase(next, iterations, degeneratePivots, rows, cols);
+		}
+	}
+
+	public SolveStatus getStatus() {
+		return status;
+	}
+
+	public double[] getDuals() {
+		return y.clone();
+	}
+
+	private static final class PhaseOneCost implements ConstraintMatrix {
+		private final ConstraintMatrix model;
+		private final int firstArtificial;
+
+		private PhaseOneCost(ConstraintMatrix model, int firstArtificial) {
+			this.model = model;
+			this.firstArtificial = firstArtificial;
+		}
+
+		@Override
+		public int rows() {
+			return model.rows();
+		}
+
+		@Override
+		public int cols() {
+			return model.cols();
+		}
+
+		@Override
+		public double getCost(int y) {
+			return y < firstArtificial ? 0 : -1;
+		}
+
+		@Override
+		public double getValue(int x) {
+			return model.getValue(x);
+		}
+
+		@Override
+		public void loadColumn(int y, double[] column) {
+			model.loadColumn(y, column);
+		}
+
+		@Override
+		public void price(double[] multipliers, double[] zcDiff) {
+			model.price(multipliers, zcDiff);
+			for (int j = 0; j < zcDiff.length; j++) {
+				zcDiff[j] += model.getCost(j) - getCost(j);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package org.example;
+
+/*
+У цьому класі реалізовано обчислювальні ядра (ArrayKernels) звичайними циклами. Використовується, якщо SIMD-ядра (VectorKernels) недоступні.
+*/
+
+final class ScalarKernels implements ArrayKernels {
+	@Override
+	public String name() {
+		return "scalar";
+	}
+
+	@Override
+	public void axpy(double a, double[] x, int xOffset, double[] y, int yOffset, int length) {
+		for (int k = 0; k < length; k++) {
+			y[yOffset + k] += x[xOffset + k] * a;
+		}
+	}
+
+	@Override
+	public void scale(double a, double[] x, int offset, int length) {
+		for (int k = 0; k < length; k++) {
+			x[offset + k] *= a;
+		}
+	}
+
+	@Override
+	public double dot(double[] x, int xOffset, double[] y, int yOffset, int length) {
+		double sum = 0;
+		for (int k = 0; k < length; k++) {
+			sum += x[xOffset + k] * y[yOffset + k];
+		}
+		return sum;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+package org.example;
+
+import java.util.Arrays;
+
+/*
+У цьому класі зберігається аналіз чутливості оптимального розв'язку (FunctionSystem.getSensitivity). Усі величини обчислюються з останньої симплекс-таблиці без повторного розв'язання задачі, тому двоїсту задачу (getDual) розв'язувати не потрібно.
+
+Основні елементи класу:
+
+duals: Двоїсті оцінки обмежень (ті самі, що SolveResult.getDuals): на скільки змінюється значення цільової функції при збільшенні вільного члена обмеження на 1.
+reducedCosts: Оцінки стовпців Cj - Zj для всіх змінних (зокрема додаткових, у порядку SolveResult.getValues); для базисних змінних 0, для небазисних - на скільки змінюється значення цільової функції при збільшенні змінної на 1 (не більше 0 для максимізації, не менше 0 для мінімізації).
+rhsLower, rhsUpper: Межі вільного члена обмеження, в яких базис залишається допустимим (а отже, оптимальним), якщо решта даних не змінюється.
+costLower, costUpper: Межі коефіцієнта цільової функції, в яких базис залишається оптимальним.
+
+Нескінченні межі дорівнюють Double.NEGATIVE_INFINITY та Double.POSITIVE_INFINITY. Межі вільного члена обчислюються за стовпцем B^-1 e_i оберненої базисної матриці - одиничним стовпцем рядка в останній таблиці, а якщо його немає (рівність, штучну змінну якої видалено), - LU-розкладом базису (BasisFactorization). Якщо розклад побудувати не вдалося, межі такого обмеження (і двоїсті оцінки, обчислені тим самим розкладом) дорівнюють NaN.
+
+Для LinearFractionalProblem аналіз стосується перетвореної лінійної задачі (змінні Y).
+*/
+
+public final class Sensitivity {
+	private final double[] duals;
+	private final double[] reducedCosts;
+	private final double[] rhsLower;
+	private final double[] rhsUpper;
+	private final double[] costLower;
+	private final double[] costUpper;
+
+	private Sensitivity(double[] duals, double[] reducedCosts, double[] rhsLower, double[] rhsUpper,
+						double[] costLower, double[] costUpper) {
+		this.duals = duals;
+		this.reducedCosts = reducedCosts;
+		this.rhsLower = rhsLower;
+		this.rhsUpper = rhsUpper;
+		this.costLower = costLower;
+		this.costUpper = costUpper;
+	}
+
+	// таблиця system оптимальна; duals - двоїсті оцінки в термінах моделі (null, якщо їх не вдалося обчислити)
+	static Sensitivity of(FunctionSystem system, double[] duals) {
+		Tableau tableau = system.tableau;
+		int rows = tableau.rows();
+		int cols = system.coefNum;
+		// коефіцієнти цільової функції в таблиці: sign * коефіцієнти моделі
+		double sign = system.inverse ? -1 : 1;
+		double tolerance = system.tolerances.pivot(1);
+		tableau.setZcDiff();
+
+		int[] basicRow = new int[tableau.cols()];
+		Arrays.fill(basicRow, -1);
+		for (int i = 0; i < rows; i++) {
+			basicRow[tableau.getBasis(i)] = i;
+		}
+
+		double[] reducedCosts = new double[cols];
+		double[] costLower = new double[cols];
+		double[] costUpper = new double[cols];
+		for (int j = 0; j < cols; j++) {
+			double lower;
+			double upper;
+			int r = basicRow[j];
+			if (r == -1) {
+				reducedCosts[j] = -sign * tableau.getZcDiff(j);
+				lower = Double.NEGATIVE_INFINITY;
+				upper = Math.max(0, tableau.getZcDiff(j));
+			} else {
+				lower = Double.NEGATIVE_INFINITY;
+				upper = Double.POSITIVE_INFINITY;
+				for (int k = 0; k < cols; k++) {
+					double coefficient = tableau.get(r, k);
+					if (basicRow[k] != -1 || Math.abs(coefficient) <= tolerance) {
+						continue;
+					}
+					double ratio = -Math.max(0, tableau.getZcDiff(k)) / coefficient;
+					if (coefficient > 0) {
+						lower = Math.max(lower, ratio);
+					} else {
+						upper = Math.min(upper, ratio);
+					}
+				}
+			}
+			double cost = sign * system.objective.coefficient(j);
+			costLower[j] = sign > 0 ? cost + lower : cost - upper;
+			costUpper[j] = sign > 0 ? cost + upper : cost - lower;
+		}
+
+		int constraints = system.functions.size();
+		double[] rhsLower = new double[constraints];
+		double[] rhsUpper = new double[constraints];
+		double[] column = new double[rows];
+		BasisFactorization factorization = null;
+		boolean factorized = false;
+		for (int i = 0; i < constraints; i++) {
+			int unit = i < system.unitColumns.length ? system.unitColumns[i] : -1;
+			// рядок помножено на -1: у таблиці - за negated, у матриці моделі - якщо вільний член від'ємний
+			boolean negated;
+			if (unit != -1 && unit < tableau.cols()) {
+				negated = system.negated[i];
+				for (int r = 0; r < rows; r++) {
+					column[r] = tableau.get(r, unit);
+				}
+			} else {
+				if (!factorized) {
+					factorization = system.factorizeBasis();
+					factorized = true;
+				}
+				if (factorization == null) {
+					rhsLower[i] = rhsUpper[i] = Double.NaN;
+					continue;
+				}
+				negated = system.functions.get(i).value < 0;
+				Arrays.fill(column, 0);
+				column[i] = 1;
+				factorization.ftran(column);
+			}
+
+			double lower = Double.NEGATIVE_INFINITY;
+			double upper = Double.POSITIVE_INFINITY;
+			for (int r = 0; r < rows; r++) {
+				double coefficient = column[r];
+				if (Math.abs(coefficient) <= tolerance) {
+					continue;
+				}
+				if (tableau.getBasis(r) >= cols) {
+					// штучна змінна в базисі повинна залишатися нульовою
+					lower = upper = 0;
+					break;
+				}
+				double ratio = -Math.max(0, tableau.getValue(r)) / coefficient;
+				if (coefficient > 0) {
+					lower = Math.max(lower, ratio);
+				} else {
+					upper = Math.min(upper, ratio);
+				}
+			}
+			double value = system.functions.get(i).value;
+			rhsLower[i] = negated ? value - upper : value + lower;
+			rhsUpper[i] = negated ? value - lower : value + upper;
+		}
+
+		if (duals == null) {
+			duals = new double[constraints];
+			Arrays.fill(duals, Double.NaN);
+		}
+		return new Sensitivity(duals, reducedCosts, rhsLower, rhsUpper, costLower, costUpper);
+	}
+
+	public double[] getDuals() {
+		return duals.clone();
+	}
+
+	public double getDual(int i) {
+		return duals[i];
+	}
+
+	public double[] getReducedCosts() {
+		return reducedCosts.clone();
+	}
+
+	public double getReducedCost(int j) {
+		return reducedCosts[j];
+	}
+
+	public double getRhsLower(int i) {
+		return rhsLower[i];
+	}
+
+	public double getRhsUpper(int i) {
+		return rhsUpper[i];
+	}
+
+	public double getCostLower(int j) {
+		return costLower[j];
+	}
+
+	public double getCostUpper(int j) {
+		return costUpper[j];
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("Constraint      Dual              RHS range\n");
+		for (int i = 0; i < duals.length; i++) {
+			builder.append("%-8d %10.3f   [%10.3f, %10.3f]%n".formatted(i + 1, duals[i], rhsLower[i], rhsUpper[i]));
+		}
+		builder.append("Variable  Reduced cost      Cost range\n");
+		for (int j = 0; j < reducedCosts.length; j++) {
+			builder.append("%-8s %10.3f   [%10.3f, %10.3f]%n".formatted("x" + (j + 1), reducedCosts[j], costLower[j], costUpper[j]));
+		}
+		return builder.toString();
+	}
+}
\ No newline at end of file
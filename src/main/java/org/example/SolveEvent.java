@@ -0,0 +1,33 @@
+package org.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/*
+Подія JFR для одного розв'язання задачі (getOptimal, getOptimalInt, resolve, findOptimalDualSimplex). Подія записується після завершення, тому тривалість розв'язання зберігається в полі solveTime. Записується, якщо подію org.example.Solve ввімкнено в записі JFR.
+*/
+
+@Name("org.example.Solve")
+@Label("Solve")
+@Category("Solver")
+@Description("Completed simplex solve")
+final class SolveEvent extends jdk.jfr.Event {
+	@Label("Problem")
+	String problem;
+
+	@Label("Status")
+	String status;
+
+	@Label("Iterations")
+	int iterations;
+
+	@Label("Degenerate Pivots")
+	int degeneratePivots;
+
+	@Label("Solve Time")
+	@Timespan
+	long solveTime;
+}
\ No newline at end of file
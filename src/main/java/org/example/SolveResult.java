@@ -0,0 +1,103 @@
+package org.example;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+У цьому класі зберігається незмінний результат розв'язання задачі, який повертають методи getOptimal, getOptimalInt та findOptimalDualSimplex.
+
+Основні елементи класу:
+
+status: Чим завершилося розв'язання (SolveStatus).
+values: Значення змінних (для дробової задачі - значення початкових змінних X).
+duals: Двоїсті оцінки обмежень у порядку їх додавання (для цілочислової задачі не обчислюються).
+objective: Значення цільової функції.
+iterations: Кількість ітерацій симплекс-методу.
+iterationsByRule: Кількість ітерацій за кожним правилом вибору вхідної змінної (PricingRule.name, "bland" для запасного правила при виродженні та першого етапу, "dual" для двоїстого симплекс-методу).
+time: Тривалість розв'язання.
+
+Якщо розв'язок не знайдено, масиви порожні, а objective дорівнює NaN.
+*/
+
+public final class SolveResult {
+	private static final double[] EMPTY = new double[0];
+
+	private final SolveStatus status;
+	private final double[] values;
+	private final double[] duals;
+	private final double objective;
+	private final int iterations;
+	private final Map<String, Integer> iterationsByRule;
+	private final long timeNanos;
+
+	public SolveResult(SolveStatus status, double[] values, double[] duals,
+					   double objective, int iterations, long timeNanos) {
+		this(status, values, duals, objective, iterations, Map.of(), timeNanos);
+	}
+
+	public SolveResult(SolveStatus status, double[] values, double[] duals, double objective,
+					   int iterations, Map<String, Integer> iterationsByRule, long timeNanos) {
+		this.status = status;
+		this.values = values == null ? EMPTY : values.clone();
+		this.duals = duals == null ? EMPTY : duals.clone();
+		this.objective = objective;
+		this.iterations = iterations;
+		this.iterationsByRule = Collections.unmodifiableMap(new LinkedHashMap<>(iterationsByRule));
+		this.timeNanos = timeNanos;
+	}
+
+	public static SolveResult failed(SolveStatus status, int iterations, long timeNanos) {
+		return failed(status, iterations, Map.of(), timeNanos);
+	}
+
+	public static SolveResult failed(SolveStatus status, int iterations,
+									 Map<String, Integer> iterationsByRule, long timeNanos) {
+		return new SolveResult(status, EMPTY, EMPTY, Double.NaN, iterations, iterationsByRule, timeNanos);
+	}
+
+	public SolveStatus getStatus() {
+		return status;
+	}
+
+	public boolean isOptimal() {
+		return status == SolveStatus.OPTIMAL;
+	}
+
+	public double[] getValues() {
+		return values.clone();
+	}
+
+	public double getValue(int i) {
+		return values[i];
+	}
+
+	public double[] getDuals() {
+		return duals.clone();
+	}
+
+	public double getObjective() {
+		return objective;
+	}
+
+	public int getIterations() {
+		return iterations;
+	}
+
+	public Map<String, Integer> getIterationsByRule() {
+		return iterationsByRule;
+	}
+
+	public Duration getTime() {
+		return Duration.ofNanos(timeNanos);
+	}
+
+	@Override
+	public String toString() {
+		return status + " F = " + objective + ", X = " + Arrays.toString(values) +
+				", duals = " + Arrays.toString(duals) + ", iterations = " + iterations + " " + iterationsByRule +
+				", time = " + timeNanos / 1000 + " us";
+	}
+}
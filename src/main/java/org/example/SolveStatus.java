@@ -0,0 +1,12 @@
+package org.example;
+
+/*
+Цей перерахунок описує, чим завершився розв'язок задачі: знайдено оптимальний розв'язок (OPTIMAL), не знайдено допустимого базису (INFEASIBLE), цільова функція необмежена (UNBOUNDED) або вичерпано допустиму кількість ітерацій (ITERATION_LIMIT).
+*/
+
+public enum SolveStatus {
+	OPTIMAL,
+	INFEASIBLE,
+	UNBOUNDED,
+	ITERATION_LIMIT
+}
@@ -0,0 +1,41 @@
+package org.example;
+
+/*
+Цей інтерфейс дозволяє стежити за ходом розв'язання задачі класом FunctionSystem. Усі методи мають порожню реалізацію за замовчуванням, а об'єкт NONE використовується, якщо спостерігач не заданий, тому під час розв'язання без спостерігача не формується жодного рядка.
+
+Події:
+
+onStart: Побудовано початкову симплекс-таблицю.
+onInitialBasis: Знайдено початковий базис.
+onIteration: Початок ітерації (оцінки стовпців уже обчислені).
+onPivot: Обрано ведучий елемент (row, col).
+onBasisChange: У рядку row змінна leaving замінена змінною entering.
+onCut: Додано відсічення Гоморі у рядок row.
+onTermination: Розв'язання завершено зі статусом status.
+*/
+
+public interface SolverListener {
+	SolverListener NONE = new SolverListener() {
+	};
+
+	default void onStart(FunctionSystem system) {
+	}
+
+	default void onInitialBasis(FunctionSystem system) {
+	}
+
+	default void onIteration(FunctionSystem system, int iteration) {
+	}
+
+	default void onPivot(FunctionSystem system, int row, int col) {
+	}
+
+	default void onBasisChange(FunctionSystem system, int row, int leaving, int entering) {
+	}
+
+	default void onCut(FunctionSystem system, int row) {
+	}
+
+	default void onTermination(FunctionSystem system, SolveStatus status) {
+	}
+}
@@ -0,0 +1,204 @@
+package org.example;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+У цьому класі накопичуються метрики розв'язання задач (встановлюються методом FunctionSystem.setMetrics). Один об'єкт можна встановити кільком задачам: копії задачі (зокрема вузли BranchAndBound у різних потоках) та спрощена задача попередньої обробки записують метрики в той самий об'єкт.
+
+Етапи (Phase):
+
+PRESOLVE: Попередня обробка (Presolve).
+INITIAL_BASIS: Побудова симплекс-таблиці (чи розрідженої матриці) та початкового базису зі штучних змінних; для REVISED та SPARSE - також LU-розклад початкового базису.
+PHASE_ONE: Перший етап двоетапного методу (мінімізація суми штучних змінних).
+PRIMAL: Симплекс-метод.
+DUAL: Двоїстий симплекс-метод (resolve, findOptimalDualSimplex, відновлення оптимуму після відсічення).
+CUT: Раунд відсічень Гоморі (видалення старих відсічень, вибір рядка та додавання відсічення); останній раунд getOptimalInt відсічення не знаходить.
+
+Для кожного етапу накопичуються кількість етапів, ітерацій та тривалість. Крім того, рахуються вироджені кроки (ведучий крок, що не змінює значення цільової функції), кількість розв'язань (getOptimalInt - два розв'язання: лінійна релаксація та задача з відсіченнями), найбільший розмір таблиці та розмір таблиці наприкінці етапів (getTableauSizes - не більше MAX_SIZE_SAMPLES змін розміру, позначених загальною кількістю ітерацій).
+
+Метрики записуються лише на межах етапів, а не на кожній ітерації, тому метод snapshot можна викликати під час розв'язання з іншого потоку. Незмінний знімок (Snapshot) містить накопичені значення на момент виклику.
+
+Незалежно від метрик кожен етап та кожне розв'язання записується як подія JFR (SolverPhaseEvent, SolveEvent), якщо події ввімкнено в записі JFR; поле problem події відрізняє, наприклад, LinearFractionalProblem від FunctionSystem. Якщо метрики не встановлено і запис JFR не ведеться, час етапів не вимірюється, тому інструментування не сповільнює розв'язання.
+*/
+
+public final class SolverMetrics {
+	public static final int MAX_SIZE_SAMPLES = 1024;
+
+	private static final Phase[] PHASES = Phase.values();
+
+	private final long[] counts = new long[PHASES.length];
+	private final long[] iterations = new long[PHASES.length];
+	private final long[] times = new long[PHASES.length];
+	private final List<TableauSize> sizes = new ArrayList<>();
+	private long totalIterations;
+	private long degeneratePivots;
+	private long solves;
+	private long solveTime;
+	private int maxRows;
+	private int maxCols;
+
+	synchronized void record(Phase phase, long nanos, int phaseIterations, int degenerate, int rows, int cols) {
+		int k = phase.ordinal();
+		counts[k]++;
+		iterations[k] += phaseIterations;
+		times[k] += nanos;
+		totalIterations += phaseIterations;
+		degeneratePivots += degenerate;
+		maxRows = Math.max(maxRows, rows);
+		maxCols = Math.max(maxCols, cols);
+		TableauSize last = sizes.isEmpty() ? null : sizes.get(sizes.size() - 1);
+		// етап без таблиці (PRESOLVE) розміру не змінює
+		if (sizes.size() < MAX_SIZE_SAMPLES && (rows > 0 || cols > 0) && (last == null || last.rows != rows || last.cols != cols)) {
+			sizes.add(new TableauSize(totalIterations, rows, cols));
+		}
+	}
+
+	synchronized void solved(long nanos) {
+		solves++;
+		solveTime += nanos;
+	}
+
+	public synchronized Snapshot snapshot() {
+		return new Snapshot(this);
+	}
+
+	public synchronized void reset() {
+		for (int k = 0; k < PHASES.length; k++) {
+			counts[k] = iterations[k] = times[k] = 0;
+		}
+		sizes.clear();
+		totalIterations = degeneratePivots = solves = solveTime = 0;
+		maxRows = maxCols = 0;
+	}
+
+	public enum Phase {
+		PRESOLVE,
+		INITIAL_BASIS,
+		PHASE_ONE,
+		PRIMAL,
+		DUAL,
+		CUT
+	}
+
+	public static final class TableauSize {
+		private final long iteration;
+		private final int rows;
+		private final int cols;
+
+		private TableauSize(long iteration, int rows, int cols) {
+			this.iteration = iteration;
+			this.rows = rows;
+			this.cols = cols;
+		}
+
+		public long getIteration() {
+			return iteration;
+		}
+
+		public int getRows() {
+			return rows;
+		}
+
+		public int getCols() {
+			return cols;
+		}
+
+		@Override
+		public String toString() {
+			return iteration + ": " + rows + "x" + cols;
+		}
+	}
+
+	public static final class Snapshot {
+		private final long[] counts;
+		private final long[] iterations;
+		private final long[] times;
+		private final List<TableauSize> sizes;
+		private final long degeneratePivots;
+		private final long solves;
+		private final long solveTime;
+		private final int maxRows;
+		private final int maxCols;
+
+		private Snapshot(SolverMetrics metrics) {
+			counts = metrics.counts.clone();
+			iterations = metrics.iterations.clone();
+			times = metrics.times.clone();
+			sizes = Collections.unmodifiableList(new ArrayList<>(metrics.sizes));
+			degeneratePivots = metrics.degeneratePivots;
+			solves = metrics.solves;
+			solveTime = metrics.solveTime;
+			maxRows = metrics.maxRows;
+			maxCols = metrics.maxCols;
+		}
+
+		public long getCount(Phase phase) {
+			return counts[phase.ordinal()];
+		}
+
+		public long getIterations(Phase phase) {
+			return iterations[phase.ordinal()];
+		}
+
+		public Duration getTime(Phase phase) {
+			return Duration.ofNanos(times[phase.ordinal()]);
+		}
+
+		public long getIterations() {
+			long total = 0;
+			for (long phaseIterations : iterations) {
+				total += phaseIterations;
+			}
+			return total;
+		}
+
+		public long getCutRounds() {
+			return getCount(Phase.CUT);
+		}
+
+		public long getDegeneratePivots() {
+			return degeneratePivots;
+		}
+
+		public long getSolves() {
+			return solves;
+		}
+
+		public Duration getSolveTime() {
+			return Duration.ofNanos(solveTime);
+		}
+
+		public int getMaxRows() {
+			return maxRows;
+		}
+
+		public int getMaxCols() {
+			return maxCols;
+		}
+
+		public List<TableauSize> getTableauSizes() {
+			return sizes;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder builder = new StringBuilder("solves = ").append(solves)
+					.append(", time = ").append(solveTime / 1000).append(" us")
+					.append(", iterations = ").append(getIterations())
+					.append(", degenerate = ").append(degeneratePivots)
+					.append(", max tableau = ").append(maxRows).append('x').append(maxCols);
+			for (Phase phase : PHASES) {
+				int k = phase.ordinal();
+				if (counts[k] > 0) {
+					builder.append(", ").append(phase).append(" = {count = ").append(counts[k])
+							.append(", iterations = ").append(iterations[k])
+							.append(", time = ").append(times[k] / 1000).append(" us}");
+				}
+			}
+			return builder.toString();
+		}
+	}
+}
\ No newline at end of file
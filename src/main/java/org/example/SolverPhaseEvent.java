@@ -0,0 +1,34 @@
+package org.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/*
+Подія JFR для одного етапу розв'язання (SolverMetrics.Phase). Тривалість події - тривалість етапу, розмір таблиці - наприкінці етапу. Записується, якщо подію org.example.SolverPhase ввімкнено в записі JFR (наприклад, java -XX:StartFlightRecording:filename=solver.jfr).
+*/
+
+@Name("org.example.SolverPhase")
+@Label("Solver Phase")
+@Category("Solver")
+@Description("One phase of a simplex solve")
+final class SolverPhaseEvent extends jdk.jfr.Event {
+	@Label("Problem")
+	String problem;
+
+	@Label("Phase")
+	String phase;
+
+	@Label("Iterations")
+	int iterations;
+
+	@Label("Degenerate Pivots")
+	int degeneratePivots;
+
+	@Label("Rows")
+	int rows;
+
+	@Label("Columns")
+	int cols;
+}
\ No newline at end of file
@@ -0,0 +1,150 @@
+package org.example;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/*
+У цьому класі реалізовано список коефіцієнтів рядка (Function.coefficients), у якому зберігаються лише ненульові елементи. FunctionSystem.addFunction переводить рядок у цей список, тому доповнення рядка нулями до кількості змінних системи лише збільшує його розмір (resize), а додаткова змінна нерівності додає один елемент.
+
+Основні елементи класу:
+
+size: Довжина списку разом з нулями.
+indices, values: Номери та значення ненульових елементів, упорядковані за номером (count - їхня кількість).
+
+Методи класу:
+
+get, set: Шукають елемент двійковим пошуком; запис нуля видаляє елемент, а ненульового значення на місці нуля - вставляє його.
+add(index, value), remove(index): Вставляють і видаляють елемент списку, зсуваючи номери наступних ненульових елементів (наприклад, видалення стовпця додаткової змінної в removeFunction).
+resize: Доповнює список нулями до заданої довжини без виділення пам'яті.
+nonZeros, index, value: Обхід лише ненульових елементів (SparseMatrix.of, Tableau.load).
+*/
+
+final class SparseCoefficients extends AbstractList<Double> implements RandomAccess {
+	private int size;
+	private int count;
+	private int[] indices;
+	private double[] values;
+
+	SparseCoefficients(List<Double> coefficients) {
+		size = coefficients.size();
+		if (coefficients instanceof SparseCoefficients sparse) {
+			count = sparse.count;
+			indices = Arrays.copyOf(sparse.indices, Math.max(count, 4));
+			values = Arrays.copyOf(sparse.values, Math.max(count, 4));
+			return;
+		}
+		indices = new int[4];
+		values = new double[4];
+		for (int j = 0; j < size; j++) {
+			double value = coefficients.get(j);
+			if (value != 0) {
+				insert(count, j, value);
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Double get(int index) {
+		Objects.checkIndex(index, size);
+		int k = Arrays.binarySearch(indices, 0, count, index);
+		return k >= 0 ? values[k] : 0.0;
+	}
+
+	@Override
+	public Double set(int index, Double value) {
+		Objects.checkIndex(index, size);
+		int k = Arrays.binarySearch(indices, 0, count, index);
+		double old = k >= 0 ? values[k] : 0.0;
+		if (k >= 0 && value == 0) {
+			delete(k);
+		} else if (k >= 0) {
+			values[k] = value;
+		} else if (value != 0) {
+			insert(-k - 1, index, value);
+		}
+		return old;
+	}
+
+	@Override
+	public void add(int index, Double value) {
+		Objects.checkIndex(index, size + 1);
+		int k = lowerBound(index);
+		for (int p = k; p < count; p++) {
+			indices[p]++;
+		}
+		size++;
+		if (value != 0) {
+			insert(k, index, value);
+		}
+		modCount++;
+	}
+
+	@Override
+	public Double remove(int index) {
+		Objects.checkIndex(index, size);
+		int k = lowerBound(index);
+		double old = 0.0;
+		if (k < count && indices[k] == index) {
+			old = values[k];
+			delete(k);
+		}
+		for (int p = k; p < count; p++) {
+			indices[p]--;
+		}
+		size--;
+		modCount++;
+		return old;
+	}
+
+	// доповнює список нулями до довжини size
+	void resize(int size) {
+		if (size > this.size) {
+			this.size = size;
+			modCount++;
+		}
+	}
+
+	int nonZeros() {
+		return count;
+	}
+
+	int index(int k) {
+		return indices[k];
+	}
+
+	double value(int k) {
+		return values[k];
+	}
+
+	// перший ненульовий елемент з номером не меншим за index
+	private int lowerBound(int index) {
+		int k = Arrays.binarySearch(indices, 0, count, index);
+		return k >= 0 ? k : -k - 1;
+	}
+
+	private void insert(int k, int index, double value) {
+		if (count == indices.length) {
+			indices = Arrays.copyOf(indices, count * 2);
+			values = Arrays.copyOf(values, count * 2);
+		}
+		System.arraycopy(indices, k, indices, k + 1, count - k);
+		System.arraycopy(values, k, values, k + 1, count - k);
+		indices[k] = index;
+		values[k] = value;
+		count++;
+	}
+
+	private void delete(int k) {
+		System.arraycopy(indices, k + 1, indices, k, count - k - 1);
+		System.arraycopy(values, k + 1, values, k, count - k - 1);
+		count--;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,277 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.List;
+
+/*
+У цьому класі реалізовано розріджену матрицю обмежень для модифікованого симплекс-методу. Зберігаються лише ненульові коефіцієнти, тому обсяг пам'яті залежить від їхньої кількості, а не від добутку кількості рядків на кількість змінних.
+
+Основні елементи класу:
+
+rowStart, rowIndices, rowValues: Коефіцієнти по рядках (формат CSR).
+colStart, colIndices, colValues: Ті самі коефіцієнти по стовпцях (формат CSC).
+cost, values: Коефіцієнти цільової функції та вільні члени.
+
+Методи класу:
+
+of: Будує матрицю з функцій системи, пропускаючи нульові коефіцієнти; розріджені рядки (SparseCoefficients) обходяться лише по ненульових.
+findUnitBasis: Шукає для кожного рядка одиничний стовпець (наприклад, додаткову змінну), який може бути початковим базисом.
+withArtificial: Додає штучні змінні для рядків, для яких базис не знайдено.
+loadColumn, price: Операції модифікованого симплекс-методу, які обходять лише ненульові коефіцієнти.
+rowStart, rowIndex, rowValue, colStart, colIndex, colValue: Доступ до коефіцієнтів по рядках і по стовпцях для LinearModel та запису моделі у файл.
+
+Клас Builder дозволяє будувати матрицю по рядках без проміжних об'єктів Function; додаткові змінні для нерівностей створюються автоматично, а рядки з від'ємним вільним членом множаться на -1.
+*/
+
+public class SparseMatrix implements ConstraintMatrix {
+	private final int rows;
+	private final int cols;
+	private final int[] rowStart;
+	private final int[] rowIndices;
+	private final double[] rowValues;
+	private final int[] colStart;
+	private final int[] colIndices;
+	private final double[] colValues;
+	private final double[] cost;
+	private final double[] values;
+
+	private SparseMatrix(int rows, int cols, int[] rowStart, int[] rowIndices, double[] rowValues,
+						 double[] cost, double[] values) {
+		this.rows = rows;
+		this.cols = cols;
+		this.rowStart = rowStart;
+		this.rowIndices = rowIndices;
+		this.rowValues = rowValues;
+		this.cost = cost;
+		this.values = values;
+
+		int nonZeros = rowStart[rows];
+		colStart = new int[cols + 1];
+		colIndices = new int[nonZeros];
+		colValues = new double[nonZeros];
+		for (int k = 0; k < nonZeros; k++) {
+			colStart[rowIndices[k] + 1]++;
+		}
+		for (int j = 0; j < cols; j++) {
+			colStart[j + 1] += colStart[j];
+		}
+		int[] next = Arrays.copyOf(colStart, cols);
+		for (int i = 0; i < rows; i++) {
+			for (int k = rowStart[i]; k < rowStart[i + 1]; k++) {
+				int position = next[rowIndices[k]]++;
+				colIndices[position] = i;
+				colValues[position] = rowValues[k];
+			}
+		}
+	}
+
+	public static SparseMatrix of(Function objective, List<Function> functions, int coefNum) {
+		Builder builder = new Builder(coefNum);
+		int costSize = Math.min(objective.coefficients.size(), coefNum);
+		for (int j = 0; j < costSize; j++) {
+			builder.setCost(j, objective.coefficients.get(j));
+		}
+		int[] indices = new int[coefNum];
+		double[] coefficients = new double[coefNum];
+		for (Function function : functions) {
+			int nonZero = 0;
+			if (function.coefficients instanceof SparseCoefficients sparse) {
+				for (int k = 0; k < sparse.nonZeros() && sparse.index(k) < coefNum; k++) {
+					indices[nonZero] = sparse.index(k);
+					coefficients[nonZero++] = sparse.value(k);
+				}
+				builder.addRow(indices, coefficients, nonZero, function.value, Function.Sign.EQUAL);
+				continue;
+			}
+			int size = Math.min(function.coefficients.size(), coefNum);
+			for (int j = 0; j < size; j++) {
+				double coefficient = function.coefficients.get(j);
+				if (coefficient != 0) {
+					indices[nonZero] = j;
+					coefficients[nonZero++] = coefficient;
+				}
+			}
+			builder.addRow(indices, coefficients, nonZero, function.value, Function.Sign.EQUAL);
+		}
+		return builder.build();
+	}
+
+	@Override
+	public int rows() {
+		return rows;
+	}
+
+	@Override
+	public int cols() {
+		return cols;
+	}
+
+	public int nonZeros() {
+		return rowStart[rows];
+	}
+
+	int rowStart(int x) {
+		return rowStart[x];
+	}
+
+	int rowIndex(int k) {
+		return rowIndices[k];
+	}
+
+	double rowValue(int k) {
+		return rowValues[k];
+	}
+
+	int colStart(int y) {
+		return colStart[y];
+	}
+
+	int colIndex(int k) {
+		return colIndices[k];
+	}
+
+	double colValue(int k) {
+		return colValues[k];
+	}
+
+	@Override
+	public double getCost(int y) {
+		return cost[y];
+	}
+
+	@Override
+	public double getValue(int x) {
+		return values[x];
+	}
+
+	public int[] findUnitBasis() {
+		int[] basis = new int[rows];
+		Arrays.fill(basis, -1);
+		for (int j = 0; j < cols; j++) {
+			if (colStart[j + 1] - colStart[j] != 1 || colValues[colStart[j]] != 1) {
+				continue;
+			}
+			int row = colIndices[colStart[j]];
+			if (basis[row] == -1) {
+				basis[row] = j;
+			}
+		}
+		return basis;
+	}
+
+	public SparseMatrix withArtificial(int[] basis, double artificialCost) {
+		int artificial = 0;
+		for (int b : basis) {
+			if (b == -1) {
+				artificial++;
+			}
+		}
+		int newCols = cols + artificial;
+		int[] newRowStart = new int[rows + 1];
+		int[] newRowIndices = new int[nonZeros() + artificial];
+		double[] newRowValues = new double[nonZeros() + artificial];
+		double[] newCost = Arrays.copyOf(cost, newCols);
+		int col = cols;
+		int position = 0;
+		for (int i = 0; i < rows; i++) {
+			newRowStart[i] = position;
+			for (int k = rowStart[i]; k < rowStart[i + 1]; k++) {
+				newRowIndices[position] = rowIndices[k];
+				newRowValues[position++] = rowValues[k];
+			}
+			if (basis[i] == -1) {
+				newCost[col] = artificialCost;
+				newRowIndices[position] = col;
+				newRowValues[position++] = 1;
+				basis[i] = col++;
+			}
+		}
+		newRowStart[rows] = position;
+		return new SparseMatrix(rows, newCols, newRowStart, newRowIndices, newRowValues, newCost, values);
+	}
+
+	@Override
+	public void loadColumn(int y, double[] column) {
+		Arrays.fill(column, 0, rows, 0);
+		for (int k = colStart[y]; k < colStart[y + 1]; k++) {
+			column[colIndices[k]] = colValues[k];
+		}
+	}
+
+	@Override
+	public int loadColumn(int y, int[] indices, double[] values) {
+		int count = colStart[y + 1] - colStart[y];
+		System.arraycopy(colIndices, colStart[y], indices, 0, count);
+		System.arraycopy(colValues, colStart[y], values, 0, count);
+		return count;
+	}
+
+	@Override
+	public void price(double[] multipliers, double[] zcDiff) {
+		for (int j = 0; j < cols; j++) {
+			double sum = -cost[j];
+			for (int k = colStart[j]; k < colStart[j + 1]; k++) {
+				sum += colValues[k] * multipliers[colIndices[k]];
+			}
+			zcDiff[j] = sum;
+		}
+	}
+
+	public static class Builder {
+		private final int variables;
+		private int rows;
+		private int slacks;
+		private int[] rowStart = new int[16];
+		private int[] rowIndices = new int[64];
+		private double[] rowValues = new double[64];
+		private double[] values = new double[16];
+		private double[] cost;
+
+		public Builder(int variables) {
+			this.variables = variables;
+			cost = new double[Math.max(variables, 1)];
+		}
+
+		public Builder setCost(int y, double value) {
+			cost[y] = value;
+			return this;
+		}
+
+		public Builder addRow(int[] indices, double[] coefficients, int size, double value, Function.Sign sign) {
+			int nonZeros = rowStart[rows];
+			int required = nonZeros + size + 1;
+			if (required > rowIndices.length) {
+				int capacity = Math.max(rowIndices.length * 2, required);
+				rowIndices = Arrays.copyOf(rowIndices, capacity);
+				rowValues = Arrays.copyOf(rowValues, capacity);
+			}
+			if (rows + 2 > rowStart.length) {
+				rowStart = Arrays.copyOf(rowStart, rowStart.length * 2);
+				values = Arrays.copyOf(values, values.length * 2);
+			}
+
+			double multiplier = value < 0 ? -1 : 1;
+			int position = nonZeros;
+			for (int k = 0; k < size; k++) {
+				if (coefficients[k] != 0) {
+					rowIndices[position] = indices[k];
+					rowValues[position++] = coefficients[k] * multiplier;
+				}
+			}
+			if (sign != Function.Sign.EQUAL) {
+				rowIndices[position] = variables + slacks++;
+				rowValues[position++] = (sign == Function.Sign.LESS ? 1.0 : -1.0) * multiplier;
+			}
+			values[rows++] = value * multiplier;
+			rowStart[rows] = position;
+			return this;
+		}
+
+		public SparseMatrix build() {
+			int cols = variables + slacks;
+			return new SparseMatrix(rows, cols, Arrays.copyOf(rowStart, rows + 1),
+					Arrays.copyOf(rowIndices, rowStart[rows]), Arrays.copyOf(rowValues, rowStart[rows]),
+					Arrays.copyOf(cost, cols), Arrays.copyOf(values, rows));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package org.example;
+
+/*
+Правило найкрутішого ребра: вхідною змінною обирається стовпець з найбільшим відношенням (Zj - Cj)^2 / (1 + |B^-1 Aj|^2), тобто з найбільшим зменшенням цільової функції на одиницю довжини ребра.
+Стовпці B^-1 Aj містяться в симплекс-таблиці, тому норми обчислюються точно одним проходом по таблиці на кожній ітерації. Зазвичай ітерацій значно менше, ніж за правилом Данцига, але кожна ітерація дорожча.
+*/
+
+public class SteepestEdgePricing implements PricingRule {
+	private double[] norms = new double[0];
+
+	@Override
+	public String name() {
+		return "steepest-edge";
+	}
+
+	@Override
+	public int select(Tableau tableau) {
+		int cols = tableau.cols();
+		if (norms.length < cols) {
+			norms = new double[cols];
+		}
+		boolean any = false;
+		for (int j = 0; j < cols; j++) {
+			norms[j] = 1;
+			any = any || tableau.getZcDiff(j) < -tableau.getOptimalityTolerance();
+		}
+		if (!any) {
+			return -1;
+		}
+		for (int i = 0; i < tableau.rows(); i++) {
+			for (int j = 0; j < cols; j++) {
+				double coefficient = tableau.get(i, j);
+				norms[j] += coefficient * coefficient;
+			}
+		}
+
+		int best = -1;
+		double bestScore = 0;
+		for (int j = 0; j < cols; j++) {
+			double zc = tableau.getZcDiff(j);
+			if (zc < -tableau.getOptimalityTolerance()) {
+				double score = zc * zc / norms[j];
+				if (best == -1 || score > bestScore) {
+					best = j;
+					bestScore = score;
+				}
+			}
+		}
+		return best;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package org.example;
+
+/*
+У цьому класі реалізовано спостерігача (SolverListener), який виводить симплекс-таблицю на кожному кроці розв'язання та результат після його завершення. Саме так працювали методи print класу FunctionSystem до появи спостерігачів.
+
+Основні методи класу:
+
+print: Виводить заголовок (якщо змінилася кількість стовпців), рядки таблиці та оцінки стовпців.
+printHeader, printFunctions, printZCDiff: Виводять окремі частини таблиці.
+
+Для задач, що розв'язуються модифікованим симплекс-методом, симплекс-таблиця не будується, тому виводиться лише результат.
+*/
+
+public class TablePrinter implements SolverListener {
+	private String delimiter;
+	private int prevCoefNum = -1;
+	private boolean cutting;
+
+	@Override
+	public void onStart(FunctionSystem system) {
+		prevCoefNum = -1;
+		cutting = false;
+		print(system);
+	}
+
+	@Override
+	public void onInitialBasis(FunctionSystem system) {
+		print(system);
+	}
+
+	@Override
+	public void onIteration(FunctionSystem system, int iteration) {
+		print(system);
+	}
+
+	@Override
+	public void onCut(FunctionSystem system, int row) {
+		if (!cutting) {
+			System.out.println("Result contains non-integer values. We need to use Gomori's method");
+			cutting = true;
+		}
+	}
+
+	@Override
+	public void onTermination(FunctionSystem system, SolveStatus status) {
+		system.printResult();
+	}
+
+	public void print(FunctionSystem system) {
+		Tableau tableau = system.tableau;
+		if (tableau == null) {
+			return;
+		}
+		delimiter = "+" + ("-".repeat(10) + "+").repeat(tableau.cols() + 2);
+		if (prevCoefNum != tableau.cols()) {
+			printHeader(tableau);
+			prevCoefNum = tableau.cols();
+		}
+		printFunctions(tableau);
+		if (tableau.isZcDiffSet()) {
+			printZCDiff(tableau);
+		}
+	}
+
+	public void printHeader(Tableau tableau) {
+		System.out.println(delimiter);
+		System.out.println("|%10s".formatted("") +
+				tableau.costToString() + "%10s|".formatted("b"));
+		System.out.println(delimiter);
+	}
+
+	public void printFunctions(Tableau tableau) {
+		for (int i = 0; i < tableau.rows(); i++) {
+			System.out.printf("|%6.1f p%-2d%s%n",
+					tableau.getBasisCoef(i),
+					tableau.getBasis(i) + 1,
+					tableau.rowToString(i));
+		}
+		System.out.println(delimiter);
+	}
+
+	public void printZCDiff(Tableau tableau) {
+		StringBuilder builder = new StringBuilder("|%10s|".formatted(""));
+		for (int i = 0; i < tableau.cols(); i++) {
+			builder.append("%10.5f|".formatted(tableau.getZcDiff(i)));
+		}
+		builder.append("%10.5f|".formatted(tableau.getZcValue()));
+
+		System.out.println(builder);
+		System.out.println(delimiter);
+	}
+}
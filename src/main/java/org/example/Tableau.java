@@ -0,0 +1,553 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+У цьому класі реалізовано симплекс-таблицю на примітивних числах double, яка використовується класом FunctionSystem під час розв'язання задачі. Об'єкти Function залишаються лише для побудови моделі, а всі перетворення таблиці виконуються тут без упаковки коефіцієнтів.
+
+Основні елементи класу:
+
+storage: Коефіцієнти обмежень, збережені по рядках з кроком stride у пам'яті таблиці (TableauStorage); останній стовпець кожного рядка містить вільний член (b).
+cost: Коефіцієнти цільової функції для кожного стовпця таблиці.
+basis: Номери базисних змінних для кожного рядка (-1, якщо базис ще не знайдено).
+zcDiff: Оцінки стовпців (Zj - Cj) та значення цільової функції.
+
+Методи класу:
+
+toOne: Робить елемент (x, y) одиничним, а решту елементів стовпця - нульовими (крок жорданових виключень). Якщо ведучий рядок розріджений, оновлюються лише його ненульові стовпці.
+setZcDiff: Обчислює оцінки стовпців для поточного базису.
+squaredRowNorm: Квадрат норми рядка (вага рядка у двоїстому правилі найкрутішого ребра).
+axpy: Додає рядок, помножений на число, до вектора довжини cols (наприклад, оцінки стовпців за напрямком параметричної цільової функції).
+load: Заповнює таблицю з моделі (списку Function або розрідженої матриці SparseMatrix), повторно використовуючи вже виділену пам'ять (якщо її достатньо).
+findUnitColumns: Шукає для кожного рядка одиничний стовпець (за ним обчислюються двоїсті оцінки); таблиця переглядається по рядках.
+addRow, addColumn: Додають рядок чи стовпець (наприклад, відсічення Гоморі або штучну змінну); пам'ять виділяється із запасом.
+removeRow, removeColumn: Видаляють рядок чи стовпець (номери базисних змінних після видаленого стовпця зменшуються на 1).
+eliminateBasis: Виражає рядок через небазисні змінні, віднімаючи від нього базисні рядки (використовується для нового обмеження в оптимальній таблиці).
+
+Після побудови таблиці крок жорданових виключень не виділяє пам'яті.
+
+Копія таблиці (конструктор Tableau(Tableau)) не копіює пам'ять коефіцієнтів, а читає її спільно з оригіналом; sharers - лічильник таблиць, що спільно читають пам'ять. Перед першою зміною пам'яті (set, toOne, addRow тощо) таблиця зі спільною пам'яттю копіює її собі (copy-on-write), тому зміни однієї таблиці не видно в інших, а копія, яку лише читають (наприклад, вузол методу гілок і меж), пам'яті не займає. load спільну пам'ять не копіює, а бере нову. Ціни, базис та оцінки стовпців малі й копіюються одразу. getStorage повертає вже власну пам'ять таблиці.
+
+Пам'ять таблиці: за замовчуванням коефіцієнти зберігаються в масиві в купі (ArrayStorage); конструктор Tableau(rows, cols, storage) приймає іншу пам'ять, наприклад файл, відображений у пам'ять (MappedStorage), для таблиць, більших за купу. Оновлення рядків у toOne, eliminateBasis та обчислення оцінок у setZcDiff і price виконуються операціями пам'яті над цілими рядками (axpy, scale), тому таблиця проходиться послідовно, рядок за рядком.
+
+optimalityTolerance: Допуск, з яким правила вибору вхідної змінної (PricingRule) порівнюють оцінки Zj - Cj з нулем. FunctionSystem задає його з Tolerances.optimality з урахуванням масштабу цільової функції.
+
+Якщо кількість елементів таблиці не менша за parallelThreshold (setParallelThreshold), оновлення рядків у toOne та обчислення оцінок стовпців у setZcDiff виконуються паралельно блоками рядків (стовпців) у ForkJoinPool. Кожен елемент обчислюється тими самими операціями в тому самому порядку, тому результат збігається з послідовним до біта. За замовчуванням (SEQUENTIAL) обчислення послідовні.
+*/
+
+public class Tableau implements ConstraintMatrix {
+	public static final int SEQUENTIAL = Integer.MAX_VALUE;
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 18;
+	private static final int PARALLEL_BLOCK = 1 << 14;
+
+	private int rows;
+	private int cols;
+	private int stride;
+	private TableauStorage storage;
+	private AtomicInteger sharers = new AtomicInteger(1);
+	private double[] cost;
+	private int[] basis;
+	private double[] zcDiff;
+	private int[] pivotIndices;
+	private double zcValue;
+	private boolean zcDiffSet;
+	private int parallelThreshold = SEQUENTIAL;
+	private double optimalityTolerance = Tolerances.DEFAULT.getOptimality();
+
+	public Tableau(int rows, int cols) {
+		this(rows, cols, new ArrayStorage(0));
+	}
+
+	public Tableau(int rows, int cols, TableauStorage storage) {
+		this.rows = rows;
+		this.cols = cols;
+		stride = cols + 1;
+		this.storage = storage;
+		storage.ensureCapacity((long) Math.max(rows, 1) * stride);
+		cost = new double[cols];
+		basis = new int[Math.max(rows, 1)];
+		Arrays.fill(basis, -1);
+		zcDiff = new double[cols];
+		pivotIndices = new int[cols];
+	}
+
+	public Tableau(Tableau tableau) {
+		rows = tableau.rows;
+		cols = tableau.cols;
+		stride = tableau.stride;
+		storage = tableau.storage;
+		sharers = tableau.sharers;
+		sharers.incrementAndGet();
+		cost = tableau.cost.clone();
+		basis = tableau.basis.clone();
+		zcDiff = tableau.zcDiff.clone();
+		pivotIndices = new int[tableau.pivotIndices.length];
+		zcValue = tableau.zcValue;
+		zcDiffSet = tableau.zcDiffSet;
+		parallelThreshold = tableau.parallelThreshold;
+		optimalityTolerance = tableau.optimalityTolerance;
+	}
+
+	// копія з власною пам'яттю: пам'ять робочої таблиці (FunctionSystem.setWorkspace) належить користувачеві й не повинна спільно читатися копією
+	Tableau copy() {
+		Tableau copy = new Tableau(this);
+		copy.own();
+		return copy;
+	}
+
+	public static Tableau of(Function objective, List<Function> functions, int coefNum) {
+		return new Tableau(functions.size(), coefNum).load(objective, functions, coefNum);
+	}
+
+	public Tableau load(Function objective, List<Function> functions, int coefNum) {
+		rows = functions.size();
+		cols = coefNum;
+		clear();
+
+		int costSize = Math.min(objective.coefficients.size(), coefNum);
+		for (int j = 0; j < costSize; j++) {
+			cost[j] = objective.coefficients.get(j);
+		}
+		for (int i = 0; i < rows; i++) {
+			Function function = functions.get(i);
+			long offset = (long) i * stride;
+			if (function.coefficients instanceof SparseCoefficients sparse) {
+				for (int k = 0; k < sparse.nonZeros() && sparse.index(k) < coefNum; k++) {
+					storage.set(offset + sparse.index(k), sparse.value(k));
+				}
+			} else {
+				int size = Math.min(function.coefficients.size(), coefNum);
+				for (int j = 0; j < size; j++) {
+					storage.set(offset + j, function.coefficients.get(j));
+				}
+			}
+			storage.set(offset + stride - 1, function.value);
+		}
+		return this;
+	}
+
+	public Tableau load(SparseMatrix matrix) {
+		rows = matrix.rows();
+		cols = matrix.cols();
+		clear();
+
+		for (int j = 0; j < cols; j++) {
+			cost[j] = matrix.getCost(j);
+		}
+		for (int i = 0; i < rows; i++) {
+			long offset = (long) i * stride;
+			for (int k = matrix.rowStart(i); k < matrix.rowStart(i + 1); k++) {
+				storage.set(offset + matrix.rowIndex(k), matrix.rowValue(k));
+			}
+			storage.set(offset + stride - 1, matrix.getValue(i));
+		}
+		return this;
+	}
+
+	// готує пам'ять для rows x cols: нульові коефіцієнти, ціни та порожній базис
+	private void clear() {
+		// спільна пам'ять усе одно перезаписується, тому замість копії береться порожня пам'ять того самого виду
+		if (sharers.get() > 1) {
+			leave(storage.copy(0));
+		}
+		if (stride < cols + 1) {
+			stride = cols + 1;
+			cost = new double[cols];
+			zcDiff = new double[cols];
+			pivotIndices = new int[cols];
+		}
+		storage.ensureCapacity((long) rows * stride);
+		if (basis.length < rows) {
+			basis = new int[rows];
+		}
+		storage.fill(0, (long) rows * stride, 0);
+		Arrays.fill(cost, 0);
+		Arrays.fill(basis, -1);
+		zcValue = 0;
+		zcDiffSet = false;
+	}
+
+	// перед зміною пам'яті: спільна з іншими таблицями пам'ять копіюється (copy-on-write)
+	private void own() {
+		if (sharers.get() > 1) {
+			leave(storage.copy((long) rows * stride));
+		}
+	}
+
+	// таблиця переходить на власну пам'ять; лічильник зменшується лише після того, як спільну пам'ять прочитано
+	private void leave(TableauStorage own) {
+		storage = own;
+		sharers.decrementAndGet();
+		sharers = new AtomicInteger(1);
+	}
+
+	@Override
+	public int rows() {
+		return rows;
+	}
+
+	@Override
+	public int cols() {
+		return cols;
+	}
+
+	public double get(int x, int y) {
+		return storage.get((long) x * stride + y);
+	}
+
+	public void set(int x, int y, double value) {
+		own();
+		storage.set((long) x * stride + y, value);
+	}
+
+	@Override
+	public double getValue(int x) {
+		return storage.get((long) x * stride + stride - 1);
+	}
+
+	public void setValue(int x, double value) {
+		own();
+		storage.set((long) x * stride + stride - 1, value);
+	}
+
+	public TableauStorage getStorage() {
+		own();
+		return storage;
+	}
+
+	@Override
+	public double getCost(int y) {
+		return cost[y];
+	}
+
+	public void setCost(int y, double value) {
+		cost[y] = value;
+	}
+
+	public int getBasis(int x) {
+		return basis[x];
+	}
+
+	public void setBasis(int x, int y) {
+		basis[x] = y;
+	}
+
+	public double getBasisCoef(int x) {
+		return basis[x] == -1 ? 0 : cost[basis[x]];
+	}
+
+	public boolean isZcDiffSet() {
+		return zcDiffSet;
+	}
+
+	public double getZcDiff(int y) {
+		return zcDiff[y];
+	}
+
+	public double getZcValue() {
+		return zcValue;
+	}
+
+	// y += a * рядок x (без вільного члена)
+	public void axpy(double a, int x, double[] y) {
+		storage.axpy(a, (long) x * stride, y, 0, cols);
+	}
+
+	// квадрат норми рядка x (без вільного члена); використовується двоїстим правилом найкрутішого ребра
+	public double squaredRowNorm(int x) {
+		long offset = (long) x * stride;
+		double norm = 0;
+		for (int j = 0; j < cols; j++) {
+			double coefficient = storage.get(offset + j);
+			norm += coefficient * coefficient;
+		}
+		return norm;
+	}
+
+	public void addRow() {
+		own();
+		storage.ensureCapacity((long) (rows + 1) * stride);
+		if (rows + 1 > basis.length) {
+			int old = basis.length;
+			basis = Arrays.copyOf(basis, Math.max(old * 2, rows + 1));
+			Arrays.fill(basis, old, basis.length, -1);
+		}
+		storage.fill((long) rows * stride, (long) (rows + 1) * stride, 0);
+		basis[rows] = -1;
+		rows++;
+	}
+
+	public int addColumn() {
+		own();
+		if (cols + 1 >= stride) {
+			int newStride = Math.max(stride * 2, cols + 2);
+			storage.ensureCapacity((long) Math.max(rows, 1) * newStride);
+			// рядки переносяться з кінця, тому новий рядок не затирає ще не перенесені
+			for (int i = rows - 1; i >= 0; i--) {
+				long offset = (long) i * stride;
+				long newOffset = (long) i * newStride;
+				double value = storage.get(offset + stride - 1);
+				storage.copy(offset, newOffset, cols);
+				storage.fill(newOffset + cols, newOffset + newStride - 1, 0);
+				storage.set(newOffset + newStride - 1, value);
+			}
+			stride = newStride;
+			cost = Arrays.copyOf(cost, newStride - 1);
+			zcDiff = Arrays.copyOf(zcDiff, newStride - 1);
+			pivotIndices = new int[newStride - 1];
+		} else {
+			for (int i = 0; i < rows; i++) {
+				storage.set((long) i * stride + cols, 0);
+			}
+			cost[cols] = 0;
+			zcDiff[cols] = 0;
+		}
+		return cols++;
+	}
+
+	public void removeRow(int x) {
+		own();
+		storage.copy((long) (x + 1) * stride, (long) x * stride, (long) (rows - x - 1) * stride);
+		System.arraycopy(basis, x + 1, basis, x, rows - x - 1);
+		rows--;
+		basis[rows] = -1;
+		zcDiffSet = false;
+	}
+
+	public void removeColumn(int y) {
+		own();
+		for (int i = 0; i < rows; i++) {
+			long offset = (long) i * stride;
+			storage.copy(offset + y + 1, offset + y, cols - y - 1);
+			storage.set(offset + cols - 1, 0);
+			if (basis[i] > y) {
+				basis[i]--;
+			}
+		}
+		System.arraycopy(cost, y + 1, cost, y, cols - y - 1);
+		cols--;
+		cost[cols] = 0;
+		zcDiffSet = false;
+	}
+
+	public void eliminateBasis(int x) {
+		own();
+		long offset = (long) x * stride;
+		for (int i = 0; i < rows; i++) {
+			if (i == x || basis[i] == -1) {
+				continue;
+			}
+			double factor = storage.get(offset + basis[i]);
+			if (factor == 0) {
+				continue;
+			}
+			long rowOffset = (long) i * stride;
+			storage.axpy(-factor, rowOffset, offset, cols);
+			storage.set(offset + stride - 1, storage.get(offset + stride - 1) - storage.get(rowOffset + stride - 1) * factor);
+			storage.set(offset + basis[i], 0);
+		}
+	}
+
+	public void multiply(int x, double value) {
+		own();
+		long offset = (long) x * stride;
+		storage.scale(value, offset, cols);
+		storage.set(offset + stride - 1, storage.get(offset + stride - 1) * value);
+	}
+
+	public void setParallelThreshold(int parallelThreshold) {
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	public double getOptimalityTolerance() {
+		return optimalityTolerance;
+	}
+
+	public void setOptimalityTolerance(double optimalityTolerance) {
+		this.optimalityTolerance = optimalityTolerance;
+	}
+
+	public void toOne(int x, int y) {
+		own();
+		long pivotOffset = (long) x * stride;
+		double pivot = storage.get(pivotOffset + y);
+		int nonZero = 0;
+		for (int j = 0; j < cols; j++) {
+			double coefficient = storage.get(pivotOffset + j) / pivot;
+			storage.set(pivotOffset + j, coefficient);
+			if (coefficient != 0) {
+				pivotIndices[nonZero++] = j;
+			}
+		}
+		storage.set(pivotOffset + stride - 1, storage.get(pivotOffset + stride - 1) / pivot);
+
+		if ((long) rows * cols >= parallelThreshold) {
+			ForkJoinPool.commonPool().invoke(new RowUpdate(0, rows, x, y, nonZero));
+		} else {
+			updateRows(0, rows, x, y, nonZero);
+		}
+	}
+
+	private void updateRows(int from, int to, int x, int y, int nonZero) {
+		long pivotOffset = (long) x * stride;
+		int valueOffset = stride - 1;
+		double pivotValue = storage.get(pivotOffset + valueOffset);
+		boolean sparse = nonZero * 2 < cols;
+		for (int i = from; i < to; i++) {
+			long offset = (long) i * stride;
+			double factor = storage.get(offset + y);
+			if (i == x || factor == 0) {
+				continue;
+			}
+			if (sparse) {
+				storage.axpy(-factor, pivotOffset, offset, pivotIndices, nonZero);
+			} else {
+				storage.axpy(-factor, pivotOffset, offset, cols);
+			}
+			storage.set(offset + valueOffset, storage.get(offset + valueOffset) - pivotValue * factor);
+		}
+	}
+
+	public void setZcDiff() {
+		if ((long) rows * cols >= parallelThreshold) {
+			ForkJoinPool.commonPool().invoke(new ZcDiffUpdate(0, cols));
+		} else {
+			updateZcDiff(0, cols);
+		}
+		zcValue = 0;
+		for (int i = 0; i < rows; i++) {
+			double coef = getBasisCoef(i);
+			if (coef != 0) {
+				zcValue += storage.get((long) i * stride + stride - 1) * coef;
+			}
+		}
+		zcDiffSet = true;
+	}
+
+	private void updateZcDiff(int from, int to) {
+		for (int j = from; j < to; j++) {
+			zcDiff[j] = -cost[j];
+		}
+		for (int i = 0; i < rows; i++) {
+			double coef = getBasisCoef(i);
+			if (coef == 0) {
+				continue;
+			}
+			storage.axpy(coef, (long) i * stride, zcDiff, from, to);
+		}
+	}
+
+	public int[] findUnitColumns() {
+		// row[j]: рядок єдиної одиниці стовпця j, -1 - ще не знайдено, -2 - стовпець не одиничний
+		int[] row = new int[cols];
+		Arrays.fill(row, -1);
+		for (int i = 0; i < rows; i++) {
+			long offset = (long) i * stride;
+			for (int j = 0; j < cols; j++) {
+				double coefficient = storage.get(offset + j);
+				if (coefficient != 0 && row[j] != -2) {
+					row[j] = row[j] != -1 || coefficient != 1 ? -2 : i;
+				}
+			}
+		}
+		int[] unitColumns = new int[rows];
+		Arrays.fill(unitColumns, -1);
+		for (int j = 0; j < cols; j++) {
+			if (row[j] >= 0 && unitColumns[row[j]] == -1) {
+				unitColumns[row[j]] = j;
+			}
+		}
+		return unitColumns;
+	}
+
+	@Override
+	public void loadColumn(int y, double[] column) {
+		for (int i = 0; i < rows; i++) {
+			column[i] = storage.get((long) i * stride + y);
+		}
+	}
+
+	@Override
+	public void price(double[] multipliers, double[] zcDiff) {
+		for (int j = 0; j < cols; j++) {
+			zcDiff[j] = -cost[j];
+		}
+		for (int i = 0; i < rows; i++) {
+			double yi = multipliers[i];
+			if (yi == 0) {
+				continue;
+			}
+			storage.axpy(yi, (long) i * stride, zcDiff, 0, cols);
+		}
+	}
+
+	public String rowToString(int x) {
+		StringBuilder builder = new StringBuilder("|");
+		for (int j = 0; j < cols; j++) {
+			builder.append("%10.5f|".formatted(get(x, j)));
+		}
+		return builder.append("%10.5f|".formatted(getValue(x))).toString();
+	}
+
+	public String costToString() {
+		StringBuilder builder = new StringBuilder("|");
+		for (int j = 0; j < cols; j++) {
+			builder.append("%10.5f|".formatted(cost[j]));
+		}
+		return builder.toString();
+	}
+
+	private class RowUpdate extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int from;
+		private final int to;
+		private final int x;
+		private final int y;
+		private final int nonZero;
+
+		RowUpdate(int from, int to, int x, int y, int nonZero) {
+			this.from = from;
+			this.to = to;
+			this.x = x;
+			this.y = y;
+			this.nonZero = nonZero;
+		}
+
+		@Override
+		protected void compute() {
+			if ((long) (to - from) * cols <= PARALLEL_BLOCK || to - from < 2) {
+				updateRows(from, to, x, y, nonZero);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new RowUpdate(from, middle, x, y, nonZero), new RowUpdate(middle, to, x, y, nonZero));
+		}
+	}
+
+	private class ZcDiffUpdate extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int from;
+		private final int to;
+
+		ZcDiffUpdate(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if ((long) (to - from) * rows <= PARALLEL_BLOCK || to - from < 2) {
+				updateZcDiff(from, to);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new ZcDiffUpdate(from, middle), new ZcDiffUpdate(middle, to));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package org.example;
+
+/*
+Цей інтерфейс описує пам'ять, у якій симплекс-таблиця (Tableau) зберігає свої коефіцієнти: суцільний масив чисел double з довгими (long) індексами. Таблиця сама розміщує в ньому рядки (номер елемента = рядок * крок + стовпець), а пам'ять виконує над ним операції над відрізками, з яких складаються кроки симплекс-методу. Реалізації: ArrayStorage (масив у купі, за замовчуванням) та MappedStorage (файл, відображений у пам'ять).
+
+Методи інтерфейсу:
+
+capacity, ensureCapacity: Кількість доступних елементів; ensureCapacity збільшує її (із запасом), зберігаючи наявні значення, а нові елементи дорівнюють нулю.
+get, set: Читають та записують один елемент.
+fill: Заповнює відрізок [from, to) значенням.
+copy(from, to, length): Копіює відрізок, навіть якщо джерело і призначення перекриваються.
+scale: Множить відрізок на число (x = a * x).
+axpy: Додає до відрізка y відрізок x, помножений на a (y = y + a * x); варіант з indices оновлює лише задані зсуви, варіант з масивом додає рядок пам'яті до масиву в купі (оцінки стовпців).
+copy(size): Створює пам'ять того самого виду з копією перших size елементів.
+close: Звільняє ресурси (файл для MappedStorage).
+
+Кожна операція обчислює кожен елемент тими самими діями в тому самому порядку, що й цикл над масивом double[], тому результат не залежить від виду пам'яті. Різні потоки можуть одночасно змінювати елементи, що не перетинаються.
+*/
+
+public interface TableauStorage extends AutoCloseable {
+	long capacity();
+
+	void ensureCapacity(long size);
+
+	double get(long index);
+
+	void set(long index, double value);
+
+	void fill(long from, long to, double value);
+
+	void copy(long from, long to, long length);
+
+	void scale(double a, long x, int length);
+
+	void axpy(double a, long x, long y, int length);
+
+	void axpy(double a, long x, long y, int[] indices, int count);
+
+	void axpy(double a, long x, double[] y, int from, int to);
+
+	TableauStorage copy(long size);
+
+	@Override
+	void close();
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package org.example;
+
+/*
+У цьому класі зібрано допуски, з якими FunctionSystem, RevisedSimplex, BranchAndBound та правила вибору вхідної змінної порівнюють числа з плаваючою комою. Допуски задаються методом FunctionSystem.setTolerances (DEFAULT за замовчуванням).
+
+Допуски:
+
+optimality: Оцінка Zj - Cj вважається від'ємною (стовпець може ввійти в базис), якщо вона менша за -optimality.
+pivot: Найменший за модулем елемент, який може бути ведучим, та найбільше відхилення від 0 і 1 для одиничного стовпця початкового базису.
+feasibility: Значення базисної змінної вважається від'ємним (двоїстий симплекс-метод) чи додатним (штучна змінна), якщо воно виходить за межі ±feasibility.
+integrality: Значення вважається цілим, якщо його дробова частина менша за integrality або більша за 1 - integrality.
+
+Перші три допуски відносні: методи pivot та feasibility множать допуск на масштаб |scale|, де scale - найбільший за модулем коефіцієнт рядка чи стовпця таблиці або вільний член (нульовий масштаб вважається одиничним). Тому ті самі допуски працюють і для задач з коефіцієнтами порядку 1e6, і для задач з коефіцієнтами порядку 1e-6. Метод optimality масштабує допуск лише вниз (min(1, |scale|), scale - найбільший за модулем коефіцієнт цільової функції): оцінки слабких змінних дорівнюють двоїстим оцінкам, які зменшуються зі збільшенням рядків, тому збільшений допуск зупиняв би симплекс-метод до оптимуму. Допуск integrality абсолютний, бо дробова частина не залежить від масштабу задачі.
+*/
+
+public final class Tolerances {
+	public static final Tolerances DEFAULT = new Tolerances(1e-9, 1e-9, 1e-9, 0.00001);
+
+	private final double optimality;
+	private final double pivot;
+	private final double feasibility;
+	private final double integrality;
+
+	public Tolerances(double optimality, double pivot, double feasibility, double integrality) {
+		if (!(optimality >= 0 && pivot >= 0 && feasibility >= 0 && integrality >= 0 && integrality < 0.5)) {
+			throw new IllegalArgumentException("Invalid tolerances");
+		}
+		this.optimality = optimality;
+		this.pivot = pivot;
+		this.feasibility = feasibility;
+		this.integrality = integrality;
+	}
+
+	public double getOptimality() {
+		return optimality;
+	}
+
+	public double getPivot() {
+		return pivot;
+	}
+
+	public double getFeasibility() {
+		return feasibility;
+	}
+
+	public double getIntegrality() {
+		return integrality;
+	}
+
+	public double optimality(double scale) {
+		return optimality * Math.min(1, scale(scale));
+	}
+
+	public double pivot(double scale) {
+		return pivot * scale(scale);
+	}
+
+	public double feasibility(double scale) {
+		return feasibility * scale(scale);
+	}
+
+	public double fractional(double value) {
+		double fractional = value - Math.floor(value);
+		return fractional < integrality || fractional > 1 - integrality ? 0 : fractional;
+	}
+
+	public boolean isInteger(double value) {
+		return fractional(value) == 0;
+	}
+
+	private static double scale(double scale) {
+		return scale == 0 ? 1 : Math.abs(scale);
+	}
+
+	@Override
+	public String toString() {
+		return "optimality = " + optimality + ", pivot = " + pivot + ", feasibility = " + feasibility +
+				", integrality = " + integrality;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+Тести розрідженого LU-розкладу базису (BasisFactorization): ftran та btran розв'язують системи з базисною матрицею (зокрема після eta-перетворень), а вироджена матриця розпізнається.
+*/
+
+class BasisFactorizationTest {
+	private static SparseMatrix matrix(double[][] a) {
+		SparseMatrix.Builder builder = new SparseMatrix.Builder(a.length);
+		for (double[] row : a) {
+			int[] indices = new int[row.length];
+			double[] coefficients = new double[row.length];
+			int size = 0;
+			for (int j = 0; j < row.length; j++) {
+				if (row[j] != 0) {
+					indices[size] = j;
+					coefficients[size++] = row[j];
+				}
+			}
+			builder.addRow(indices, coefficients, size, 1, Function.Sign.EQUAL);
+		}
+		return builder.build();
+	}
+
+	@Test
+	void solvesWithBasisAndEtaFile() {
+		Random random = new Random(1);
+		for (int test = 0; test < 300; test++) {
+			int m = 1 + random.nextInt(40);
+			double[][] a = new double[m][m];
+			for (int i = 0; i < m; i++) {
+				a[i][i] = 1 + random.nextInt(4);
+				for (int j = 0; j < m; j++) {
+					if (random.nextDouble() < 0.2) {
+						a[i][j] = random.nextInt(9) - 4;
+					}
+				}
+			}
+			int[] basis = new int[m];
+			for (int k = 0; k < m; k++) {
+				basis[k] = k;
+			}
+			BasisFactorization factorization = new BasisFactorization(m, 4);
+			if (!factorization.factorize(matrix(a), basis)) {
+				continue;
+			}
+			// eta-перетворення: стовпець r базису замінюється новим стовпцем
+			for (int update = 0; update < 4; update++) {
+				double[] column = new double[m];
+				for (int i = 0; i < m; i++) {
+					column[i] = random.nextInt(7) - 3;
+				}
+				double[] alpha = column.clone();
+				factorization.ftran(alpha);
+				int r = 0;
+				for (int i = 1; i < m; i++) {
+					if (Math.abs(alpha[i]) > Math.abs(alpha[r])) {
+						r = i;
+					}
+				}
+				if (Math.abs(alpha[r]) < 0.5) {
+					break;
+				}
+				factorization.update(r, alpha);
+				for (int i = 0; i < m; i++) {
+					a[i][r] = column[i];
+				}
+			}
+
+			double[] b = new double[m];
+			for (int i = 0; i < m; i++) {
+				b[i] = random.nextGaussian();
+			}
+			double[] x = b.clone();
+			factorization.ftran(x);
+			for (int i = 0; i < m; i++) {
+				double sum = 0;
+				for (int j = 0; j < m; j++) {
+					sum += a[i][j] * x[j];
+				}
+				assertEquals(b[i], sum, 1e-7, "ftran, m = " + m);
+			}
+			double[] y = b.clone();
+			factorization.btran(y);
+			for (int j = 0; j < m; j++) {
+				double sum = 0;
+				for (int i = 0; i < m; i++) {
+					sum += a[i][j] * y[i];
+				}
+				assertEquals(b[j], sum, 1e-7, "btran, m = " + m);
+			}
+		}
+	}
+
+	@Test
+	void detectsSingularBasis() {
+		double[][] a = {{1, 2, 0}, {2, 4, 0}, {0, 1, 1}};
+		assertFalse(new BasisFactorization(3, 1).factorize(matrix(a), new int[]{0, 1, 2}));
+		a[1][1] = 5;
+		assertTrue(new BasisFactorization(3, 1).factorize(matrix(a), new int[]{0, 1, 2}));
+	}
+
+	@Test
+	void largeSparseBasis() {
+		// тридіагональна матриця 50000 x 50000: щільний розклад потребував би 2.5e9 елементів
+		int m = 50_000;
+		SparseMatrix.Builder builder = new SparseMatrix.Builder(m);
+		for (int i = 0; i < m; i++) {
+			int first = Math.max(0, i - 1);
+			int size = Math.min(m, i + 2) - first;
+			int[] indices = new int[size];
+			double[] coefficients = new double[size];
+			for (int k = 0; k < size; k++) {
+				indices[k] = first + k;
+				coefficients[k] = first + k == i ? 4 : -1;
+			}
+			builder.addRow(indices, coefficients, size, 1, Function.Sign.EQUAL);
+		}
+		int[] basis = new int[m];
+		for (int k = 0; k < m; k++) {
+			basis[k] = k;
+		}
+		BasisFactorization factorization = new BasisFactorization(m, 10);
+		assertTrue(factorization.factorize(builder.build(), basis));
+		double[] x = new double[m];
+		x[m / 2] = 1;
+		factorization.ftran(x);
+		double residual = 4 * x[m / 2] - x[m / 2 - 1] - x[m / 2 + 1];
+		assertEquals(1, residual, 1e-9);
+	}
+}
@@ -0,0 +1,68 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.example.TestModels.EPS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/*
+Тести паралельного розв'язання (BatchSolver): результати solveAll збігаються з послідовним розв'язанням у порядку задач, solveAsCompleted повертає кожну задачу рівно один раз, а робоча таблиця, задана задачею, після розв'язання відновлюється і не потрапляє до пулу.
+*/
+
+class BatchSolverTest {
+	private static List<FunctionSystem> systems(int count) {
+		List<FunctionSystem> systems = new ArrayList<>();
+		for (int seed = 0; seed < count; seed++) {
+			systems.add(TestModels.random(seed, 3 + seed % 10, 3 + seed % 8, 0.6));
+		}
+		return systems;
+	}
+
+	@Test
+	void solveAllMatchesSequential() {
+		List<FunctionSystem> systems = systems(200);
+		List<SolveResult> results;
+		try (BatchSolver solver = BatchSolver.withPlatformThreads(4, BatchSolver.Solver.optimal(true, FunctionSystem.Mode.TABLEAU))) {
+			results = solver.solveAll(systems);
+		}
+		for (int k = 0; k < systems.size(); k++) {
+			SolveResult expected = systems.get(k).getOptimal(true);
+			assertEquals(expected.getStatus(), results.get(k).getStatus(), "model " + k);
+			if (expected.isOptimal()) {
+				assertEquals(expected.getObjective(), results.get(k).getObjective(), EPS, "model " + k);
+			}
+		}
+	}
+
+	@Test
+	void solveAsCompletedReturnsEveryModel() {
+		List<FunctionSystem> systems = systems(100);
+		Set<Integer> indices = new HashSet<>();
+		try (BatchSolver solver = BatchSolver.withVirtualThreads(BatchSolver.Solver.optimalInt(true))) {
+			solver.solveAsCompleted(systems).forEach(solved -> {
+				assertEquals(systems.get(solved.getIndex()), solved.getSystem());
+				indices.add(solved.getIndex());
+			});
+		}
+		assertEquals(systems.size(), indices.size());
+	}
+
+	@Test
+	void keepsOwnWorkspace() {
+		List<FunctionSystem> systems = systems(50);
+		Tableau own = new Tableau(0, 0);
+		systems.get(0).setWorkspace(own);
+		try (BatchSolver solver = BatchSolver.withPlatformThreads(2, BatchSolver.Solver.optimal(true, FunctionSystem.Mode.TABLEAU))) {
+			solver.solveAll(systems);
+			solver.solveAll(systems);
+		}
+		assertSame(own, systems.get(0).workspace);
+		assertEquals(0, own.rows());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.example.TestModels.EPS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+Тести двоїстої задачі (FunctionSystem.getDual, DualView): двоїста задача розв'язується на максимум, її оптимум дорівнює оптимуму прямої задачі на мінімум і протилежний оптимуму прямої задачі на максимум, її змінні - двоїсті оцінки прямої задачі, а розв'язання двоїстої задачі не змінює пряму.
+*/
+
+class DualViewTest {
+	@Test
+	void dualOfMaximizationHasEqualOptimum() {
+		FunctionSystem primal = TestModels.production();
+		SolveResult dual = primal.getDual(true).getOptimal(true);
+		assertEquals(-36, dual.getObjective(), EPS);
+		assertArrayEquals(new double[]{0, 1.5, 1}, Arrays.copyOf(dual.getValues(), 3), EPS);
+	}
+
+	@Test
+	void dualOfMinimizationHasEqualOptimum() {
+		FunctionSystem primal = TestModels.diet();
+		SolveResult dual = primal.getDual(false).getOptimal(true);
+		assertEquals(9, dual.getObjective(), EPS);
+		assertArrayEquals(new double[]{1.5, 0.5}, Arrays.copyOf(dual.getValues(), 2), EPS);
+	}
+
+	@Test
+	void dualMatchesPrimalOnRandomModels() {
+		for (int seed = 0; seed < 200; seed++) {
+			boolean max = seed % 2 == 0;
+			FunctionSystem primal = TestModels.random(seed, 2 + seed % 6, 2 + seed % 5, 0.7);
+			FunctionSystem dual = primal.getDual(max);
+			SolveResult dualResult = dual.getOptimal(true);
+			SolveResult primalResult = primal.getOptimal(max);
+			if (primalResult.isOptimal()) {
+				assertEquals(SolveStatus.OPTIMAL, dualResult.getStatus(), "seed " + seed);
+				double objective = max ? -primalResult.getObjective() : primalResult.getObjective();
+				assertEquals(objective, dualResult.getObjective(), EPS, "seed " + seed);
+			} else if (primalResult.getStatus() == SolveStatus.UNBOUNDED) {
+				assertEquals(SolveStatus.INFEASIBLE, dualResult.getStatus(), "seed " + seed);
+			}
+		}
+	}
+
+	@Test
+	void solvingDualKeepsPrimal() {
+		FunctionSystem primal = TestModels.production();
+		primal.getDual(true).getOptimal(true);
+		SolveResult result = primal.getOptimal(true);
+		assertEquals(36, result.getObjective(), EPS);
+		assertArrayEquals(new double[]{2, 6}, Arrays.copyOf(result.getValues(), 2), EPS);
+	}
+}
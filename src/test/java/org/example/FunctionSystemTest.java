@@ -0,0 +1,167 @@
+package org.example;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.example.TestModels.EPS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+Тести режимів розв'язання FunctionSystem (TABLEAU, REVISED, SPARSE, DUAL): значення цільової функції, змінних та двоїстих оцінок на задачах з відомим розв'язком, статуси недопустимих і необмежених задач, збіг режимів на випадкових задачах та повторне розв'язання після зміни задачі (resolve), незалежність копій системи та таблиці (copy-on-write), повторне використання розрідженої матриці моделі.
+*/
+
+class FunctionSystemTest {
+	@ParameterizedTest
+	@EnumSource(FunctionSystem.Mode.class)
+	void solvesProduction(FunctionSystem.Mode mode) {
+		SolveResult result = TestModels.production().getOptimal(true, mode);
+		assertEquals(SolveStatus.OPTIMAL, result.getStatus());
+		assertEquals(36, result.getObjective(), EPS);
+		assertArrayEquals(new double[]{2, 6}, Arrays.copyOf(result.getValues(), 2), EPS);
+		assertArrayEquals(new double[]{0, 1.5, 1}, result.getDuals(), EPS);
+	}
+
+	@ParameterizedTest
+	@EnumSource(FunctionSystem.Mode.class)
+	void solvesDiet(FunctionSystem.Mode mode) {
+		SolveResult result = TestModels.diet().getOptimal(false, mode);
+		assertEquals(SolveStatus.OPTIMAL, result.getStatus());
+		assertEquals(9, result.getObjective(), EPS);
+		assertArrayEquals(new double[]{3, 1}, Arrays.copyOf(result.getValues(), 2), EPS);
+		assertArrayEquals(new double[]{1.5, 0.5}, result.getDuals(), EPS);
+	}
+
+	@ParameterizedTest
+	@EnumSource(FunctionSystem.Mode.class)
+	void detectsInfeasible(FunctionSystem.Mode mode) {
+		FunctionSystem system = new FunctionSystem(new Function(new Double[]{1.0, 1.0}));
+		system.addFunction(new Function(new Double[]{1.0, 1.0}, 1, Function.Sign.LESS));
+		system.addFunction(new Function(new Double[]{1.0, 0.0}, 2, Function.Sign.GREATER));
+		assertEquals(SolveStatus.INFEASIBLE, system.getOptimal(true, mode).getStatus());
+	}
+
+	@ParameterizedTest
+	@EnumSource(FunctionSystem.Mode.class)
+	void detectsUnbounded(FunctionSystem.Mode mode) {
+		FunctionSystem system = new FunctionSystem(new Function(new Double[]{1.0, 0.0}));
+		system.addFunction(new Function(new Double[]{1.0, -1.0}, 1, Function.Sign.LESS));
+		assertEquals(SolveStatus.UNBOUNDED, system.getOptimal(true, mode).getStatus());
+	}
+
+	// усі режими збігаються з TABLEAU, а оптимальні розв'язки допустимі та задовольняють сильну двоїстість
+	@Test
+	void modesAgreeOnRandomModels() {
+		for (int seed = 0; seed < 300; seed++) {
+			boolean max = seed % 2 == 0;
+			FunctionSystem reference = TestModels.random(seed, 2 + seed % 9, 2 + seed % 7, 0.6);
+			SolveResult expected = reference.getOptimal(max, FunctionSystem.Mode.TABLEAU);
+			for (FunctionSystem.Mode mode : FunctionSystem.Mode.values()) {
+				FunctionSystem system = TestModels.random(seed, 2 + seed % 9, 2 + seed % 7, 0.6);
+				SolveResult result = system.getOptimal(max, mode);
+				String message = "seed " + seed + ", " + mode;
+				assertEquals(expected.getStatus(), result.getStatus(), message);
+				if (!result.isOptimal()) {
+					continue;
+				}
+				assertEquals(expected.getObjective(), result.getObjective(), EPS, message);
+				LinearModel model = LinearModel.of(system, max);
+				assertTrue(TestModels.isFeasible(model, result.getValues(), EPS), message);
+				double dualObjective = 0;
+				for (int i = 0; i < model.getRows(); i++) {
+					dualObjective += model.getValue(i) * result.getDuals()[i];
+				}
+				assertEquals(result.getObjective(), dualObjective, EPS, message);
+			}
+		}
+	}
+
+	@Test
+	void resolveMatchesColdSolve() {
+		FunctionSystem warm = TestModels.production();
+		warm.getOptimal(true);
+		warm.addFunction(new Function(new Double[]{1.0, 1.0}, 7, Function.Sign.LESS));
+		SolveResult resolved = warm.resolve();
+
+		FunctionSystem cold = TestModels.production();
+		cold.addFunction(new Function(new Double[]{1.0, 1.0}, 7, Function.Sign.LESS));
+		SolveResult expected = cold.getOptimal(true);
+
+		assertEquals(expected.getObjective(), resolved.getObjective(), EPS);
+		assertArrayEquals(expected.getDuals(), resolved.getDuals(), EPS);
+
+		warm.setValue(3, 6);
+		cold.setValue(3, 6);
+		assertEquals(cold.getOptimal(true).getObjective(), warm.resolve().getObjective(), EPS);
+	}
+
+	@Test
+	void copyDoesNotChangeOriginal() {
+		FunctionSystem original = TestModels.production();
+		original.getOptimal(true);
+		FunctionSystem copy = new FunctionSystem(original);
+		copy.setValue(2, 30);
+		copy.setObjectiveCoefficient(0, 10);
+		copy.addFunction(new Function(new Double[]{1.0, 1.0}, 5, Function.Sign.LESS));
+		copy.resolve();
+
+		SolveResult result = original.resolve();
+		assertEquals(36, result.getObjective(), EPS);
+		assertArrayEquals(new double[]{0, 1.5, 1}, result.getDuals(), EPS);
+	}
+
+	@Test
+	void sharedFunctionIsNotChangedInPlace() {
+		FunctionSystem original = TestModels.production();
+		Function function = original.functions.get(0);
+		int size = function.coefficients.size();
+		FunctionSystem copy = new FunctionSystem(original);
+		assertThrows(IllegalStateException.class, () -> function.multiply(2));
+		assertThrows(IllegalStateException.class, () -> function.add(function, 1));
+
+		copy.addFunction(function);
+		assertEquals(size, function.coefficients.size());
+		assertEquals(36, original.getOptimal(true).getObjective(), EPS);
+	}
+
+	@Test
+	void tableauCopySharesStorageUntilWrite() {
+		Tableau original = new Tableau(2, 2);
+		original.set(0, 0, 1);
+		original.set(1, 1, 2);
+		Tableau copy = new Tableau(original);
+		Tableau second = new Tableau(copy);
+		assertEquals(2, copy.get(1, 1));
+
+		copy.set(0, 0, 5);
+		original.toOne(1, 1);
+		second.addRow();
+		assertEquals(1, original.get(0, 0));
+		assertEquals(1, original.get(1, 1));
+		assertEquals(5, copy.get(0, 0));
+		assertEquals(2, copy.get(1, 1));
+		assertEquals(1, second.get(0, 0));
+		assertEquals(2, second.get(1, 1));
+		assertEquals(3, second.rows());
+	}
+
+	@Test
+	void sparseModelIsRebuiltOnlyAfterChange() {
+		FunctionSystem system = TestModels.production();
+		SparseMatrix model = system.sparseModel();
+		assertEquals(model, system.sparseModel());
+		assertEquals(model, new FunctionSystem(system).sparseModel());
+
+		system.setValue(2, 30);
+		SparseMatrix changed = system.sparseModel();
+		assertTrue(model != changed);
+		assertEquals(30, changed.getValue(2));
+		double expected = new FunctionSystem(system).getOptimal(true, FunctionSystem.Mode.TABLEAU).getObjective();
+		assertEquals(expected, system.getOptimal(true, FunctionSystem.Mode.SPARSE).getObjective(), EPS);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Arrays;
+
+import static org.example.TestModels.EPS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+Тести цілочислових методів: відсічення Гоморі (getOptimalInt, зокрема точний режим setExact) та метод гілок і меж (BranchAndBound) з відсіченнями в корені та кількома потоками: збіг правил вибору вузлів і кількості потоків, зупинка всіх потоків за setNodeLimit.
+*/
+
+class IntegerTest {
+	@Test
+	void gomoryCuts() {
+		SolveResult result = TestModels.integer().getOptimalInt(true);
+		assertEquals(SolveStatus.OPTIMAL, result.getStatus());
+		assertEquals(40, result.getObjective(), EPS);
+		assertArrayEquals(new double[]{0, 5}, Arrays.copyOf(result.getValues(), 2), EPS);
+	}
+
+	@Test
+	void exactGomoryCuts() {
+		FunctionSystem system = TestModels.integer();
+		system.setExact(true);
+		assertEquals(40, system.getOptimalInt(true).getObjective(), EPS);
+	}
+
+	@Test
+	void branchAndBound() {
+		for (int threads : new int[]{1, 3}) {
+			for (int rootCuts : new int[]{0, 4}) {
+				BranchAndBound solver = new BranchAndBound(TestModels.integer());
+				solver.setThreads(threads);
+				solver.setRootCuts(rootCuts);
+				SolveResult result = solver.solve(true);
+				assertEquals(SolveStatus.OPTIMAL, result.getStatus());
+				assertEquals(40, result.getObjective(), EPS);
+				assertArrayEquals(new double[]{0, 5}, Arrays.copyOf(result.getValues(), 2), EPS);
+			}
+		}
+	}
+
+	@Test
+	void methodsAgreeOnRandomModels() {
+		for (int seed = 0; seed < 100; seed++) {
+			FunctionSystem system = TestModels.random(seed, 2 + seed % 4, 2 + seed % 3, 0.8);
+			SolveResult expected = new BranchAndBound(system).solve(true);
+			BranchAndBound withCuts = new BranchAndBound(system);
+			withCuts.setRootCuts(3);
+			withCuts.setThreads(2);
+			SolveResult result = withCuts.solve(true);
+			assertEquals(expected.getStatus(), result.getStatus(), "seed " + seed);
+			if (expected.isOptimal()) {
+				assertEquals(expected.getObjective(), result.getObjective(), EPS, "seed " + seed);
+			}
+		}
+	}
+
+	@Test
+	void integralRowWithFractionalValueIsInfeasible() {
+		FunctionSystem system = new FunctionSystem(new Function(new Double[]{1.0, 1.0}));
+		system.addFunction(new Function(new Double[]{2.0, 2.0}, 3, Function.Sign.EQUAL));
+		assertEquals(SolveStatus.INFEASIBLE, system.getOptimalInt(true).getStatus());
+		assertEquals(SolveStatus.INFEASIBLE, new BranchAndBound(system).solve(true).getStatus());
+	}
+
+	@Test
+	void nodeSelectionsAndThreadsAgree() {
+		for (int seed = 0; seed < 40; seed++) {
+			FunctionSystem system = TestModels.random(seed, 4 + seed % 5, 4 + seed % 4, 0.7);
+			SolveResult expected = new BranchAndBound(system).solve(seed % 2 == 0);
+			for (BranchAndBound.NodeSelection selection : BranchAndBound.NodeSelection.values()) {
+				for (int threads : new int[]{1, 4}) {
+					BranchAndBound solver = new BranchAndBound(system);
+					solver.setNodeSelection(selection);
+					solver.setThreads(threads);
+					SolveResult result = solver.solve(seed % 2 == 0);
+					assertEquals(expected.getStatus(), result.getStatus(), "seed " + seed);
+					if (expected.isOptimal()) {
+						assertEquals(expected.getObjective(), result.getObjective(), EPS, "seed " + seed);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	@Timeout(10)
+	void nodeLimitStopsWaitingThreads() {
+		BranchAndBound solver = new BranchAndBound(TestModels.integer());
+		solver.setThreads(4);
+		solver.setNodeLimit(1);
+		assertEquals(SolveStatus.ITERATION_LIMIT, solver.solve(true).getStatus());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import static org.example.TestModels.EPS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+Тести формату CPLEX LP (LpFormat): модель після запису та читання (у пам'яті й через файл) збігається з початковою, а розділ Bounds та сталу цільової функції прочитано правильно.
+*/
+
+class LpFormatTest {
+	static LinearModel read(String text) throws IOException {
+		return LpFormat.read(new BufferedReader(new StringReader(text)));
+	}
+
+	@Test
+	void roundTripKeepsModel() throws IOException {
+		for (int seed = 0; seed < 50; seed++) {
+			boolean max = seed % 2 == 1;
+			LinearModel model = LinearModel.of(TestModels.random(seed, 2 + seed % 6, 2 + seed % 5, 0.6), max);
+			StringWriter writer = new StringWriter();
+			LpFormat.write(model, writer);
+			LinearModel copy = read(writer.toString());
+			TestModels.assertSameModel(model, copy);
+			SolveResult expected = model.solve();
+			SolveResult result = copy.solve();
+			assertEquals(expected.getStatus(), result.getStatus(), "seed " + seed);
+			if (expected.isOptimal()) {
+				assertEquals(expected.getObjective(), result.getObjective(), EPS, "seed " + seed);
+			}
+		}
+	}
+
+	@Test
+	void roundTripThroughFile(@TempDir Path directory) throws IOException {
+		LinearModel model = LinearModel.of(TestModels.diet(), false);
+		Path path = directory.resolve("diet.lp");
+		LpFormat.write(model, path);
+		LinearModel copy = LpFormat.read(path);
+		TestModels.assertSameModel(model, copy);
+		assertEquals(9, copy.solve().getObjective(), EPS);
+	}
+
+	@Test
+	void readsBoundsAndConstant() throws IOException {
+		LinearModel model = read("""
+				\\ коментар
+				Maximize
+				 obj: x + 2 y + 3
+				Subject To
+				 lim: x + y <= 10
+				Bounds
+				 2 <= x
+				 y <= 5
+				End
+				""");
+		SolveResult result = model.solve();
+		assertEquals(SolveStatus.OPTIMAL, result.getStatus());
+		assertEquals(18, result.getObjective(), EPS);
+		assertEquals(5, result.getValue(0), EPS);
+		assertEquals(5, result.getValue(1), EPS);
+	}
+}
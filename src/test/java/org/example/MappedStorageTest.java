@@ -0,0 +1,56 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.example.TestModels.EPS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+Тести пам'яті таблиці у файлі (MappedStorage): копія містить ті самі значення й не залежить від початкової пам'яті, файли закриваються (повторне close допустиме), а задача з такою робочою таблицею розв'язується так само, як з таблицею в купі.
+*/
+
+class MappedStorageTest {
+	@Test
+	void copyIsIndependent(@TempDir Path directory) throws IOException {
+		try (MappedStorage storage = new MappedStorage(directory)) {
+			storage.ensureCapacity(100);
+			for (int k = 0; k < 100; k++) {
+				storage.set(k, k * 0.5);
+			}
+			try (TableauStorage copy = storage.copy(100)) {
+				storage.set(7, -1);
+				assertEquals(3.5, copy.get(7));
+				assertEquals(49.5, copy.get(99));
+			}
+			storage.close();
+		}
+		try (var files = Files.list(directory)) {
+			assertTrue(files.findAny().isEmpty());
+		}
+	}
+
+	@Test
+	void solvesWithMappedWorkspace(@TempDir Path directory) throws IOException {
+		try (MappedStorage storage = new MappedStorage(directory)) {
+			FunctionSystem system = TestModels.production();
+			system.setWorkspace(new Tableau(0, 0, storage));
+			SolveResult result = system.getOptimal(true);
+			assertEquals(36, result.getObjective(), EPS);
+			assertArrayEquals(new double[]{2, 6}, Arrays.copyOf(result.getValues(), 2), EPS);
+
+			// копія задачі копіює і робочу таблицю
+			FunctionSystem copy = new FunctionSystem(system);
+			copy.addFunction(new Function(new Double[]{1.0, 1.0}, 7, Function.Sign.LESS));
+			assertEquals(TestModels.production().getOptimal(true).getObjective(), system.resolve().getObjective(), EPS);
+			assertEquals(33, copy.resolve().getObjective(), EPS);
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import static org.example.TestModels.EPS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/*
+Тести формату MPS (MpsFormat): модель після запису та читання (у пам'яті й через файл) збігається з початковою, а розділи RHS, RANGES та BOUNDS читаються в обмеження з очікуваним оптимумом. Межі BV, PL, MI та FR читаються з назвою набору меж і без неї, зі значенням і без нього.
+*/
+
+class MpsFormatTest {
+	static LinearModel read(String text) throws IOException {
+		return MpsFormat.read(new BufferedReader(new StringReader(text)));
+	}
+
+	static LinearModel roundTrip(LinearModel model) throws IOException {
+		StringWriter writer = new StringWriter();
+		MpsFormat.write(model, writer);
+		return read(writer.toString());
+	}
+
+	@Test
+	void roundTripKeepsModel() throws IOException {
+		for (int seed = 0; seed < 50; seed++) {
+			boolean max = seed % 2 == 0;
+			LinearModel model = LinearModel.of(TestModels.random(seed, 2 + seed % 6, 2 + seed % 5, 0.6), max);
+			LinearModel copy = roundTrip(model);
+			TestModels.assertSameModel(model, copy);
+			SolveResult expected = model.solve();
+			SolveResult result = copy.solve();
+			assertEquals(expected.getStatus(), result.getStatus(), "seed " + seed);
+			if (expected.isOptimal()) {
+				assertEquals(expected.getObjective(), result.getObjective(), EPS, "seed " + seed);
+			}
+		}
+	}
+
+	@Test
+	void roundTripThroughFile(@TempDir Path directory) throws IOException {
+		LinearModel model = LinearModel.of(TestModels.production(), true);
+		Path path = directory.resolve("production.mps");
+		MpsFormat.write(model, path);
+		LinearModel copy = MpsFormat.read(path);
+		TestModels.assertSameModel(model, copy);
+		assertEquals(36, copy.solve().getObjective(), EPS);
+	}
+
+	@Test
+	void readsRangesAndBounds() throws IOException {
+		LinearModel model = read("""
+				NAME test
+				OBJSENSE
+				    MAX
+				ROWS
+				 N cost
+				 L lim
+				 G low
+				COLUMNS
+				 x cost 1 lim 1
+				 x low 1
+				 y cost 2 lim 1
+				RHS
+				 RHS lim 10 low 1
+				 RHS cost -3
+				RANGES
+				 RNG lim 4
+				BOUNDS
+				 UP BND y 5
+				 LO BND x 2
+				ENDATA
+				""");
+		SolveResult result = model.solve();
+		assertEquals(SolveStatus.OPTIMAL, result.getStatus());
+		// x + y <= 10 (проміжок [6, 10]), y <= 5, x >= 2: оптимум x = 5, y = 5 та стала 3
+		assertEquals(18, result.getObjective(), EPS);
+		assertEquals(5, result.getValue(0), EPS);
+		assertEquals(5, result.getValue(1), EPS);
+	}
+
+	@Test
+	void reportsLineOfError() {
+		IOException e = assertThrows(IOException.class, () -> read("""
+				ROWS
+				 N cost
+				 L lim
+				COLUMNS
+				 x lim 1 missing 2
+				ENDATA
+				"""));
+		assertEquals("Line 5: Unknown row missing", e.getMessage());
+	}
+
+	private static LinearModel readBound(String bound) throws IOException {
+		return read("""
+				ROWS
+				 N cost
+				 L lim
+				COLUMNS
+				 x cost 2 lim 1
+				 y cost 1 lim 1
+				RHS
+				 RHS lim 10
+				BOUNDS
+				""" + bound + """
+
+				ENDATA
+				""");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {" BV BND x", " BV x", " BV BND x 1", " BV x 1"})
+	void readsBinaryBound(String bound) throws IOException {
+		LinearModel model = readBound(bound);
+		assertEquals("x.up", model.getRowName(1));
+		assertEquals(1, model.getValue(1), EPS);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {" PL BND x", " PL x", " PL BND x 0", " PL x 0"})
+	void readsPlusInfinityBound(String bound) throws IOException {
+		assertEquals(1, readBound(bound).getRows());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {" MI BND x", " MI x", " FR BND x", " FR x", " MI BND x 0", " FR x 0"})
+	void rejectsFreeBound(String bound) {
+		IOException e = assertThrows(IOException.class, () -> readBound(bound));
+		assertEquals("Line 10: Free column x is not supported", e.getMessage());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import static org.example.TestModels.EPS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+Тести попередньої обробки (Presolve): розв'язок, відновлений після спрощення (postsolve), задовольняє початкову модель і має той самий оптимум, а двоїсті оцінки задовольняють сильну двоїстість.
+*/
+
+class PresolveTest {
+	@Test
+	void reductionsKeepOptimum() {
+		FunctionSystem system = new FunctionSystem(new Function(new Double[]{2.0, 3.0, 1.0, -1.0}));
+		// рядок з однією змінною, дублікат, зайвий рядок та порожній стовпець x4
+		system.addFunction(new Function(new Double[]{2.0, 0.0, 0.0, 0.0}, 4, Function.Sign.EQUAL));
+		system.addFunction(new Function(new Double[]{1.0, 1.0, 1.0, 0.0}, 10, Function.Sign.LESS));
+		system.addFunction(new Function(new Double[]{2.0, 2.0, 2.0, 0.0}, 24, Function.Sign.LESS));
+		system.addFunction(new Function(new Double[]{-1.0, -1.0, 0.0, 0.0}, 5, Function.Sign.LESS));
+		system.addFunction(new Function(new Double[]{0.0, 1.0, 2.0, 0.0}, 12, Function.Sign.LESS));
+		assertPresolveMatches(system, true);
+	}
+
+	@Test
+	void randomModels() {
+		for (int seed = 0; seed < 200; seed++) {
+			assertPresolveMatches(TestModels.random(seed, 2 + seed % 8, 2 + seed % 6, 0.5), seed % 2 == 0);
+		}
+	}
+
+	private static void assertPresolveMatches(FunctionSystem system, boolean max) {
+		LinearModel model = LinearModel.of(system, max);
+		SolveResult expected = new FunctionSystem(system).getOptimal(max);
+		FunctionSystem presolved = new FunctionSystem(system);
+		presolved.setPresolve(true);
+		SolveResult result = presolved.getOptimal(max);
+
+		assertEquals(expected.getStatus(), result.getStatus());
+		if (!result.isOptimal()) {
+			return;
+		}
+		assertEquals(expected.getObjective(), result.getObjective(), EPS);
+		assertTrue(TestModels.isFeasible(model, result.getValues(), EPS));
+		double dualObjective = 0;
+		for (int i = 0; i < model.getRows(); i++) {
+			dualObjective += model.getValue(i) * result.getDuals()[i];
+		}
+		assertEquals(result.getObjective(), dualObjective, EPS);
+	}
+}
@@ -0,0 +1,42 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import static org.example.TestModels.EPS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+Тести аналізу чутливості (Sensitivity) на задачі production: межі вільних членів обмежень та коефіцієнтів цільової функції, у яких оптимальний базис не змінюється.
+*/
+
+class SensitivityTest {
+	@Test
+	void rangesOfProduction() {
+		FunctionSystem system = TestModels.production();
+		system.getOptimal(true);
+		Sensitivity sensitivity = system.getSensitivity();
+
+		assertEquals(1.5, sensitivity.getDual(1), EPS);
+		assertEquals(2, sensitivity.getRhsLower(0), EPS);
+		assertEquals(Double.POSITIVE_INFINITY, sensitivity.getRhsUpper(0));
+		assertEquals(6, sensitivity.getRhsLower(1), EPS);
+		assertEquals(18, sensitivity.getRhsUpper(1), EPS);
+		assertEquals(12, sensitivity.getRhsLower(2), EPS);
+		assertEquals(24, sensitivity.getRhsUpper(2), EPS);
+
+		assertEquals(0, sensitivity.getCostLower(0), EPS);
+		assertEquals(7.5, sensitivity.getCostUpper(0), EPS);
+		assertEquals(2, sensitivity.getCostLower(1), EPS);
+		assertEquals(Double.POSITIVE_INFINITY, sensitivity.getCostUpper(1));
+	}
+
+	// у межах проміжку вільного члена оптимум змінюється лінійно з нахилом, що дорівнює двоїстій оцінці
+	@Test
+	void dualIsSlopeInsideRange() {
+		FunctionSystem system = TestModels.production();
+		system.setValue(2, 20);
+		assertEquals(36 + 2 * 1.0, system.getOptimal(true).getObjective(), EPS);
+		system.setValue(1, 14);
+		assertEquals(38 + 2 * 1.5, system.getOptimal(true).getObjective(), EPS);
+	}
+}
@@ -0,0 +1,72 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+Тести розрідженого списку коефіцієнтів (SparseCoefficients): випадкові вставки, видалення, записи та доповнення нулями дають той самий список, що й ArrayList, а ненульові елементи обходяться за зростанням номера.
+*/
+
+class SparseCoefficientsTest {
+	@Test
+	void behavesLikeArrayList() {
+		Random random = new Random(7);
+		List<Double> expected = new ArrayList<>(List.of(0.0, 2.0, 0.0, -1.0));
+		SparseCoefficients actual = new SparseCoefficients(expected);
+		for (int step = 0; step < 2000; step++) {
+			double value = random.nextInt(3) == 0 ? random.nextInt(5) - 2 : 0.0;
+			int size = expected.size();
+			switch (random.nextInt(5)) {
+				case 0 -> {
+					expected.add(value);
+					actual.add(value);
+				}
+				case 1 -> {
+					int index = random.nextInt(size + 1);
+					expected.add(index, value);
+					actual.add(index, value);
+				}
+				case 2 -> {
+					if (size > 0) {
+						int index = random.nextInt(size);
+						assertEquals(expected.remove(index), actual.remove(index));
+					}
+				}
+				case 3 -> {
+					if (size > 0) {
+						int index = random.nextInt(size);
+						assertEquals(expected.set(index, value), actual.set(index, value));
+					}
+				}
+				default -> {
+					int newSize = size + random.nextInt(3);
+					while (expected.size() < newSize) {
+						expected.add(0.0);
+					}
+					actual.resize(newSize);
+				}
+			}
+			assertEquals(expected, actual);
+		}
+		for (int k = 1; k < actual.nonZeros(); k++) {
+			assertEquals(actual.value(k), expected.get(actual.index(k)));
+			assertEquals(true, actual.index(k - 1) < actual.index(k));
+		}
+	}
+
+	@Test
+	void addFunctionKeepsRowSparse() {
+		FunctionSystem system = TestModels.production();
+		system.addFunction(new Function(new Double[]{1.0}, 3, Function.Sign.LESS));
+		Function row = system.functions.get(system.functions.size() - 1);
+		SparseCoefficients coefficients = (SparseCoefficients) row.coefficients;
+		assertEquals(system.coefNum, coefficients.size());
+		assertEquals(2, coefficients.nonZeros());
+		assertEquals(SparseCoefficients.class, new Function(row).coefficients.getClass());
+	}
+}
\ No newline at end of file
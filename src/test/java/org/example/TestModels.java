@@ -0,0 +1,123 @@
+package org.example;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+Невеликі задачі з відомими розв'язками та генератор випадкових задач для тестів.
+
+production: max 3 x1 + 5 x2 при x1 <= 4, 2 x2 <= 12, 3 x1 + 2 x2 <= 18; оптимум 36 у точці (2, 6), двоїсті оцінки (0, 1.5, 1).
+diet: min 2 x1 + 3 x2 при x1 + x2 >= 4, x1 + 3 x2 >= 6; оптимум 9 у точці (3, 1), двоїсті оцінки (1.5, 0.5).
+integer: max 5 x1 + 8 x2 при x1 + x2 <= 6, 5 x1 + 9 x2 <= 45; оптимум задачі ЛП 41.25, цілочисловий оптимум 40 у точці (0, 5).
+random: Задача з цілими коефіцієнтами (ціни ненульові), нерівностями обох знаків та рівностями; може бути недопустимою чи необмеженою.
+assertSameModel: Порівнює назви, знаки, вільні члени, ціни та коефіцієнти двох моделей (наприклад, до запису у файл і після читання).
+*/
+
+final class TestModels {
+	static final double EPS = 1e-7;
+
+	private TestModels() {
+	}
+
+	static FunctionSystem production() {
+		FunctionSystem system = new FunctionSystem(new Function(new Double[]{3.0, 5.0}));
+		system.addFunction(new Function(new Double[]{1.0, 0.0}, 4, Function.Sign.LESS));
+		system.addFunction(new Function(new Double[]{0.0, 2.0}, 12, Function.Sign.LESS));
+		system.addFunction(new Function(new Double[]{3.0, 2.0}, 18, Function.Sign.LESS));
+		return system;
+	}
+
+	static FunctionSystem diet() {
+		FunctionSystem system = new FunctionSystem(new Function(new Double[]{2.0, 3.0}));
+		system.addFunction(new Function(new Double[]{1.0, 1.0}, 4, Function.Sign.GREATER));
+		system.addFunction(new Function(new Double[]{1.0, 3.0}, 6, Function.Sign.GREATER));
+		return system;
+	}
+
+	static FunctionSystem integer() {
+		FunctionSystem system = new FunctionSystem(new Function(new Double[]{5.0, 8.0}));
+		system.addFunction(new Function(new Double[]{1.0, 1.0}, 6, Function.Sign.LESS));
+		system.addFunction(new Function(new Double[]{5.0, 9.0}, 45, Function.Sign.LESS));
+		return system;
+	}
+
+	static FunctionSystem random(long seed, int rows, int variables, double density) {
+		Random random = new Random(seed);
+		Double[] cost = new Double[variables];
+		for (int j = 0; j < variables; j++) {
+			// ненульова ціна: порожній стовпець з нульовою ціною не записується у файл MPS чи LP
+			int value = random.nextInt(20) - 5;
+			cost[j] = (double) (value >= 0 ? value + 1 : value);
+		}
+		FunctionSystem system = new FunctionSystem(new Function(cost));
+		for (int i = 0; i < rows; i++) {
+			Double[] coefficients = new Double[variables];
+			for (int j = 0; j < variables; j++) {
+				coefficients[j] = random.nextDouble() < density ? (double) (random.nextInt(11) - 2) : 0.0;
+			}
+			int kind = random.nextInt(10);
+			Function.Sign sign = kind < 7 ? Function.Sign.LESS : kind < 9 ? Function.Sign.GREATER : Function.Sign.EQUAL;
+			system.addFunction(new Function(coefficients, random.nextInt(50) - (sign == Function.Sign.LESS ? 5 : 20), sign));
+		}
+		return system;
+	}
+
+	// перевіряє невід'ємність змінних та обмеження моделі в точці x
+	static boolean isFeasible(LinearModel model, double[] x, double tolerance) {
+		int[] indices = new int[model.getVariables()];
+		double[] coefficients = new double[model.getVariables()];
+		for (int j = 0; j < model.getVariables(); j++) {
+			if (x[j] < -tolerance) {
+				return false;
+			}
+		}
+		for (int i = 0; i < model.getRows(); i++) {
+			int count = model.getCoefficients(i, indices, coefficients);
+			double sum = 0;
+			for (int k = 0; k < count; k++) {
+				sum += coefficients[k] * x[indices[k]];
+			}
+			double value = model.getValue(i);
+			boolean satisfied = switch (model.getSign(i)) {
+				case LESS -> sum <= value + tolerance;
+				case GREATER -> sum >= value - tolerance;
+				case EQUAL -> Math.abs(sum - value) <= tolerance;
+			};
+			if (!satisfied) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static void assertSameModel(LinearModel expected, LinearModel actual) {
+		assertEquals(expected.isMax(), actual.isMax());
+		assertEquals(expected.getVariables(), actual.getVariables());
+		assertEquals(expected.getRows(), actual.getRows());
+		assertEquals(expected.getOffset(), actual.getOffset(), EPS);
+		for (int j = 0; j < expected.getVariables(); j++) {
+			assertEquals(expected.getColumnName(j), actual.getColumnName(j));
+			assertEquals(expected.getCost(j), actual.getCost(j), EPS);
+		}
+		int[] indices = new int[expected.getVariables()];
+		double[] coefficients = new double[expected.getVariables()];
+		for (int i = 0; i < expected.getRows(); i++) {
+			assertEquals(expected.getRowName(i), actual.getRowName(i));
+			assertEquals(expected.getSign(i), actual.getSign(i));
+			assertEquals(expected.getValue(i), actual.getValue(i), EPS);
+			double[] first = new double[expected.getVariables()];
+			int count = expected.getCoefficients(i, indices, coefficients);
+			for (int k = 0; k < count; k++) {
+				first[indices[k]] = coefficients[k];
+			}
+			double[] second = new double[expected.getVariables()];
+			count = actual.getCoefficients(i, indices, coefficients);
+			for (int k = 0; k < count; k++) {
+				second[indices[k]] = coefficients[k];
+			}
+			assertArrayEquals(first, second, EPS, expected.getRowName(i));
+		}
+	}
+}
\ No newline at end of file
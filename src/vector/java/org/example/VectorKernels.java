@@ -0,0 +1,61 @@
+package org.example;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/*
+У цьому класі реалізовано обчислювальні ядра (ArrayKernels) на інкубаторному Vector API: відрізок обробляється векторами найбільшої довжини, яку підтримує процесор (SPECIES_PREFERRED, наприклад 4 числа для AVX2), а залишок - звичайним циклом.
+
+Клас компілюється лише з профілем Maven vector (каталог src/vector/java) і потребує запуску JVM з --add-modules jdk.incubator.vector.
+
+axpy та scale обчислюють кожен елемент так само, як ScalarKernels (множення, потім додавання, без FMA), тому результат збігається до біта. dot накопичує добутки окремо в кожній смузі вектора і додає смуги в кінці.
+*/
+
+final class VectorKernels implements ArrayKernels {
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+	@Override
+	public String name() {
+		return "vector" + SPECIES.length();
+	}
+
+	@Override
+	public void axpy(double a, double[] x, int xOffset, double[] y, int yOffset, int length) {
+		int k = 0;
+		for (int bound = SPECIES.loopBound(length); k < bound; k += SPECIES.length()) {
+			DoubleVector xv = DoubleVector.fromArray(SPECIES, x, xOffset + k);
+			DoubleVector yv = DoubleVector.fromArray(SPECIES, y, yOffset + k);
+			yv.add(xv.mul(a)).intoArray(y, yOffset + k);
+		}
+		for (; k < length; k++) {
+			y[yOffset + k] += x[xOffset + k] * a;
+		}
+	}
+
+	@Override
+	public void scale(double a, double[] x, int offset, int length) {
+		int k = 0;
+		for (int bound = SPECIES.loopBound(length); k < bound; k += SPECIES.length()) {
+			DoubleVector.fromArray(SPECIES, x, offset + k).mul(a).intoArray(x, offset + k);
+		}
+		for (; k < length; k++) {
+			x[offset + k] *= a;
+		}
+	}
+
+	@Override
+	public double dot(double[] x, int xOffset, double[] y, int yOffset, int length) {
+		DoubleVector sum = DoubleVector.zero(SPECIES);
+		int k = 0;
+		for (int bound = SPECIES.loopBound(length); k < bound; k += SPECIES.length()) {
+			DoubleVector xv = DoubleVector.fromArray(SPECIES, x, xOffset + k);
+			sum = sum.add(xv.mul(DoubleVector.fromArray(SPECIES, y, yOffset + k)));
+		}
+		double result = sum.reduceLanes(VectorOperators.ADD);
+		for (; k < length; k++) {
+			result += x[xOffset + k] * y[yOffset + k];
+		}
+		return result;
+	}
+}
\ No newline at end of file